@@ -0,0 +1,70 @@
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara el arranque del lexico desde la lista de palabras en texto (lectura, plegado y construccion del
+ * {@link Dawg}) con la apertura del lexico compilado mapeado en memoria ({@link TrieLouds}), y el costo de
+ * las busquedas en cada uno. Tambien comprueba que ambos respondan igual.
+ * <p>
+ * Uso: {@code java BenchmarkArranqueLexico [lexico.txt]}
+ */
+public class BenchmarkArranqueLexico {
+
+    public static void main(String[] args) throws Exception {
+        List<String> palabras = PalabrasSinteticas.obtener(args, 500_000);
+        Path texto = Files.createTempFile("lexico", ".txt");
+        Path compilado = Files.createTempFile("lexico", ".bin");
+        try {
+            Files.write(texto, palabras);
+            long inicio = System.nanoTime();
+            CompiladorLexico.compilar(palabras, compilado);
+            System.out.printf("compilacion: %d ms, texto %d bytes, compilado %d bytes%n",
+                    (System.nanoTime() - inicio) / 1_000_000, Files.size(texto), Files.size(compilado));
+
+            Random random = new Random(11);
+            String[] consultas = new String[200_000];
+            for (int i = 0; i < consultas.length; i++) {
+                String palabra = Lexico.plegar(palabras.get(random.nextInt(palabras.size())));
+                consultas[i] = i % 2 == 0 ? palabra : palabra + "x";
+            }
+
+            for (int ronda = 0; ronda < 5; ronda++) {
+                inicio = System.nanoTime();
+                Lexico desdeTexto = Lexico.cargar(texto);
+                long nanosTexto = System.nanoTime() - inicio;
+
+                inicio = System.nanoTime();
+                Lexico desdeCompilado = Lexico.abrir(compilado);
+                long nanosCompilado = System.nanoTime() - inicio;
+
+                int diferencias = 0;
+                long nanosBusquedaTexto = 0;
+                long nanosBusquedaCompilado = 0;
+                for (String consulta : consultas) {
+                    long antes = System.nanoTime();
+                    boolean enTexto = desdeTexto.contiene(consulta);
+                    long medio = System.nanoTime();
+                    boolean enCompilado = desdeCompilado.contiene(consulta);
+                    nanosBusquedaCompilado += System.nanoTime() - medio;
+                    nanosBusquedaTexto += medio - antes;
+                    if (enTexto != enCompilado
+                            || !new HashSet<>(desdeTexto.getGrafias(consulta)).equals(new HashSet<>(desdeCompilado.getGrafias(consulta)))) {
+                        diferencias++;
+                    }
+                }
+
+                System.out.printf("ronda %d | arranque texto: %.1f ms, compilado: %.3f ms"
+                                + " | busqueda Dawg: %.0f ns, LOUDS: %.0f ns | diferencias: %d%n",
+                        ronda, nanosTexto / 1e6, nanosCompilado / 1e6,
+                        (double) nanosBusquedaTexto / consultas.length,
+                        (double) nanosBusquedaCompilado / consultas.length, diferencias);
+            }
+        } finally {
+            Files.deleteIfExists(texto);
+            Files.deleteIfExists(compilado);
+        }
+    }
+}
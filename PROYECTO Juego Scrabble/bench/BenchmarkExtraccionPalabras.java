@@ -0,0 +1,150 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara la extraccion de palabras de {@link PalabraExtractor#extraerPalabras}, en una pasada y sin
+ * crear objetos, con la extraccion anterior, que armaba una {@link Palabra} por cada ficha y orientacion
+ * (agregando las letras de arriba o de la izquierda al principio de una lista) y las juntaba en un
+ * {@link HashSet}.
+ * <p>
+ * Arma tableros con fichas al azar y, en cada uno, una jugada pendiente de 2 a 7 fichas seguidas en una
+ * fila o columna que empieza junto a una ficha del tablero. Mide el tiempo y los bytes reservados por
+ * extraccion (con {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes} del hilo actual) y
+ * comprueba que las dos formas encuentren la misma cantidad de palabras con el mismo puntaje.
+ * <p>
+ * Uso: {@code java BenchmarkExtraccionPalabras}
+ */
+public class BenchmarkExtraccionPalabras {
+
+    private static final com.sun.management.ThreadMXBean HILOS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final String[] LETRAS = {"A", "E", "O", "S", "R", "N", "L", "T", "CH", "LL"};
+
+    public static void main(String[] args) {
+        Random random = new Random(1);
+        ArrayList<Tablero> tableros = new ArrayList<>();
+        ArrayList<List<int[]>> jugadas = new ArrayList<>();
+        while (tableros.size() < 500) {
+            Tablero tablero = new Tablero();
+            tablero.colocarPrimeraFicha(ficha(random));
+            int fichas = 5 + random.nextInt(60);
+            for (int puestas = 1; puestas < fichas; ) {
+                if (tablero.colocarFicha(random.nextInt(15), random.nextInt(15), ficha(random))) {
+                    puestas++;
+                }
+            }
+            tablero.confirmarPendientes();
+            List<int[]> jugada = colocarJugada(tablero, random);
+            if (jugada.size() >= 2) {
+                tableros.add(tablero);
+                jugadas.add(jugada);
+            }
+        }
+
+        PalabraExtractor extractor = new PalabraExtractor();
+        int repeticiones = 200;
+        long extracciones = (long) repeticiones * tableros.size();
+        for (int ronda = 1; ronda <= 5; ronda++) {
+            long resultadoAntes = 0;
+            long reservadosAntes = reservados();
+            long inicio = System.nanoTime();
+            for (int r = 0; r < repeticiones; r++) {
+                for (int t = 0; t < tableros.size(); t++) {
+                    for (Palabra palabra : extraerComoAntes(jugadas.get(t), tableros.get(t))) {
+                        resultadoAntes += 1000 + palabra.getPuntaje();
+                    }
+                }
+            }
+            long medio = System.nanoTime();
+            long reservadosMedio = reservados();
+            long resultado = 0;
+            for (int r = 0; r < repeticiones; r++) {
+                for (int t = 0; t < tableros.size(); t++) {
+                    int cantidad = extractor.extraerPalabras(jugadas.get(t), tableros.get(t));
+                    for (int p = 0; p < cantidad; p++) {
+                        resultado += 1000 + extractor.getPuntajePalabra(p, tableros.get(t));
+                    }
+                }
+            }
+            long fin = System.nanoTime();
+            long reservadosFin = reservados();
+            System.out.printf("ronda %d: anterior %.0f ns / %.0f bytes, una pasada %.0f ns / %.1f bytes por extraccion%s%n",
+                    ronda, (double) (medio - inicio) / extracciones, (double) (reservadosMedio - reservadosAntes) / extracciones,
+                    (double) (fin - medio) / extracciones, (double) (reservadosFin - reservadosMedio) / extracciones,
+                    resultado == resultadoAntes ? "" : " (RESULTADOS DISTINTOS)");
+        }
+    }
+
+    /**
+     * Coloca como pendientes de 2 a 7 fichas seguidas, a la derecha o debajo de una ficha del tablero.
+     *
+     * @return las posiciones de las fichas colocadas.
+     */
+    private static List<int[]> colocarJugada(Tablero tablero, Random random) {
+        ArrayList<int[]> posiciones = new ArrayList<>();
+        int fila, columna;
+        do {
+            fila = random.nextInt(15);
+            columna = random.nextInt(15);
+        } while (!tablero.estaOcupada(fila, columna));
+        boolean vertical = random.nextBoolean();
+        int cantidad = 2 + random.nextInt(6);
+        while (posiciones.size() < cantidad) {
+            if (vertical) {
+                fila++;
+            } else {
+                columna++;
+            }
+            if (fila >= 15 || columna >= 15) {
+                break;
+            }
+            if (!tablero.estaOcupada(fila, columna) && tablero.colocarFicha(fila, columna, ficha(random))) {
+                posiciones.add(new int[]{fila, columna});
+            }
+        }
+        return posiciones;
+    }
+
+    /**
+     * Extrae las palabras como lo hacia {@link PalabraExtractor} antes de la extraccion en una pasada.
+     */
+    private static HashSet<Palabra> extraerComoAntes(List<int[]> posiciones, Tablero tablero) {
+        HashSet<Palabra> palabrasFormadas = new HashSet<>();
+        for (int[] indices : posiciones) {
+            Palabra palabraVertical = new Palabra(true, 0, indices[1]);
+            for (int i = indices[0]; i < tablero.getFilas() && tablero.estaOcupada(i, indices[1]); i++) {
+                palabraVertical.add(tablero.getFicha(i, indices[1]));
+            }
+            for (int x = indices[0] - 1; x >= 0 && tablero.estaOcupada(x, indices[1]); x--) {
+                palabraVertical.addFirst(tablero.getFicha(x, indices[1]));
+            }
+            Palabra palabraHorizontal = new Palabra(false, indices[0], 0);
+            for (int j = indices[1]; j < tablero.getColumnas() && tablero.estaOcupada(indices[0], j); j++) {
+                palabraHorizontal.add(tablero.getFicha(indices[0], j));
+            }
+            for (int y = indices[1] - 1; y >= 0 && tablero.estaOcupada(indices[0], y); y--) {
+                palabraHorizontal.addFirst(tablero.getFicha(indices[0], y));
+            }
+            if (palabraVertical.size() > 1) {
+                palabrasFormadas.add(new Palabra(palabraVertical));
+            }
+            if (palabraHorizontal.size() > 1) {
+                palabrasFormadas.add(new Palabra(palabraHorizontal));
+            }
+        }
+        return palabrasFormadas;
+    }
+
+    private static Ficha ficha(Random random) {
+        String letra = LETRAS[random.nextInt(LETRAS.length)];
+        return new Ficha(AlfabetoFichas.valor(AlfabetoFichas.codigo(letra)), letra);
+    }
+
+    private static long reservados() {
+        return HILOS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
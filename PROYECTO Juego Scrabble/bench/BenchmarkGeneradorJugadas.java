@@ -0,0 +1,141 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mide cuanto tarda {@link GeneradorJugadas} en generar todas las jugadas de un atril en un tablero de 15x15.
+ * <p>
+ * Juega partidas completas de la computadora contra si misma (siempre la jugada de mayor puntaje) y mide
+ * cada generacion. Ademas comprueba, fuera de la medicion, que la palabra principal y todas las palabras
+ * cruzadas de cada jugada generada esten en el lexico, usando el {@link Lexico} en lugar del GADDAG.
+ * <p>
+ * Uso: {@code java BenchmarkGeneradorJugadas [lexico.txt]}
+ */
+public class BenchmarkGeneradorJugadas {
+
+    public static void main(String[] args) throws Exception {
+        List<String> palabras = PalabrasSinteticas.obtener(args, 100_000);
+        long inicio = System.nanoTime();
+        Gaddag gaddag = Gaddag.construir(palabras);
+        System.out.printf("GADDAG: %d palabras, %d nodos, construido en %d ms%n",
+                gaddag.getCantidadPalabras(), gaddag.getCantidadNodos(), (System.nanoTime() - inicio) / 1_000_000);
+        Lexico lexico = Lexico.construir(palabras);
+        GeneradorJugadas generador = new GeneradorJugadas(gaddag);
+
+        ArrayList<Long> tiempos = new ArrayList<>();
+        long jugadasGeneradas = 0;
+        long jugadasInvalidas = 0;
+        for (int partida = 0; partida < 20; partida++) {
+            Random random = new Random(partida);
+            byte[][] casillas = new byte[15][15];
+            for (byte[] fila : casillas) {
+                Arrays.fill(fila, AlfabetoFichas.VACIA);
+            }
+            ArrayList<Byte> bolsa = new ArrayList<>();
+            for (byte codigo = 0; codigo < AlfabetoFichas.LETRAS.length; codigo++) {
+                for (int i = 0; i < AlfabetoFichas.CANTIDADES[codigo]; i++) {
+                    bolsa.add(codigo);
+                }
+            }
+            Collections.shuffle(bolsa, random);
+            int[][] atriles = new int[2][AlfabetoFichas.LETRAS.length];
+            int pasesSeguidos = 0;
+
+            for (int turno = 0; pasesSeguidos < 2; turno++) {
+                int[] atril = atriles[turno % 2];
+                while (Arrays.stream(atril).sum() < 7 && !bolsa.isEmpty()) {
+                    atril[bolsa.removeLast()]++;
+                }
+
+                long antes = System.nanoTime();
+                ArrayList<Jugada> jugadas = generador.generar(casillas, atril);
+                tiempos.add(System.nanoTime() - antes);
+                jugadasGeneradas += jugadas.size();
+
+                Jugada mejor = null;
+                for (Jugada jugada : jugadas) {
+                    if (!esValida(jugada, casillas, lexico)) {
+                        jugadasInvalidas++;
+                    }
+                    if (mejor == null || jugada.puntaje() > mejor.puntaje()) {
+                        mejor = jugada;
+                    }
+                }
+                if (mejor == null) {
+                    pasesSeguidos++;
+                    continue;
+                }
+                pasesSeguidos = 0;
+                for (int i = 0; i < mejor.codigos().length; i++) {
+                    if (mejor.esNueva(i)) {
+                        byte codigo = mejor.codigos()[i];
+                        casillas[mejor.filaDe(i)][mejor.columnaDe(i)] = codigo;
+                        atril[(codigo & AlfabetoFichas.MARCA_COMODIN) != 0 ? AlfabetoFichas.COMODIN : codigo]--;
+                    }
+                }
+            }
+        }
+
+        Collections.sort(tiempos);
+        System.out.printf("%d turnos, %.0f jugadas por turno, %d jugadas invalidas%n",
+                tiempos.size(), (double) jugadasGeneradas / tiempos.size(), jugadasInvalidas);
+        System.out.printf("generacion por turno: p50 %.3f ms, p99 %.3f ms, max %.3f ms%n",
+                tiempos.get(tiempos.size() / 2) / 1e6, tiempos.get(tiempos.size() * 99 / 100) / 1e6,
+                tiempos.getLast() / 1e6);
+    }
+
+    /**
+     * Comprueba con el lexico la palabra principal y las palabras cruzadas de una jugada.
+     */
+    private static boolean esValida(Jugada jugada, byte[][] casillas, Lexico lexico) {
+        byte[][] despues = new byte[casillas.length][];
+        for (int i = 0; i < casillas.length; i++) {
+            despues[i] = casillas[i].clone();
+        }
+        for (int i = 0; i < jugada.codigos().length; i++) {
+            int fila = jugada.filaDe(i);
+            int columna = jugada.columnaDe(i);
+            if (jugada.esNueva(i) != (casillas[fila][columna] == AlfabetoFichas.VACIA)) {
+                return false;
+            }
+            despues[fila][columna] = jugada.codigos()[i];
+        }
+        if (!lexico.contiene(palabraEn(despues, jugada.fila(), jugada.columna(), jugada.vertical()))) {
+            return false;
+        }
+        for (int i = 0; i < jugada.codigos().length; i++) {
+            if (jugada.esNueva(i)) {
+                byte[] cruzada = palabraEn(despues, jugada.filaDe(i), jugada.columnaDe(i), !jugada.vertical());
+                if (cruzada.length > 1 && !lexico.contiene(cruzada)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Extrae la palabra completa que pasa por una casilla en la direccion dada.
+     */
+    private static byte[] palabraEn(byte[][] casillas, int fila, int columna, boolean vertical) {
+        int df = vertical ? 1 : 0;
+        int dc = vertical ? 0 : 1;
+        while (fila - df >= 0 && columna - dc >= 0 && casillas[fila - df][columna - dc] != AlfabetoFichas.VACIA) {
+            fila -= df;
+            columna -= dc;
+        }
+        ArrayList<Byte> codigos = new ArrayList<>();
+        while (fila < casillas.length && columna < casillas[0].length && casillas[fila][columna] != AlfabetoFichas.VACIA) {
+            codigos.add(casillas[fila][columna]);
+            fila += df;
+            columna += dc;
+        }
+        byte[] palabra = new byte[codigos.size()];
+        for (int i = 0; i < palabra.length; i++) {
+            palabra[i] = codigos.get(i);
+        }
+        return palabra;
+    }
+}
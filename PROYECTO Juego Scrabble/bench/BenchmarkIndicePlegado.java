@@ -0,0 +1,59 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara la verificacion por variantes acentuadas (una busqueda por variante) con el indice plegado
+ * de {@link Lexico} (una busqueda por palabra), contando busquedas y tiempo por palabra del tablero.
+ * <p>
+ * Uso: {@code java BenchmarkIndicePlegado [lexico.txt]}
+ */
+public class BenchmarkIndicePlegado {
+
+    public static void main(String[] args) throws Exception {
+        List<String> palabras = PalabrasSinteticas.obtener(args, 200_000);
+        Dawg porGrafia = Dawg.construir(palabras);
+        Lexico plegado = Lexico.construir(palabras);
+
+        // Las palabras del tablero llegan sin tildes: la mitad existen y la mitad no.
+        Random random = new Random(7);
+        ArrayList<String> consultas = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            String palabra = palabras.get(random.nextInt(palabras.size()));
+            consultas.add(i % 2 == 0 ? Lexico.plegar(palabra) : Lexico.plegar(palabra) + "x");
+        }
+
+        for (int ronda = 0; ronda < 5; ronda++) {
+            long busquedasAntes = 0;
+            int encontradasAntes = 0;
+            long inicio = System.nanoTime();
+            for (String consulta : consultas) {
+                for (String variante : VariantesPalabra.generarVariantes(consulta)) {
+                    busquedasAntes++;
+                    if (porGrafia.contiene(variante)) {
+                        encontradasAntes++;
+                        break;
+                    }
+                }
+            }
+            long nanosAntes = System.nanoTime() - inicio;
+
+            long busquedasDespues = 0;
+            int encontradasDespues = 0;
+            inicio = System.nanoTime();
+            for (String consulta : consultas) {
+                busquedasDespues++;
+                if (plegado.contiene(consulta)) {
+                    encontradasDespues++;
+                }
+            }
+            long nanosDespues = System.nanoTime() - inicio;
+
+            System.out.printf("ronda %d | variantes: %.2f busquedas/palabra, %.0f ns/palabra, %d encontradas"
+                            + " | plegado: %.2f busquedas/palabra, %.0f ns/palabra, %d encontradas%n",
+                    ronda,
+                    (double) busquedasAntes / consultas.size(), (double) nanosAntes / consultas.size(), encontradasAntes,
+                    (double) busquedasDespues / consultas.size(), (double) nanosDespues / consultas.size(), encontradasDespues);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Mide la memoria de un {@link Tablero}: los bytes que se reservan al crear un tablero vacio y al copiar
+ * uno con fichas, y la memoria que ocupan muchos tableros guardados a la vez.
+ * <p>
+ * Los bytes reservados se leen con {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes} del
+ * hilo actual; la memoria ocupada se estima con la memoria usada del heap despues de pedir una
+ * recoleccion, antes y despues de crear los tableros.
+ * <p>
+ * Uso: {@code java BenchmarkMemoriaTablero}
+ */
+public class BenchmarkMemoriaTablero {
+
+    private static final com.sun.management.ThreadMXBean HILOS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) {
+        Random random = new Random(1);
+        Tablero conFichas = new Tablero();
+        conFichas.colocarPrimeraFicha(new Ficha(1, "A"));
+        for (int puestas = 1; puestas < 60; ) {
+            if (conFichas.colocarFicha(random.nextInt(15), random.nextInt(15), new Ficha(1, "A"))) {
+                puestas++;
+            }
+        }
+        conFichas.confirmarPendientes();
+
+        for (int ronda = 1; ronda <= 3; ronda++) {
+            long antes = reservados();
+            for (int i = 0; i < 10_000; i++) {
+                new Tablero();
+            }
+            long vacio = (reservados() - antes) / 10_000;
+            antes = reservados();
+            for (int i = 0; i < 10_000; i++) {
+                new Tablero(conFichas);
+            }
+            long copia = (reservados() - antes) / 10_000;
+
+            long usadaAntes = usada();
+            ArrayList<Tablero> guardados = new ArrayList<>(10_000);
+            for (int i = 0; i < 10_000; i++) {
+                guardados.add(new Tablero(conFichas));
+            }
+            long ocupada = (usada() - usadaAntes) / guardados.size();
+            System.out.printf("ronda %d: tablero vacio %d bytes reservados, copia con 60 fichas %d bytes reservados, %d bytes ocupados por tablero%n",
+                    ronda, vacio, copia, ocupada);
+        }
+    }
+
+    private static long reservados() {
+        return HILOS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    private static long usada() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,113 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Mide como escala {@link MotorSugerencias} con la cantidad de hilos del {@link ForkJoinPool}.
+ * <p>
+ * Primero juega partidas de la computadora contra si misma para juntar posiciones de mitad de partida
+ * (tablero y atril). Despues busca las mejores jugadas de todas esas posiciones con pools de 1, 2, 4...
+ * hilos, hasta la cantidad de nucleos, y compara la mejor jugada con la de {@link GeneradorJugadas}.
+ * Por ultimo mide cuanto tarda y cuantas posiciones resuelve igual de bien con un presupuesto de 1 ms.
+ * <p>
+ * Uso: {@code java BenchmarkMotorSugerencias [lexico.txt]}
+ */
+public class BenchmarkMotorSugerencias {
+
+    public static void main(String[] args) throws Exception {
+        List<String> palabras = PalabrasSinteticas.obtener(args, 100_000);
+        Gaddag gaddag = Gaddag.construir(palabras);
+        GeneradorJugadas generador = new GeneradorJugadas(gaddag);
+
+        ArrayList<RestriccionesTablero> tableros = new ArrayList<>();
+        ArrayList<int[]> atriles = new ArrayList<>();
+        ArrayList<Integer> mejoresPuntajes = new ArrayList<>();
+        for (int partida = 0; partida < 10; partida++) {
+            Random random = new Random(partida);
+            byte[][] casillas = new byte[15][15];
+            for (byte[] fila : casillas) {
+                Arrays.fill(fila, AlfabetoFichas.VACIA);
+            }
+            ArrayList<Byte> bolsa = new ArrayList<>();
+            for (byte codigo = 0; codigo < AlfabetoFichas.LETRAS.length; codigo++) {
+                for (int i = 0; i < AlfabetoFichas.CANTIDADES[codigo]; i++) {
+                    bolsa.add(codigo);
+                }
+            }
+            Collections.shuffle(bolsa, random);
+            int[][] atrilesPartida = new int[2][AlfabetoFichas.LETRAS.length];
+            int pasesSeguidos = 0;
+            for (int turno = 0; pasesSeguidos < 2; turno++) {
+                int[] atril = atrilesPartida[turno % 2];
+                while (Arrays.stream(atril).sum() < 7 && !bolsa.isEmpty()) {
+                    atril[bolsa.removeLast()]++;
+                }
+                RestriccionesTablero restricciones = new RestriccionesTablero(gaddag, casillas);
+                Jugada mejor = null;
+                for (Jugada jugada : generador.generar(restricciones, atril)) {
+                    if (mejor == null || Jugada.POR_PUNTAJE.compare(jugada, mejor) > 0) {
+                        mejor = jugada;
+                    }
+                }
+                if (mejor == null) {
+                    pasesSeguidos++;
+                    continue;
+                }
+                pasesSeguidos = 0;
+                tableros.add(restricciones);
+                atriles.add(atril.clone());
+                mejoresPuntajes.add(mejor.puntaje());
+                for (int i = 0; i < mejor.codigos().length; i++) {
+                    if (mejor.esNueva(i)) {
+                        byte codigo = mejor.codigos()[i];
+                        casillas[mejor.filaDe(i)][mejor.columnaDe(i)] = codigo;
+                        atril[(codigo & AlfabetoFichas.MARCA_COMODIN) != 0 ? AlfabetoFichas.COMODIN : codigo]--;
+                    }
+                }
+            }
+        }
+        System.out.printf("%d posiciones, %d nucleos%n", tableros.size(), Runtime.getRuntime().availableProcessors());
+
+        long base = 0;
+        for (int hilos = 1; hilos <= Runtime.getRuntime().availableProcessors(); hilos *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(hilos);
+            MotorSugerencias motor = new MotorSugerencias(gaddag, pool);
+            long mejorTiempo = Long.MAX_VALUE;
+            int distintas = 0;
+            for (int ronda = 0; ronda < 3; ronda++) {
+                distintas = 0;
+                long inicio = System.nanoTime();
+                for (int i = 0; i < tableros.size(); i++) {
+                    List<Jugada> sugerencias = motor.sugerir(tableros.get(i), atriles.get(i), 5, 60_000);
+                    if (sugerencias.getFirst().puntaje() != mejoresPuntajes.get(i)) {
+                        distintas++;
+                    }
+                }
+                mejorTiempo = Math.min(mejorTiempo, System.nanoTime() - inicio);
+            }
+            pool.shutdown();
+            if (hilos == 1) {
+                base = mejorTiempo;
+            }
+            System.out.printf("%2d hilos: %.2f ms por posicion, aceleracion %.2fx, %d mejores jugadas distintas%n",
+                    hilos, mejorTiempo / 1e6 / tableros.size(), (double) base / mejorTiempo, distintas);
+        }
+
+        MotorSugerencias motor = new MotorSugerencias(gaddag);
+        int iguales = 0;
+        long peor = 0;
+        for (int i = 0; i < tableros.size(); i++) {
+            long inicio = System.nanoTime();
+            List<Jugada> sugerencias = motor.sugerir(tableros.get(i), atriles.get(i), 5, 1);
+            peor = Math.max(peor, System.nanoTime() - inicio);
+            if (!sugerencias.isEmpty() && sugerencias.getFirst().puntaje() == mejoresPuntajes.get(i)) {
+                iguales++;
+            }
+        }
+        System.out.printf("presupuesto 1 ms: peor %.2f ms, mejor jugada encontrada en %d de %d posiciones%n",
+                peor / 1e6, iguales, tableros.size());
+    }
+}
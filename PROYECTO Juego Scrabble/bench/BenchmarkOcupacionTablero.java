@@ -0,0 +1,117 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara las comprobaciones de ocupacion de {@link Tablero} con mascaras de bits contra las
+ * comprobaciones anteriores, que comparaban la letra de cada {@link Ficha} con {@code "  "}.
+ * <p>
+ * Arma tableros con una cantidad creciente de fichas puestas al azar (cada una junto a otra) y, en
+ * cada uno, revisa todas las casillas: si estan ocupadas, si tienen una ficha al lado y si un tramo
+ * de fila o columna que empieza en ellas esta completo. Tambien comprueba que las dos formas den los
+ * mismos resultados.
+ * <p>
+ * Uso: {@code java BenchmarkOcupacionTablero}
+ */
+public class BenchmarkOcupacionTablero {
+
+    public static void main(String[] args) {
+        ArrayList<Tablero> tableros = new ArrayList<>();
+        Random random = new Random(1);
+        for (int t = 0; t < 200; t++) {
+            Tablero tablero = new Tablero();
+            tablero.colocarPrimeraFicha(new Ficha(1, "A"));
+            int fichas = 1 + t / 2;
+            for (int puestas = 1; puestas < fichas; ) {
+                if (tablero.colocarFicha(random.nextInt(15), random.nextInt(15), new Ficha(1, "A"))) {
+                    puestas++;
+                }
+            }
+            tablero.confirmarPendientes();
+            tableros.add(tablero);
+        }
+
+        String[] nombres = {"ocupada", "adyacente", "tramo"};
+        for (int ronda = 1; ronda <= 5; ronda++) {
+            StringBuilder linea = new StringBuilder("ronda " + ronda + ":");
+            for (int comprobacion = 0; comprobacion < nombres.length; comprobacion++) {
+                long antes = System.nanoTime();
+                long resultadoTexto = 0;
+                for (int repeticion = 0; repeticion < 50; repeticion++) {
+                    for (Tablero tablero : tableros) {
+                        resultadoTexto += revisarConTexto(tablero, comprobacion);
+                    }
+                }
+                long medio = System.nanoTime();
+                long resultadoBits = 0;
+                for (int repeticion = 0; repeticion < 50; repeticion++) {
+                    for (Tablero tablero : tableros) {
+                        resultadoBits += revisarConBits(tablero, comprobacion);
+                    }
+                }
+                long despues = System.nanoTime();
+                long revisiones = 50L * tableros.size() * 225;
+                linea.append(String.format(" %s texto %.1f ns / bits %.1f ns (%.1fx%s)", nombres[comprobacion],
+                        (double) (medio - antes) / revisiones, (double) (despues - medio) / revisiones,
+                        (double) (medio - antes) / (despues - medio),
+                        resultadoTexto == resultadoBits ? "" : ", RESULTADOS DISTINTOS"));
+            }
+            System.out.println(linea);
+        }
+    }
+
+    /**
+     * Revisa todas las casillas como antes de las mascaras de bits.
+     */
+    private static long revisarConTexto(Tablero tablero, int comprobacion) {
+        long resultado = 0;
+        for (int fila = 0; fila < 15; fila++) {
+            for (int columna = 0; columna < 15; columna++) {
+                boolean cumple;
+                if (comprobacion == 0) {
+                    cumple = !tablero.getFicha(fila, columna).getLetra().equals("  ");
+                } else if (comprobacion == 1) {
+                    cumple = (fila > 0 && !tablero.getFicha(fila - 1, columna).getLetra().equals("  ")) ||
+                            (fila < 14 && !tablero.getFicha(fila + 1, columna).getLetra().equals("  ")) ||
+                            (columna > 0 && !tablero.getFicha(fila, columna - 1).getLetra().equals("  ")) ||
+                            (columna < 14 && !tablero.getFicha(fila, columna + 1).getLetra().equals("  "));
+                } else {
+                    cumple = true;
+                    for (int c = columna; c <= Math.min(14, columna + 4) && cumple; c++) {
+                        cumple = !tablero.getFicha(fila, c).getLetra().equals("  ");
+                    }
+                }
+                resultado = resultado * 31 + (cumple ? 1 : 0);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Revisa todas las casillas con los metodos de {@link Tablero}.
+     */
+    private static long revisarConBits(Tablero tablero, int comprobacion) {
+        long resultado = 0;
+        int[] desde = new int[2];
+        int[] hasta = new int[2];
+        List<int[]> tramo = List.of(desde, hasta);
+        for (int fila = 0; fila < 15; fila++) {
+            for (int columna = 0; columna < 15; columna++) {
+                boolean cumple;
+                if (comprobacion == 0) {
+                    cumple = tablero.estaOcupada(fila, columna);
+                } else if (comprobacion == 1) {
+                    cumple = tablero.tieneFichaAdyacente(fila, columna);
+                } else {
+                    desde[0] = fila;
+                    desde[1] = columna;
+                    hasta[0] = fila;
+                    hasta[1] = Math.min(14, columna + 4);
+                    cumple = tablero.esLineaContinua(tramo);
+                }
+                resultado = resultado * 31 + (cumple ? 1 : 0);
+            }
+        }
+        return resultado;
+    }
+}
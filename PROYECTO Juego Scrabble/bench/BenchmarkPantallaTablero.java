@@ -0,0 +1,122 @@
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Compara lo que se escribe en la consola por cada tecla de movimiento (W A S D) al elegir donde poner
+ * una ficha: el tablero completo con el atril y sus indices, como lo escribia {@link Juego} en cada tecla,
+ * contra las casillas que cambiaron escritas por {@link PantallaTablero}.
+ * <p>
+ * La salida se arma igual que {@code System.out} (un {@link PrintStream} con vaciado automatico sobre un
+ * {@link BufferedOutputStream} de 128 bytes), pero sobre un contador en lugar de la consola: cada escritura
+ * que llega al contador es una llamada al sistema {@code write} en la consola real. Cada 20 teclas se
+ * coloca una ficha pendiente en la casilla resaltada, si se puede, para que tambien cambien fichas.
+ * <p>
+ * Uso: {@code java BenchmarkPantallaTablero}
+ */
+public class BenchmarkPantallaTablero {
+
+    private static final int TECLAS = 20_000;
+
+    private static final String[] LETRAS = {"A", "E", "O", "S", "R", "N", "L", "T", "CH", "LL"};
+
+    /**
+     * Cuenta los bytes y las escrituras que recibe.
+     */
+    private static final class Contador extends OutputStream {
+        long bytes;
+        long escrituras;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            escrituras++;
+        }
+
+        @Override
+        public void write(byte[] b, int desde, int cantidad) {
+            bytes += cantidad;
+            escrituras++;
+        }
+    }
+
+    public static void main(String[] args) {
+        PrintStream consola = System.out;
+        Contador contador = new Contador();
+        PrintStream salida = new PrintStream(new BufferedOutputStream(contador, 128), true, StandardCharsets.UTF_8);
+        Random random = new Random(1);
+
+        Tablero tablero = new Tablero();
+        tablero.colocarPrimeraFicha(ficha(random));
+        for (int puestas = 1; puestas < 60; ) {
+            if (tablero.colocarFicha(random.nextInt(15), random.nextInt(15), ficha(random))) {
+                puestas++;
+            }
+        }
+        tablero.confirmarPendientes();
+        StringBuilder atril = new StringBuilder();
+        StringBuilder indices = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            atril.append(ficha(random));
+            indices.append("[").append(i).append(" ]");
+        }
+        String pie = atril + "\n" + indices + "\n"
+                + "Utilice (W A S D) para seleccionar la posición donde quiere poner la ficha.\n"
+                + "La ficha debe estar adyacente a otra o sera una jugada invalida.\n"
+                + "Presione P y luego 9 para cancelar\n";
+        Controlador controlador = new Controlador(tablero);
+        PantallaTablero pantalla = new PantallaTablero(tablero, salida);
+
+        for (int ronda = 1; ronda <= 5; ronda++) {
+            System.setOut(salida);
+            long bytesAntes = contador.bytes, escriturasAntes = contador.escrituras;
+            long inicio = System.nanoTime();
+            moverResaltado(tablero, controlador, new Random(ronda), () -> {
+                tablero.mostrarTablero();
+                System.out.println(atril);
+                System.out.println(indices);
+            });
+            long medio = System.nanoTime();
+            long bytesCompleto = contador.bytes - bytesAntes, escriturasCompleto = contador.escrituras - escriturasAntes;
+
+            bytesAntes = contador.bytes;
+            escriturasAntes = contador.escrituras;
+            pantalla.invalidar();
+            moverResaltado(tablero, controlador, new Random(ronda), () -> pantalla.actualizar(pie));
+            long fin = System.nanoTime();
+            long bytesDiferencias = contador.bytes - bytesAntes, escriturasDiferencias = contador.escrituras - escriturasAntes;
+            System.setOut(consola);
+
+            System.out.printf("ronda %d: tablero completo %.0f bytes / %.1f escrituras / %.1f us por tecla, "
+                            + "solo cambios %.0f bytes / %.2f escrituras / %.1f us por tecla (%.0fx menos bytes)%n",
+                    ronda, (double) bytesCompleto / TECLAS, (double) escriturasCompleto / TECLAS, (medio - inicio) / 1000.0 / TECLAS,
+                    (double) bytesDiferencias / TECLAS, (double) escriturasDiferencias / TECLAS, (fin - medio) / 1000.0 / TECLAS,
+                    (double) bytesCompleto / bytesDiferencias);
+        }
+    }
+
+    /**
+     * Mueve la casilla resaltada con teclas al azar y muestra un cuadro despues de cada una. Cada 20
+     * teclas coloca una ficha pendiente en la casilla resaltada; al terminar las descarta.
+     */
+    private static void moverResaltado(Tablero tablero, Controlador controlador, Random random, Runnable mostrar) {
+        int[] posicion = {tablero.getFilaCentral(), tablero.getColumnaCentral()};
+        char[] teclas = {'w', 'a', 's', 'd'};
+        for (int tecla = 0; tecla < TECLAS; tecla++) {
+            posicion = controlador.moverJugador(posicion[0], posicion[1], teclas[random.nextInt(4)]);
+            if (tecla % 20 == 19) {
+                tablero.colocarFicha(posicion[0], posicion[1], ficha(random));
+            }
+            mostrar.run();
+        }
+        tablero.descartarPendientes();
+        tablero.desresaltarPosicion(posicion[0], posicion[1]);
+    }
+
+    private static Ficha ficha(Random random) {
+        String letra = LETRAS[random.nextInt(LETRAS.length)];
+        return new Ficha(AlfabetoFichas.valor(AlfabetoFichas.codigo(letra)), letra);
+    }
+}
@@ -0,0 +1,92 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara la actualizacion incremental de {@link RestriccionesTablero} al confirmar una jugada con
+ * el recalculo completo de las tablas.
+ * <p>
+ * Juega partidas de la computadora contra si misma y, en cada jugada confirmada, mide las dos formas
+ * de obtener las tablas del tablero nuevo. Tambien comprueba que ambas den exactamente las mismas tablas.
+ * <p>
+ * Uso: {@code java BenchmarkRestriccionesTablero [lexico.txt]}
+ */
+public class BenchmarkRestriccionesTablero {
+
+    public static void main(String[] args) throws Exception {
+        List<String> palabras = PalabrasSinteticas.obtener(args, 100_000);
+        Gaddag gaddag = Gaddag.construir(palabras);
+        GeneradorJugadas generador = new GeneradorJugadas(gaddag);
+
+        for (int ronda = 1; ronda <= 3; ronda++) {
+            long incremental = 0;
+            long completo = 0;
+            int jugadasConfirmadas = 0;
+            int diferencias = 0;
+            for (int partida = 0; partida < 20; partida++) {
+                Random random = new Random(partida);
+                byte[][] casillas = new byte[15][15];
+                for (byte[] fila : casillas) {
+                    Arrays.fill(fila, AlfabetoFichas.VACIA);
+                }
+                RestriccionesTablero restricciones = new RestriccionesTablero(gaddag, casillas);
+                ArrayList<Byte> bolsa = new ArrayList<>();
+                for (byte codigo = 0; codigo < AlfabetoFichas.LETRAS.length; codigo++) {
+                    for (int i = 0; i < AlfabetoFichas.CANTIDADES[codigo]; i++) {
+                        bolsa.add(codigo);
+                    }
+                }
+                Collections.shuffle(bolsa, random);
+                int[][] atriles = new int[2][AlfabetoFichas.LETRAS.length];
+                int pasesSeguidos = 0;
+
+                for (int turno = 0; pasesSeguidos < 2; turno++) {
+                    int[] atril = atriles[turno % 2];
+                    while (Arrays.stream(atril).sum() < 7 && !bolsa.isEmpty()) {
+                        atril[bolsa.removeLast()]++;
+                    }
+                    Jugada mejor = null;
+                    for (Jugada jugada : generador.generar(restricciones, atril)) {
+                        if (mejor == null || jugada.puntaje() > mejor.puntaje()) {
+                            mejor = jugada;
+                        }
+                    }
+                    if (mejor == null) {
+                        pasesSeguidos++;
+                        continue;
+                    }
+                    pasesSeguidos = 0;
+
+                    ArrayList<int[]> posiciones = new ArrayList<>();
+                    byte[] codigos = new byte[mejor.getCantidadFichasNuevas()];
+                    for (int i = 0; i < mejor.codigos().length; i++) {
+                        if (mejor.esNueva(i)) {
+                            byte codigo = mejor.codigos()[i];
+                            codigos[posiciones.size()] = codigo;
+                            posiciones.add(new int[]{mejor.filaDe(i), mejor.columnaDe(i)});
+                            casillas[mejor.filaDe(i)][mejor.columnaDe(i)] = codigo;
+                            atril[(codigo & AlfabetoFichas.MARCA_COMODIN) != 0 ? AlfabetoFichas.COMODIN : codigo]--;
+                        }
+                    }
+
+                    long antes = System.nanoTime();
+                    restricciones.colocarFichas(posiciones, codigos);
+                    long medio = System.nanoTime();
+                    RestriccionesTablero recalculadas = new RestriccionesTablero(gaddag, casillas);
+                    long despues = System.nanoTime();
+                    incremental += medio - antes;
+                    completo += despues - medio;
+                    jugadasConfirmadas++;
+                    if (!restricciones.mismasTablas(recalculadas)) {
+                        diferencias++;
+                    }
+                }
+            }
+            System.out.printf("ronda %d: %d jugadas, incremental %.1f us, completo %.1f us por jugada (%.0fx), %d diferencias%n",
+                    ronda, jugadasConfirmadas, incremental / 1e3 / jugadasConfirmadas, completo / 1e3 / jugadasConfirmadas,
+                    (double) completo / incremental, diferencias);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Mide el tiempo desde una tecla hasta que su cuadro termina de escribirse, con {@code System.out} como lo
+ * arma la JVM (un {@link PrintStream} con vaciado automatico sobre un {@link BufferedOutputStream} de 128
+ * bytes, que escribe en cada {@code print}) y con {@link SalidaConsola}, que compone el cuadro en un buffer
+ * y lo escribe con una sola llamada al vaciarse antes de leer la siguiente tecla.
+ * <p>
+ * Se miden dos cuadros: el de un turno (el tablero completo, el atril, los indices y las instrucciones,
+ * como lo escribe {@link Juego} despues de poner una ficha) y el de una tecla de movimiento, con las
+ * casillas que cambiaron escritas por {@link PantallaTablero}. El cuadro del turno tambien se mide como
+ * se escribia antes en {@code System.out}, con un {@code print} por casilla. Los cuadros se escriben en
+ * {@code /dev/null} a traves de un canal que cuenta las llamadas, cada una un {@code write} al sistema.
+ * <p>
+ * Uso: {@code java BenchmarkSalidaConsola}
+ */
+public class BenchmarkSalidaConsola {
+
+    private static final int CUADROS = 20_000;
+
+    private static final String[] LETRAS = {"A", "E", "O", "S", "R", "N", "L", "T", "CH", "LL"};
+
+    private static final String[] INSTRUCCIONES = {
+            "Presione P y luego Enter para poner otra Ficha.",
+            "Presione L para verificar su palabra.",
+            "Presione C para CANCELAR su palabra.",
+            "Presione A para ver sugerencias de jugadas.",
+            "Presione 9 para pasar su turno",
+            "Escriba \u001B[31mSALIR\u001B[0m para salir y guardar. Regresara al menu principal"};
+
+    /**
+     * Canal que cuenta las escrituras y las pasa a otro canal.
+     */
+    private static final class CanalContador implements WritableByteChannel {
+        private final WritableByteChannel destino;
+        long escrituras;
+
+        CanalContador(WritableByteChannel destino) {
+            this.destino = destino;
+        }
+
+        @Override
+        public int write(ByteBuffer bytes) throws IOException {
+            escrituras++;
+            return destino.write(bytes);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return destino.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            destino.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        PrintStream consola = System.out;
+        CanalContador canal = new CanalContador(FileChannel.open(Path.of("/dev/null"), StandardOpenOption.WRITE));
+        PrintStream sistema = new PrintStream(new BufferedOutputStream(Channels.newOutputStream(canal), 128), true, StandardCharsets.UTF_8);
+        PrintStream compuesta = new PrintStream(new SalidaConsola(canal), false, StandardCharsets.UTF_8);
+
+        Random random = new Random(1);
+        Tablero tablero = new Tablero();
+        tablero.colocarPrimeraFicha(ficha(random));
+        for (int puestas = 1; puestas < 60; ) {
+            if (tablero.colocarFicha(random.nextInt(15), random.nextInt(15), ficha(random))) {
+                puestas++;
+            }
+        }
+        tablero.confirmarPendientes();
+        StringBuilder atril = new StringBuilder();
+        StringBuilder indices = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            atril.append(ficha(random));
+            indices.append("[").append(i).append(" ]");
+        }
+        String pie = atril + "\n" + indices + "\n";
+        Controlador controlador = new Controlador(tablero);
+        PantallaTablero pantallaSistema = new PantallaTablero(tablero, sistema);
+        PantallaTablero pantallaCompuesta = new PantallaTablero(tablero, compuesta);
+
+        for (int ronda = 1; ronda <= 5; ronda++) {
+            StringBuilder linea = new StringBuilder("ronda " + ronda + ":");
+            for (boolean movimiento : new boolean[]{false, true}) {
+                linea.append(movimiento ? " | movimiento" : " turno");
+                for (int variante = movimiento ? 1 : 0; variante < 3; variante++) {
+                    PrintStream salida = variante < 2 ? sistema : compuesta;
+                    PantallaTablero pantalla = salida == sistema ? pantallaSistema : pantallaCompuesta;
+                    pantalla.invalidar();
+                    long[] latencias = new long[CUADROS];
+                    long escriturasAntes = canal.escrituras;
+                    int[] posicion = {tablero.getFilaCentral(), tablero.getColumnaCentral()};
+                    Random teclas = new Random(ronda);
+                    System.setOut(salida);
+                    for (int cuadro = 0; cuadro < CUADROS; cuadro++) {
+                        long inicio = System.nanoTime();
+                        posicion = controlador.moverJugador(posicion[0], posicion[1], "wasd".charAt(teclas.nextInt(4)));
+                        if (movimiento) {
+                            pantalla.actualizar(pie);
+                        } else {
+                            if (variante == 0) {
+                                mostrarCasillaPorCasilla(tablero);
+                            } else {
+                                tablero.mostrarTablero();
+                            }
+                            System.out.print(pie);
+                            for (String instruccion : INSTRUCCIONES) {
+                                System.out.println(instruccion);
+                            }
+                        }
+                        // Con SalidaConsola el cuadro se escribe al leer la siguiente tecla.
+                        System.out.flush();
+                        latencias[cuadro] = System.nanoTime() - inicio;
+                    }
+                    System.setOut(consola);
+                    tablero.desresaltarPosicion(posicion[0], posicion[1]);
+                    Arrays.sort(latencias);
+                    linea.append(String.format(" %s %.1f us (p99 %.1f us), %.1f escrituras", new String[]{"casilla por casilla", "System.out", "compuesta"}[variante],
+                            Arrays.stream(latencias).average().orElse(0) / 1000, latencias[CUADROS * 99 / 100] / 1000.0,
+                            (double) (canal.escrituras - escriturasAntes) / CUADROS));
+                }
+            }
+            System.out.println(linea);
+        }
+    }
+
+    /**
+     * Muestra el tablero como lo hacia {@link Tablero#mostrarTablero()} antes de componerlo en un solo texto.
+     */
+    private static void mostrarCasillaPorCasilla(Tablero tablero) {
+        for (int i = 0; i < tablero.getFilas(); i++) {
+            System.out.print("\t");
+            for (int j = 0; j < tablero.getColumnas(); j++) {
+                System.out.print(tablero.getSimboloCasilla(i, j));
+            }
+            System.out.print("\n");
+        }
+    }
+
+    private static Ficha ficha(Random random) {
+        String letra = LETRAS[random.nextInt(LETRAS.length)];
+        return new Ficha(AlfabetoFichas.valor(AlfabetoFichas.codigo(letra)), letra);
+    }
+}
@@ -0,0 +1,97 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Mide cuantas simulaciones por segundo hace {@link SimuladorJugadas} y si juega mejor que elegir siempre
+ * la jugada de mayor puntaje.
+ * <p>
+ * Juega partidas entre el simulador y el jugador de mayor puntaje, alternando quien empieza. En cada turno
+ * del simulador las fichas no vistas son la bolsa mas el atril del rival, como en {@link Juego}. Muestra
+ * las simulaciones por segundo de cada turno y la diferencia de puntaje promedio al final de las partidas.
+ * <p>
+ * Uso: {@code java BenchmarkSimuladorJugadas [lexico.txt] [ms por jugada] [jugadas simuladas]}
+ */
+public class BenchmarkSimuladorJugadas {
+
+    public static void main(String[] args) throws Exception {
+        List<String> palabras = PalabrasSinteticas.obtener(args, 100_000);
+        long presupuestoMs = args.length > 1 ? Long.parseLong(args[1]) : 200;
+        int jugadas = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        Gaddag gaddag = Gaddag.construir(palabras);
+        GeneradorJugadas generador = new GeneradorJugadas(gaddag);
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        SimuladorJugadas simulador = new SimuladorJugadas(gaddag, 10, jugadas, pool);
+
+        long simulaciones = 0;
+        long nanos = 0;
+        long diferencia = 0;
+        int ganadas = 0;
+        int partidas = 10;
+        for (int partida = 0; partida < partidas; partida++) {
+            Random random = new Random(partida);
+            byte[][] casillas = new byte[15][15];
+            for (byte[] fila : casillas) {
+                Arrays.fill(fila, AlfabetoFichas.VACIA);
+            }
+            RestriccionesTablero tablero = new RestriccionesTablero(gaddag, casillas);
+            ArrayList<Byte> bolsa = new ArrayList<>();
+            for (byte codigo = 0; codigo < AlfabetoFichas.LETRAS.length; codigo++) {
+                for (int i = 0; i < AlfabetoFichas.CANTIDADES[codigo]; i++) {
+                    bolsa.add(codigo);
+                }
+            }
+            Collections.shuffle(bolsa, random);
+            int[][] atriles = new int[2][AlfabetoFichas.LETRAS.length];
+            int[] puntajes = new int[2];
+            // El jugador 0 es el simulador; en las partidas impares empieza el rival.
+            int pasesSeguidos = 0;
+            for (int turno = partida % 2; pasesSeguidos < 2; turno++) {
+                int jugador = turno % 2;
+                int[] atril = atriles[jugador];
+                while (Arrays.stream(atril).sum() < 7 && !bolsa.isEmpty()) {
+                    atril[bolsa.removeLast()]++;
+                }
+
+                Jugada elegida = null;
+                if (jugador == 0) {
+                    int[] noVistas = atriles[1].clone();
+                    for (byte codigo : bolsa) {
+                        noVistas[codigo]++;
+                    }
+                    SimuladorJugadas.Resultado resultado = simulador.elegir(tablero, atril, noVistas, presupuestoMs);
+                    simulaciones += resultado.simulaciones();
+                    nanos += resultado.nanos();
+                    elegida = resultado.mejor();
+                } else {
+                    for (Jugada jugada : generador.generar(tablero, atril)) {
+                        if (elegida == null || Jugada.POR_PUNTAJE.compare(jugada, elegida) > 0) {
+                            elegida = jugada;
+                        }
+                    }
+                }
+                if (elegida == null) {
+                    pasesSeguidos++;
+                    continue;
+                }
+                pasesSeguidos = 0;
+                puntajes[jugador] += elegida.puntaje();
+                tablero.colocarJugada(elegida);
+                elegida.quitarFichas(atril);
+            }
+            diferencia += puntajes[0] - puntajes[1];
+            if (puntajes[0] > puntajes[1]) {
+                ganadas++;
+            }
+            System.out.printf("partida %d: simulador %d, mayor puntaje %d%n", partida, puntajes[0], puntajes[1]);
+        }
+        pool.shutdown();
+        System.out.printf("%d hilos, %d ms y %d jugadas simuladas por jugada: %.0f simulaciones por segundo%n",
+                pool.getParallelism(), presupuestoMs, jugadas, simulaciones * 1e9 / nanos);
+        System.out.printf("simulador gano %d de %d partidas, diferencia promedio %+.1f puntos%n",
+                ganadas, partidas, (double) diferencia / partidas);
+    }
+}
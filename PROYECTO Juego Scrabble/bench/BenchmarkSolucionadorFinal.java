@@ -0,0 +1,131 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mide la profundidad y los nodos por segundo de {@link SolucionadorFinal} y comprueba sus resultados.
+ * <p>
+ * Juega partidas de la computadora contra si misma eligiendo la jugada de mayor puntaje hasta vaciar la
+ * bolsa. Desde cada final resuelve la primera jugada, y despues juega el final de dos formas: con el
+ * solucionador en los dos lados y con el jugador de mayor puntaje en los dos lados. Si la primera
+ * busqueda fue exacta, la diferencia de puntaje del final jugado con el solucionador tiene que ser igual
+ * al valor que devolvio.
+ * <p>
+ * Uso: {@code java BenchmarkSolucionadorFinal [lexico.txt] [ms por jugada]}
+ */
+public class BenchmarkSolucionadorFinal {
+
+    public static void main(String[] args) throws Exception {
+        List<String> palabras = PalabrasSinteticas.obtener(args, 100_000);
+        long presupuestoMs = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+        Gaddag gaddag = Gaddag.construir(palabras);
+        GeneradorJugadas generador = new GeneradorJugadas(gaddag);
+        SolucionadorFinal solucionador = new SolucionadorFinal(gaddag, 15, 15);
+
+        int exactos = 0;
+        int incorrectos = 0;
+        long nodos = 0;
+        long nanos = 0;
+        long ventajaSolucionador = 0;
+        long ventajaMayorPuntaje = 0;
+        int finales = 10;
+        for (int partida = 0; partida < finales; partida++) {
+            Random random = new Random(partida);
+            byte[][] casillas = new byte[15][15];
+            for (byte[] fila : casillas) {
+                Arrays.fill(fila, AlfabetoFichas.VACIA);
+            }
+            RestriccionesTablero tablero = new RestriccionesTablero(gaddag, casillas);
+            ArrayList<Byte> bolsa = new ArrayList<>();
+            for (byte codigo = 0; codigo < AlfabetoFichas.LETRAS.length; codigo++) {
+                for (int i = 0; i < AlfabetoFichas.CANTIDADES[codigo]; i++) {
+                    bolsa.add(codigo);
+                }
+            }
+            Collections.shuffle(bolsa, random);
+            int[][] atriles = new int[2][AlfabetoFichas.LETRAS.length];
+            int turno = 0;
+            while (!bolsa.isEmpty()) {
+                int[] atril = atriles[turno % 2];
+                while (Arrays.stream(atril).sum() < 7 && !bolsa.isEmpty()) {
+                    atril[bolsa.removeLast()]++;
+                }
+                Jugada mejor = mayorPuntaje(generador, tablero, atril);
+                if (mejor != null) {
+                    tablero.colocarJugada(mejor);
+                    mejor.quitarFichas(atril);
+                }
+                turno++;
+            }
+            // Con la bolsa vacia el jugador en turno completa su atril con lo que haya quedado.
+            int[] propio = atriles[turno % 2];
+            int[] rival = atriles[(turno + 1) % 2];
+
+            SolucionadorFinal.Resultado resultado = solucionador.resolver(tablero, propio, rival, presupuestoMs);
+            nodos += resultado.nodos();
+            nanos += resultado.nanos();
+            int conSolucionador = jugarFinal(tablero, propio, rival, generador, solucionador, presupuestoMs);
+            int conMayorPuntaje = jugarFinal(tablero, propio, rival, generador, null, presupuestoMs);
+            ventajaSolucionador += conSolucionador;
+            ventajaMayorPuntaje += conMayorPuntaje;
+            if (resultado.exacto()) {
+                exactos++;
+                if (resultado.valor() != conSolucionador) {
+                    incorrectos++;
+                }
+            }
+            System.out.printf("final %d: %d y %d fichas, %s; jugado con solucionador %+d, con mayor puntaje %+d%n",
+                    partida, Arrays.stream(propio).sum(), Arrays.stream(rival).sum(), resultado.getResumen(),
+                    conSolucionador, conMayorPuntaje);
+        }
+        System.out.printf("%d ms por busqueda: %.0f nodos por segundo, %d de %d finales exactos, %d valores exactos incorrectos%n",
+                presupuestoMs, nodos * 1e9 / nanos, exactos, finales, incorrectos);
+        System.out.printf("ventaja promedio del jugador en turno: %+.1f con solucionador, %+.1f con mayor puntaje%n",
+                (double) ventajaSolucionador / finales, (double) ventajaMayorPuntaje / finales);
+    }
+
+    /**
+     * Juega un final hasta que un jugador se queda sin fichas o los dos pasan seguido.
+     *
+     * @param solucionador el solucionador para los dos jugadores, o {@code null} para jugar la de mayor puntaje.
+     * @return los puntos del jugador que empieza menos los del rival.
+     */
+    private static int jugarFinal(RestriccionesTablero inicial, int[] propio, int[] rival, GeneradorJugadas generador,
+                                  SolucionadorFinal solucionador, long presupuestoMs) {
+        RestriccionesTablero tablero = new RestriccionesTablero(inicial);
+        int[][] atriles = {propio.clone(), rival.clone()};
+        int diferencia = 0;
+        int pases = 0;
+        for (int turno = 0; pases < 2; turno = 1 - turno) {
+            Jugada jugada = solucionador == null ? mayorPuntaje(generador, tablero, atriles[turno])
+                    : solucionador.resolver(tablero, atriles[turno], atriles[1 - turno], presupuestoMs).mejor();
+            if (jugada == null) {
+                pases++;
+                continue;
+            }
+            pases = 0;
+            diferencia += turno == 0 ? jugada.puntaje() : -jugada.puntaje();
+            tablero.colocarJugada(jugada);
+            jugada.quitarFichas(atriles[turno]);
+            if (Arrays.stream(atriles[turno]).sum() == 0) {
+                break;
+            }
+        }
+        return diferencia;
+    }
+
+    /**
+     * Devuelve la jugada de mayor puntaje, o {@code null} si no hay ninguna.
+     */
+    private static Jugada mayorPuntaje(GeneradorJugadas generador, RestriccionesTablero tablero, int[] atril) {
+        Jugada mejor = null;
+        for (Jugada jugada : generador.generar(tablero, atril)) {
+            if (mejor == null || Jugada.POR_PUNTAJE.compare(jugada, mejor) > 0) {
+                mejor = jugada;
+            }
+        }
+        return mejor;
+    }
+}
@@ -0,0 +1,192 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mide como crece el costo de una jugada con el tamaño del {@link Tablero}.
+ * <p>
+ * Para cada tamaño juega partidas de la computadora contra si misma (siempre la jugada de mayor
+ * puntaje) y guarda sus jugadas. Despues repite esas jugadas sobre tableros nuevos y mide, por jugada,
+ * lo que hace {@link Juego} al confirmar una: colocar las fichas como pendientes, extraer las palabras
+ * formadas con {@link PalabraExtractor#extraerPalabras} y confirmarlas, actualizando las restricciones
+ * del tablero. Lo compara con lo que costaria la misma jugada recalculando las restricciones completas y
+ * copiando el tablero, que crece con la cantidad de casillas. Los bytes reservados se leen con
+ * {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes} del hilo actual.
+ * <p>
+ * Uso: {@code java BenchmarkTamanoTablero [lexico.txt]}
+ */
+public class BenchmarkTamanoTablero {
+
+    private static final com.sun.management.ThreadMXBean HILOS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final int[][] TAMANOS = {{15, 15}, {21, 21}, {31, 31}, {45, 45}, {63, 63}, {15, 31}};
+
+    private static final int PARTIDAS = 10;
+
+    /**
+     * Las fichas nuevas de una jugada, en un orden en que cada una queda junto a otra.
+     */
+    private record FichasJugada(int[] filas, int[] columnas, Ficha[] fichas) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Gaddag gaddag = Gaddag.construir(PalabrasSinteticas.obtener(args, 20_000));
+        PalabraExtractor extractor = new PalabraExtractor();
+
+        for (int[] tamano : TAMANOS) {
+            ArrayList<List<FichasJugada>> partidas = new ArrayList<>();
+            for (int partida = 0; partida < PARTIDAS; partida++) {
+                partidas.add(jugarPartida(gaddag, tamano[0], tamano[1], new Random(partida)));
+            }
+            int jugadas = partidas.stream().mapToInt(List::size).sum();
+
+            for (int ronda = 1; ronda <= 3; ronda++) {
+                long nanosJugada = 0;
+                long bytesJugada = 0;
+                long nanosCompleto = 0;
+                long resultado = 0;
+                for (List<FichasJugada> partida : partidas) {
+                    Tablero tablero = new Tablero(tamano[0], tamano[1]);
+                    tablero.getRestricciones(gaddag);
+                    for (FichasJugada jugada : partida) {
+                        long reservadosAntes = reservados();
+                        long antes = System.nanoTime();
+                        List<int[]> posiciones = colocar(tablero, jugada);
+                        int palabras = extractor.extraerPalabras(posiciones, tablero);
+                        for (int p = 0; p < palabras; p++) {
+                            resultado += extractor.getPuntajePalabra(p, tablero);
+                        }
+                        tablero.confirmarPendientes();
+                        nanosJugada += System.nanoTime() - antes;
+                        bytesJugada += reservados() - reservadosAntes;
+
+                        antes = System.nanoTime();
+                        RestriccionesTablero completas = new RestriccionesTablero(gaddag, tablero.getCodigos(),
+                                tablero.getFilaCentral(), tablero.getColumnaCentral());
+                        Tablero copia = new Tablero(tablero);
+                        nanosCompleto += System.nanoTime() - antes;
+                        if (!completas.mismasTablas(tablero.getRestricciones(gaddag)) || copia.getFilas() != tamano[0]) {
+                            System.out.println("Las restricciones incrementales no coinciden con las completas");
+                            return;
+                        }
+                    }
+                }
+                System.out.printf("%2dx%-2d ronda %d: %d jugadas, %d puntos; jugada %.1f us / %.0f bytes, recalculo completo y copia %.1f us%n",
+                        tamano[0], tamano[1], ronda, jugadas, resultado, nanosJugada / 1000.0 / jugadas,
+                        (double) bytesJugada / jugadas, nanosCompleto / 1000.0 / jugadas);
+            }
+        }
+    }
+
+    /**
+     * Juega una partida sobre un tablero del tamaño dado y guarda las fichas de cada jugada.
+     */
+    private static List<FichasJugada> jugarPartida(Gaddag gaddag, int filas, int columnas, Random random) {
+        GeneradorJugadas generador = new GeneradorJugadas(gaddag);
+        Tablero tablero = new Tablero(filas, columnas);
+        ArrayList<Byte> bolsa = new ArrayList<>();
+        for (byte codigo = 0; codigo < AlfabetoFichas.LETRAS.length; codigo++) {
+            for (int i = 0; i < AlfabetoFichas.CANTIDADES[codigo]; i++) {
+                bolsa.add(codigo);
+            }
+        }
+        Collections.shuffle(bolsa, random);
+        int[][] atriles = new int[2][AlfabetoFichas.LETRAS.length];
+        ArrayList<FichasJugada> jugadas = new ArrayList<>();
+        int pasesSeguidos = 0;
+        for (int turno = 0; pasesSeguidos < 2; turno++) {
+            int[] atril = atriles[turno % 2];
+            while (Arrays.stream(atril).sum() < 7 && !bolsa.isEmpty()) {
+                atril[bolsa.removeLast()]++;
+            }
+            Jugada mejor = null;
+            for (Jugada jugada : generador.generar(tablero.getRestricciones(gaddag), atril)) {
+                if (mejor == null || jugada.puntaje() > mejor.puntaje()) {
+                    mejor = jugada;
+                }
+            }
+            if (mejor == null) {
+                pasesSeguidos++;
+                continue;
+            }
+            pasesSeguidos = 0;
+            FichasJugada fichas = ordenar(tablero, mejor);
+            colocar(tablero, fichas);
+            tablero.confirmarPendientes();
+            mejor.quitarFichas(atril);
+            jugadas.add(fichas);
+            if (Arrays.stream(atril).sum() == 0 && bolsa.isEmpty()) {
+                break;
+            }
+        }
+        return jugadas;
+    }
+
+    /**
+     * Ordena las fichas nuevas de una jugada para que cada una quede junto a otra al colocarlas, como
+     * {@link JugadorCPU#jugar}.
+     */
+    private static FichasJugada ordenar(Tablero tablero, Jugada jugada) {
+        ArrayList<Integer> pendientes = new ArrayList<>();
+        for (int i = 0; i < jugada.codigos().length; i++) {
+            if (jugada.esNueva(i)) {
+                pendientes.add(i);
+            }
+        }
+        int cantidad = pendientes.size();
+        int[] filas = new int[cantidad];
+        int[] columnas = new int[cantidad];
+        Ficha[] fichas = new Ficha[cantidad];
+        // Se marcan en una copia para saber que casillas quedan ocupadas despues de cada ficha.
+        Tablero prueba = new Tablero(tablero);
+        for (int n = 0; n < cantidad; n++) {
+            int elegida = 0;
+            for (int k = 0; k < pendientes.size(); k++) {
+                int fila = jugada.filaDe(pendientes.get(k));
+                int columna = jugada.columnaDe(pendientes.get(k));
+                if (prueba.estaVacio() ? fila == prueba.getFilaCentral() && columna == prueba.getColumnaCentral()
+                        : prueba.tieneFichaAdyacente(fila, columna)) {
+                    elegida = k;
+                    break;
+                }
+            }
+            int posicion = pendientes.remove(elegida);
+            filas[n] = jugada.filaDe(posicion);
+            columnas[n] = jugada.columnaDe(posicion);
+            fichas[n] = Ficha.deCodigo(jugada.codigos()[posicion]);
+            if (prueba.estaVacio()) {
+                prueba.colocarPrimeraFicha(fichas[n]);
+            } else {
+                prueba.colocarFicha(filas[n], columnas[n], fichas[n]);
+            }
+        }
+        return new FichasJugada(filas, columnas, fichas);
+    }
+
+    /**
+     * Coloca como pendientes las fichas de una jugada.
+     *
+     * @return las posiciones de las fichas colocadas.
+     */
+    private static List<int[]> colocar(Tablero tablero, FichasJugada jugada) {
+        ArrayList<int[]> posiciones = new ArrayList<>(jugada.fichas().length);
+        for (int i = 0; i < jugada.fichas().length; i++) {
+            boolean puesta = tablero.estaVacio()
+                    ? tablero.colocarPrimeraFicha(jugada.fichas()[i])
+                    : tablero.colocarFicha(jugada.filas()[i], jugada.columnas()[i], jugada.fichas()[i]);
+            if (!puesta) {
+                throw new IllegalStateException("No se pudo colocar la ficha en " + jugada.filas()[i] + ", " + jugada.columnas()[i]);
+            }
+            posiciones.add(new int[]{jugada.filas()[i], jugada.columnas()[i]});
+        }
+        return posiciones;
+    }
+
+    private static long reservados() {
+        return HILOS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
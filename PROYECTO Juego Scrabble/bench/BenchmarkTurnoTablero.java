@@ -0,0 +1,122 @@
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Compara la memoria y el tiempo por turno de las dos formas de manejar las fichas de un turno en
+ * {@link Juego}: copiar el tablero confirmado en un tablero auxiliar al terminar cada turno (y copiar
+ * el auxiliar al confirmar una jugada), o colocar las fichas como pendientes sobre el mismo tablero y
+ * confirmarlas o descartarlas.
+ * <p>
+ * Cada turno coloca de 1 a 7 fichas al azar, cada una junto a otra; 6 de cada 10 turnos se confirman
+ * y el resto se cancelan, como una palabra invalida o un turno pasado. Los bytes reservados se leen con
+ * {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes} del hilo actual.
+ * <p>
+ * Uso: {@code java BenchmarkTurnoTablero}
+ */
+public class BenchmarkTurnoTablero {
+
+    private static final com.sun.management.ThreadMXBean HILOS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final int TURNOS = 200_000;
+
+    private static final Ficha FICHA = new Ficha(1, "A");
+
+    public static void main(String[] args) {
+        for (int ronda = 1; ronda <= 3; ronda++) {
+            long antes = reservados();
+            long inicio = System.nanoTime();
+            int fichasCopia = jugarConCopias(new Random(ronda));
+            long medio = System.nanoTime();
+            long reservadosCopia = reservados() - antes;
+
+            antes = reservados();
+            int fichasPendientes = jugarConPendientes(new Random(ronda));
+            long fin = System.nanoTime();
+            long reservadosPendientes = reservados() - antes;
+
+            System.out.printf("ronda %d: copias %.0f bytes / %.0f ns por turno, pendientes %.0f bytes / %.0f ns por turno%s%n",
+                    ronda, (double) reservadosCopia / TURNOS, (double) (medio - inicio) / TURNOS,
+                    (double) reservadosPendientes / TURNOS, (double) (fin - medio) / TURNOS,
+                    fichasCopia == fichasPendientes ? "" : " (TABLEROS DISTINTOS)");
+        }
+    }
+
+    /**
+     * Juega los turnos copiando el tablero como lo hacia {@link Juego} antes de las fichas pendientes.
+     *
+     * @return la cantidad de fichas confirmadas, para comparar las dos formas.
+     */
+    private static int jugarConCopias(Random random) {
+        Tablero tablero = new Tablero();
+        Tablero auxiliar = new Tablero(tablero);
+        int confirmadas = 0;
+        int enTablero = 0;
+        for (int turno = 0; turno < TURNOS; turno++) {
+            if (enTablero > 120) {
+                tablero = new Tablero();
+                auxiliar = new Tablero(tablero);
+                enTablero = 0;
+            }
+            int puestas = colocar(auxiliar, random, enTablero == 0);
+            if (random.nextInt(10) < 6) {
+                auxiliar.confirmarPendientes();
+                tablero = new Tablero(auxiliar);
+                confirmadas += puestas;
+                enTablero += puestas;
+            } else {
+                auxiliar = new Tablero(tablero);
+            }
+        }
+        return confirmadas;
+    }
+
+    /**
+     * Juega los turnos con fichas pendientes sobre un solo tablero.
+     *
+     * @return la cantidad de fichas confirmadas, para comparar las dos formas.
+     */
+    private static int jugarConPendientes(Random random) {
+        Tablero tablero = new Tablero();
+        int confirmadas = 0;
+        int enTablero = 0;
+        for (int turno = 0; turno < TURNOS; turno++) {
+            if (enTablero > 120) {
+                tablero = new Tablero();
+                enTablero = 0;
+            }
+            int puestas = colocar(tablero, random, enTablero == 0);
+            if (random.nextInt(10) < 6) {
+                tablero.confirmarPendientes();
+                confirmadas += puestas;
+                enTablero += puestas;
+            } else {
+                tablero.descartarPendientes();
+            }
+        }
+        return confirmadas;
+    }
+
+    /**
+     * Coloca de 1 a 7 fichas al azar, cada una junto a otra.
+     *
+     * @return la cantidad de fichas colocadas.
+     */
+    private static int colocar(Tablero tablero, Random random, boolean primera) {
+        int cantidad = 1 + random.nextInt(7);
+        int puestas = 0;
+        if (primera && tablero.colocarPrimeraFicha(FICHA)) {
+            puestas++;
+        }
+        for (int intento = 0; puestas < cantidad && intento < 1000; intento++) {
+            if (tablero.colocarFicha(random.nextInt(15), random.nextInt(15), FICHA)) {
+                puestas++;
+            }
+        }
+        return puestas;
+    }
+
+    private static long reservados() {
+        return HILOS.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
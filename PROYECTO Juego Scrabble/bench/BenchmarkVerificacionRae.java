@@ -0,0 +1,95 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mide la latencia de validar un turno completo contra {@link ServidorRaeSimulado}, sin lexico ni caches,
+ * para distintas condiciones de red. Cada turno verifica una palabra principal y varias cruzadas con
+ * {@link PalabraExtractor#verificarPalabras(java.util.Set)} e informa los percentiles p50 y p99.
+ * Al final comprueba que una solicitud de prueba interrumpida no deja el {@link InterruptorCircuito}
+ * semiabierto.
+ * <p>
+ * Uso: {@code java BenchmarkVerificacionRae [turnos]}
+ */
+public class BenchmarkVerificacionRae {
+
+    public static void main(String[] args) throws Exception {
+        int turnos = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        List<String> palabras = PalabrasSinteticas.generar(5_000, 3);
+        HashSet<String> validas = new HashSet<>(palabras);
+
+        RaeVerificador.setLexico(null);
+        RaeVerificador.setFiltro(null);
+        RaeVerificador.setCache(null);
+
+        // {latencia ms, jitter ms, probabilidad de fallo}
+        double[][] escenarios = {{0, 0, 0}, {20, 0, 0}, {50, 50, 0}, {100, 200, 0}, {50, 20, 0.05}, {50, 20, 0.5}};
+        PalabraExtractor extractor = new PalabraExtractor();
+        try (ServidorRaeSimulado servidor = new ServidorRaeSimulado(validas)) {
+            RaeVerificador.setUrlBase(servidor.getUrlBase());
+            for (double[] escenario : escenarios) {
+                servidor.configurar((long) escenario[0], (long) escenario[1], escenario[2]);
+                Random random = new Random(11);
+                long[] latencias = new long[turnos];
+                long solicitudesAntes = servidor.getSolicitudes();
+                for (int turno = 0; turno < turnos; turno++) {
+                    RaeVerificador.getCacheMemoria().limpiar();
+                    HashSet<Palabra> palabrasTurno = new HashSet<>();
+                    for (int i = 0; i < 1 + random.nextInt(5); i++) {
+                        String texto = Lexico.plegar(palabras.get(random.nextInt(palabras.size())));
+                        palabrasTurno.add(crearPalabra(random.nextInt(4) == 0 ? texto + "q" : texto));
+                    }
+                    long inicio = System.nanoTime();
+                    extractor.verificarPalabras(palabrasTurno);
+                    latencias[turno] = System.nanoTime() - inicio;
+                }
+                Arrays.sort(latencias);
+                System.out.printf("latencia=%3.0fms jitter=%3.0fms fallos=%4.1f%% | p50=%7.1f ms p99=%7.1f ms | %.1f solicitudes/turno%n",
+                        escenario[0], escenario[1], escenario[2] * 100,
+                        latencias[turnos / 2] / 1e6, latencias[Math.min(turnos - 1, turnos * 99 / 100)] / 1e6,
+                        (double) (servidor.getSolicitudes() - solicitudesAntes) / turnos);
+            }
+        }
+        comprobarPruebaInterrumpida();
+    }
+
+    /**
+     * Abre un interruptor, hace que un hilo tome la solicitud de prueba y la abandone al ser interrumpido
+     * durante la espera de un reintento, y comprueba que la siguiente solicitud puede hacer otra prueba.
+     */
+    private static void comprobarPruebaInterrumpida() throws InterruptedException {
+        InterruptorCircuito interruptor = new InterruptorCircuito(1, 0);
+        interruptor.permiteSolicitud();
+        interruptor.registrarFallo();
+        Thread prueba = Thread.ofVirtual().start(() -> {
+            if (interruptor.permiteSolicitud()) {
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    interruptor.liberarPrueba();
+                }
+            }
+        });
+        while (interruptor.getEstado() != InterruptorCircuito.Estado.SEMIABIERTO) {
+            Thread.onSpinWait();
+        }
+        prueba.interrupt();
+        prueba.join();
+        System.out.println(interruptor.permiteSolicitud()
+                ? "prueba interrumpida: el interruptor permite una nueva prueba"
+                : "prueba interrumpida: el interruptor quedo en " + interruptor.getEstado() + " y rechaza las solicitudes");
+    }
+
+    /**
+     * Crea una palabra del tablero con una ficha por letra.
+     */
+    private static Palabra crearPalabra(String texto) {
+        Palabra palabra = new Palabra(false, 0, 0);
+        for (char letra : texto.toUpperCase().toCharArray()) {
+            palabra.add(new Ficha(1, String.valueOf(letra)));
+        }
+        return palabra;
+    }
+}
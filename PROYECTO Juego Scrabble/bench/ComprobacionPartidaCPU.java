@@ -0,0 +1,42 @@
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Comprueba que una partida de {@link Juego} entre dos {@link JugadorCPU} sin lexico termina: sin lexico
+ * la computadora pasa todos sus turnos, y la partida tiene que terminar despues de una ronda de pases en
+ * lugar de seguir para siempre.
+ * <p>
+ * {@link Juego} guarda la partida y los usuarios en archivos del directorio actual, por lo que conviene
+ * ejecutarla desde un directorio temporal.
+ * <p>
+ * Uso: {@code java ComprobacionPartidaCPU [segundos]}
+ */
+public class ComprobacionPartidaCPU {
+
+    public static void main(String[] args) throws Exception {
+        long segundos = args.length > 0 ? Long.parseLong(args[0]) : 30;
+        JugadorCPU.setGaddag(null);
+        RaeVerificador.setLexico(null);
+
+        Juego juego = new Juego(new Jugador[]{new JugadorCPU(), new JugadorCPU()});
+        ExecutorService ejecutor = Executors.newSingleThreadExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "partida");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+        Future<?> partida = ejecutor.submit(juego::iniciarNuevaPartida);
+        try {
+            partida.get(segundos, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            System.out.println("La partida sin lexico no termino en " + segundos + " s");
+            System.exit(1);
+        }
+        System.out.println(juego.isPartidaTerminada()
+                ? "La partida sin lexico termino despues de una ronda de pases"
+                : "La partida sin lexico salio del ciclo sin terminar");
+        System.exit(juego.isPartidaTerminada() ? 0 : 1);
+    }
+}
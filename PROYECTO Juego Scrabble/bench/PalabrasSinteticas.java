@@ -0,0 +1,89 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * La clase PalabrasSinteticas provee listas de palabras para los benchmarks.
+ * <p>
+ * Si se indica un archivo de lexico real se usa ese; si no, se generan palabras con forma de español
+ * (silabas, digrafos, tildes y alguna dieresis) a partir de una semilla fija.
+ */
+public class PalabrasSinteticas {
+
+    private static final String[] INICIOS = {"", "b", "c", "ch", "d", "f", "g", "l", "ll", "m", "n", "ñ", "p", "qu", "r", "s", "t", "v", "z", "br", "tr", "pl", "gu"};
+    private static final String[] MEDIOS = {"", "", "", "n", "r", "s", "l", "rr"};
+    private static final char[] VOCALES = {'a', 'e', 'i', 'o', 'u'};
+    private static final char[] TILDES = {'á', 'é', 'í', 'ó', 'ú'};
+
+    /**
+     * Obtiene las palabras del archivo indicado en el primer argumento, o genera palabras sinteticas.
+     *
+     * @param args los argumentos del benchmark.
+     * @param cantidad la cantidad de palabras a generar si no se indica archivo.
+     * @return la lista de palabras, en minusculas.
+     * @throws IOException si ocurre un error al leer el archivo.
+     */
+    public static List<String> obtener(String[] args, int cantidad) throws IOException {
+        if (args.length > 0 && Files.isRegularFile(Path.of(args[0]))) {
+            return Lexico.leerPalabras(Path.of(args[0]));
+        }
+        return generar(cantidad, 42);
+    }
+
+    /**
+     * Genera palabras sinteticas distintas.
+     *
+     * @param cantidad la cantidad de palabras.
+     * @param semilla la semilla del generador aleatorio.
+     * @return la lista de palabras.
+     */
+    public static List<String> generar(int cantidad, long semilla) {
+        Random random = new Random(semilla);
+        LinkedHashSet<String> palabras = new LinkedHashSet<>();
+        while (palabras.size() < cantidad) {
+            palabras.add(generarPalabra(random));
+        }
+        return new ArrayList<>(palabras);
+    }
+
+    /**
+     * Genera una palabra de 1 a 5 silabas; una de cada cuatro lleva tilde y algunas dieresis.
+     */
+    private static String generarPalabra(Random random) {
+        StringBuilder palabra = new StringBuilder();
+        int silabas = 1 + random.nextInt(5);
+        for (int i = 0; i < silabas; i++) {
+            String inicio = INICIOS[random.nextInt(INICIOS.length)];
+            palabra.append(inicio);
+            if (inicio.equals("gu") && random.nextInt(4) == 0) {
+                palabra.setLength(palabra.length() - 1);
+                palabra.append('ü');
+            }
+            palabra.append(VOCALES[random.nextInt(VOCALES.length)]);
+            if (i < silabas - 1) {
+                palabra.append(MEDIOS[random.nextInt(MEDIOS.length)]);
+            }
+        }
+        if (random.nextInt(4) == 0) {
+            int vocal = ultimaVocal(palabra);
+            if (vocal >= 0) {
+                int indice = new String(VOCALES).indexOf(palabra.charAt(vocal));
+                palabra.setCharAt(vocal, TILDES[indice]);
+            }
+        }
+        return palabra.toString();
+    }
+
+    private static int ultimaVocal(StringBuilder palabra) {
+        for (int i = palabra.length() - 1; i >= 0; i--) {
+            if (new String(VOCALES).indexOf(palabra.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
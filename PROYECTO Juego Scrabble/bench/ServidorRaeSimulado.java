@@ -0,0 +1,114 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * La clase ServidorRaeSimulado es un servidor HTTP local que imita las paginas del diccionario de la RAE.
+ * <p>
+ * Para una palabra conocida responde una pagina con su definicion dentro de {@code #resultados}; para una
+ * desconocida responde el aviso "Aviso: La palabra ... no está en el Diccionario.". Permite agregar
+ * latencia fija, variacion aleatoria (jitter) y una probabilidad de fallo (respuesta 503).
+ */
+public class ServidorRaeSimulado implements AutoCloseable {
+
+    private final HttpServer servidor;
+    private final Set<String> palabras;
+    private volatile long latenciaMs;
+    private volatile long jitterMs;
+    private volatile double probabilidadFallo;
+    private final AtomicLong solicitudes = new AtomicLong();
+
+    /**
+     * Inicia el servidor en un puerto libre de la maquina local.
+     *
+     * @param palabras las palabras que el servidor reconoce como validas.
+     * @throws IOException si no se puede abrir el puerto.
+     */
+    public ServidorRaeSimulado(Set<String> palabras) throws IOException {
+        this.palabras = palabras;
+        this.servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.servidor.createContext("/", this::responder);
+        this.servidor.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        this.servidor.start();
+    }
+
+    /**
+     * Obtiene la URL base del servidor, lista para {@link RaeVerificador#setUrlBase(String)}.
+     *
+     * @return la URL base terminada en {@code /}.
+     */
+    public String getUrlBase() {
+        return "http://127.0.0.1:" + servidor.getAddress().getPort() + "/";
+    }
+
+    /**
+     * Configura la latencia, la variacion y la probabilidad de fallo de las respuestas.
+     *
+     * @param latenciaMs la demora fija de cada respuesta, en milisegundos.
+     * @param jitterMs la demora aleatoria adicional maxima, en milisegundos.
+     * @param probabilidadFallo la probabilidad de responder con un error 503.
+     */
+    public void configurar(long latenciaMs, long jitterMs, double probabilidadFallo) {
+        this.latenciaMs = latenciaMs;
+        this.jitterMs = jitterMs;
+        this.probabilidadFallo = probabilidadFallo;
+    }
+
+    /**
+     * Obtiene la cantidad de solicitudes recibidas.
+     *
+     * @return la cantidad de solicitudes.
+     */
+    public long getSolicitudes() {
+        return solicitudes.get();
+    }
+
+    private void responder(HttpExchange intercambio) throws IOException {
+        solicitudes.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        try {
+            long demora = latenciaMs + (jitterMs > 0 ? random.nextLong(jitterMs + 1) : 0);
+            if (demora > 0) {
+                Thread.sleep(demora);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (random.nextDouble() < probabilidadFallo) {
+            intercambio.sendResponseHeaders(503, -1);
+            intercambio.close();
+            return;
+        }
+
+        String palabra = URLDecoder.decode(intercambio.getRequestURI().getPath().substring(1), StandardCharsets.UTF_8);
+        String resultados = palabras.contains(palabra)
+                ? "<article><header>" + palabra + "</header><p>1. m. Definición simulada.</p></article>"
+                : "Aviso: La palabra " + palabra + " no está en el Diccionario.";
+        byte[] cuerpo = ("<html><head><title>" + palabra + " | Diccionario</title></head><body>"
+                + "<div id=\"resultados\">" + resultados + "</div></body></html>").getBytes(StandardCharsets.UTF_8);
+
+        intercambio.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        intercambio.sendResponseHeaders(200, cuerpo.length);
+        try (OutputStream salida = intercambio.getResponseBody()) {
+            salida.write(cuerpo);
+        }
+    }
+
+    /**
+     * Detiene el servidor.
+     */
+    @Override
+    public void close() {
+        servidor.stop(0);
+    }
+}
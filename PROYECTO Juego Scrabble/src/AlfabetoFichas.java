@@ -0,0 +1,228 @@
+import java.util.Arrays;
+
+/**
+ * La clase AlfabetoFichas define el codigo de un byte de cada una de las 29 clases de ficha del juego.
+ * <p>
+ * Los digrafos CH, LL y RR y la Ñ son un solo simbolo, igual que en las fichas, por lo que una palabra
+ * se representa como la secuencia de codigos de sus fichas. En español los digrafos siempre se escriben
+ * con su ficha: las fichas C y H juntas no forman "CH".
+ * <p>
+ * Una letra jugada con un comodin lleva ademas la marca {@link #MARCA_COMODIN}: se busca en el lexico
+ * como la letra que representa pero no suma puntos.
+ */
+public class AlfabetoFichas {
+
+    /**
+     * Letras de las fichas, en el orden de sus codigos (el orden alfabetico del español).
+     */
+    public static final String[] LETRAS = {"A", "B", "C", "CH", "D", "E", "F", "G", "H", "I",
+            "J", "L", "LL", "M", "N", "Ñ", "O", "P", "Q", "R", "RR", "S", "T", "U", "V", "X", "Y", "Z", "#"};
+
+    /**
+     * Cantidad de fichas de cada letra en la bolsa.
+     */
+    public static final int[] CANTIDADES = {12, 2, 4, 1, 5, 12, 1, 2, 2, 6, 1, 4, 1, 2, 5, 1,
+            9, 2, 1, 5, 1, 6, 4, 5, 1, 1, 1, 1, 2};
+
+    /**
+     * Valor de cada letra.
+     */
+    public static final int[] VALORES = {1, 4, 3, 8, 3, 1, 5, 3, 5, 1, 10, 2, 8, 3, 2, 10, 1,
+            4, 8, 2, 8, 1, 2, 1, 4, 10, 5, 10, 0};
+
+    /**
+     * Codigo de la ficha comodin sin asignar.
+     */
+    public static final byte COMODIN = 28;
+
+    /**
+     * Codigo de una casilla vacia o de una letra que no corresponde a ninguna ficha.
+     */
+    public static final byte VACIA = -1;
+
+    /**
+     * Marca que se suma al codigo de una letra jugada con un comodin.
+     */
+    public static final byte MARCA_COMODIN = 0x20;
+
+    /**
+     * Mascara que obtiene el codigo de la letra sin la marca de comodin.
+     */
+    public static final byte MASCARA_LETRA = 0x1F;
+
+    private static final byte C = 2, CH = 3, H = 8, L = 11, LL = 12, R = 19, RR = 20;
+
+    /**
+     * Letras en minusculas, en el orden de sus codigos.
+     */
+    private static final String[] MINUSCULAS = new String[LETRAS.length];
+
+    /**
+     * Codigo de cada caracter en minuscula, o {@link #VACIA} si no corresponde a una ficha de una letra.
+     */
+    private static final byte[] CODIGOS_CARACTER = new byte[256];
+
+    static {
+        Arrays.fill(CODIGOS_CARACTER, VACIA);
+        for (byte codigo = 0; codigo < LETRAS.length; codigo++) {
+            MINUSCULAS[codigo] = LETRAS[codigo].toLowerCase();
+            if (LETRAS[codigo].length() == 1 && codigo != COMODIN) {
+                CODIGOS_CARACTER[MINUSCULAS[codigo].charAt(0)] = codigo;
+            }
+        }
+    }
+
+    /**
+     * Obtiene el codigo de la letra de una ficha.
+     *
+     * @param letra la letra de la ficha, en mayusculas, como en {@link Ficha#getLetra()}.
+     * @return el codigo de la letra, o {@link #VACIA} si no corresponde a ninguna ficha.
+     */
+    public static byte codigo(String letra) {
+        return switch (letra) {
+            case "A" -> 0;
+            case "B" -> 1;
+            case "C" -> C;
+            case "CH" -> CH;
+            case "D" -> 4;
+            case "E" -> 5;
+            case "F" -> 6;
+            case "G" -> 7;
+            case "H" -> H;
+            case "I" -> 9;
+            case "J" -> 10;
+            case "L" -> L;
+            case "LL" -> LL;
+            case "M" -> 13;
+            case "N" -> 14;
+            case "Ñ" -> 15;
+            case "O" -> 16;
+            case "P" -> 17;
+            case "Q" -> 18;
+            case "R" -> R;
+            case "RR" -> RR;
+            case "S" -> 21;
+            case "T" -> 22;
+            case "U" -> 23;
+            case "V" -> 24;
+            case "X" -> 25;
+            case "Y" -> 26;
+            case "Z" -> 27;
+            case "#" -> COMODIN;
+            default -> VACIA;
+        };
+    }
+
+    /**
+     * Obtiene la letra de un codigo, sin importar la marca de comodin.
+     *
+     * @param codigo el codigo de la ficha.
+     * @return la letra en mayusculas.
+     */
+    public static String letra(byte codigo) {
+        return LETRAS[codigo & MASCARA_LETRA];
+    }
+
+    /**
+     * Obtiene el valor de un codigo. Una letra jugada con un comodin vale 0.
+     *
+     * @param codigo el codigo de la ficha.
+     * @return el valor de la ficha.
+     */
+    public static int valor(byte codigo) {
+        return (codigo & MARCA_COMODIN) != 0 ? 0 : VALORES[codigo];
+    }
+
+    /**
+     * Suma el valor de una secuencia de codigos.
+     *
+     * @param codigos los codigos de las fichas.
+     * @return el puntaje de la secuencia.
+     */
+    public static int puntaje(byte[] codigos) {
+        int puntaje = 0;
+        for (byte codigo : codigos) {
+            puntaje += valor(codigo);
+        }
+        return puntaje;
+    }
+
+    /**
+     * Indica si una secuencia de codigos se puede leer como una palabra: todas sus fichas son letras
+     * y no tiene digrafos formados con fichas sueltas (C seguida de H, L seguida de L o R seguida de R).
+     *
+     * @param codigos los codigos de las fichas.
+     * @return {@code true} si la secuencia es una palabra bien formada, {@code false} en caso contrario.
+     */
+    public static boolean esSecuenciaValida(byte[] codigos) {
+        int anterior = VACIA;
+        for (byte codigo : codigos) {
+            int letra = codigo & MASCARA_LETRA;
+            if (codigo < 0 || letra == COMODIN) {
+                return false;
+            }
+            if ((anterior == C && letra == H) || (anterior == L && letra == L) || (anterior == R && letra == R)) {
+                return false;
+            }
+            anterior = letra;
+        }
+        return true;
+    }
+
+    /**
+     * Codifica un texto en la secuencia de codigos de sus fichas, leyendo CH, LL y RR como digrafos.
+     * El texto debe estar plegado ({@link Lexico#plegar(String)}): sin tildes ni dieresis.
+     *
+     * @param texto el texto a codificar, en mayusculas o minusculas.
+     * @return los codigos de las fichas, o {@code null} si el texto tiene caracteres que no son fichas.
+     */
+    public static byte[] codificar(CharSequence texto) {
+        byte[] codigos = new byte[texto.length()];
+        int longitud = 0;
+        for (int i = 0; i < texto.length(); i++) {
+            char letra = Character.toLowerCase(texto.charAt(i));
+            byte codigo = letra < CODIGOS_CARACTER.length ? CODIGOS_CARACTER[letra] : VACIA;
+            if (codigo == VACIA) {
+                return null;
+            }
+            if (i + 1 < texto.length() && Character.toLowerCase(texto.charAt(i + 1)) == letra && (codigo == L || codigo == R)) {
+                codigo = codigo == L ? LL : RR;
+                i++;
+            } else if (codigo == C && i + 1 < texto.length() && Character.toLowerCase(texto.charAt(i + 1)) == 'h') {
+                codigo = CH;
+                i++;
+            }
+            codigos[longitud++] = codigo;
+        }
+        return longitud == codigos.length ? codigos : Arrays.copyOf(codigos, longitud);
+    }
+
+    /**
+     * Convierte una secuencia de codigos en el texto que forman sus fichas, en minusculas.
+     *
+     * @param codigos los codigos de las fichas.
+     * @return el texto de la secuencia.
+     */
+    public static String texto(byte[] codigos) {
+        StringBuilder texto = new StringBuilder(codigos.length + 2);
+        for (byte codigo : codigos) {
+            texto.append(MINUSCULAS[codigo & MASCARA_LETRA]);
+        }
+        return texto.toString();
+    }
+
+    /**
+     * Convierte una secuencia de codigos en la clave de los automatas del lexico: un caracter por ficha,
+     * cuyo valor es el codigo sin la marca de comodin.
+     *
+     * @param codigos los codigos de las fichas.
+     * @return la clave de la secuencia.
+     */
+    public static String clave(byte[] codigos) {
+        char[] clave = new char[codigos.length];
+        for (int i = 0; i < codigos.length; i++) {
+            clave[i] = (char) (codigos[i] & MASCARA_LETRA);
+        }
+        return new String(clave);
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * La interfaz Automata representa un conjunto de palabras que se puede consultar letra por letra,
+ * como el {@link Dawg} construido en memoria o el {@link TrieLouds} mapeado desde disco.
+ */
+public interface Automata {
+
+    /**
+     * Verifica si una palabra pertenece al automata.
+     *
+     * @param palabra la palabra a buscar.
+     * @return {@code true} si la palabra esta almacenada, {@code false} en caso contrario.
+     */
+    boolean contiene(CharSequence palabra);
+
+    /**
+     * Verifica si una secuencia de codigos de ficha pertenece al automata. Cada codigo se busca como el
+     * caracter de su valor sin la marca de comodin, igual que en {@link AlfabetoFichas#clave(byte[])}.
+     *
+     * @param codigos los codigos de las fichas.
+     * @return {@code true} si la secuencia esta almacenada, {@code false} en caso contrario.
+     */
+    boolean contiene(byte[] codigos);
+
+    /**
+     * Obtiene la cantidad de palabras almacenadas.
+     *
+     * @return la cantidad de palabras.
+     */
+    int getCantidadPalabras();
+}
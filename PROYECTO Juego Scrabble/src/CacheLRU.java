@@ -0,0 +1,141 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * La clase CacheLRU es una cache en memoria de tamaño limitado que descarta el elemento usado hace mas tiempo.
+ * <p>
+ * Lleva la cuenta de aciertos, fallos y descartes para poder medir su efectividad. Es segura para
+ * usarse desde varios hilos.
+ *
+ * @param <K> el tipo de las claves.
+ * @param <V> el tipo de los valores.
+ */
+public class CacheLRU<K, V> {
+
+    /**
+     * Mapa ordenado por acceso que guarda los elementos de la cache.
+     */
+    private final LinkedHashMap<K, V> elementos;
+
+    /**
+     * Cantidad maxima de elementos.
+     */
+    private final int capacidad;
+
+    /**
+     * Cantidad de busquedas que encontraron el elemento.
+     */
+    private long aciertos;
+
+    /**
+     * Cantidad de busquedas que no encontraron el elemento.
+     */
+    private long fallos;
+
+    /**
+     * Cantidad de elementos descartados por falta de espacio.
+     */
+    private long descartes;
+
+    /**
+     * Constructor que inicializa la cache con la capacidad indicada.
+     *
+     * @param capacidad la cantidad maxima de elementos.
+     */
+    public CacheLRU(int capacidad) {
+        this.capacidad = capacidad;
+        this.elementos = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > CacheLRU.this.capacidad) {
+                    descartes++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave y la marca como usada recientemente.
+     *
+     * @param clave la clave a buscar.
+     * @return el valor asociado, o {@code null} si la clave no esta en la cache.
+     */
+    public synchronized V obtener(K clave) {
+        V valor = elementos.get(clave);
+        if (valor != null) {
+            aciertos++;
+        } else {
+            fallos++;
+        }
+        return valor;
+    }
+
+    /**
+     * Guarda un valor en la cache, descartando el elemento menos usado si se supera la capacidad.
+     *
+     * @param clave la clave del valor.
+     * @param valor el valor a guardar.
+     */
+    public synchronized void guardar(K clave, V valor) {
+        elementos.put(clave, valor);
+    }
+
+    /**
+     * Elimina todos los elementos y reinicia los contadores.
+     */
+    public synchronized void limpiar() {
+        elementos.clear();
+        aciertos = 0;
+        fallos = 0;
+        descartes = 0;
+    }
+
+    /**
+     * Obtiene la cantidad de elementos guardados.
+     *
+     * @return la cantidad de elementos.
+     */
+    public synchronized int size() {
+        return elementos.size();
+    }
+
+    /**
+     * Obtiene la cantidad de aciertos.
+     *
+     * @return la cantidad de busquedas que encontraron el elemento.
+     */
+    public synchronized long getAciertos() {
+        return aciertos;
+    }
+
+    /**
+     * Obtiene la cantidad de fallos.
+     *
+     * @return la cantidad de busquedas que no encontraron el elemento.
+     */
+    public synchronized long getFallos() {
+        return fallos;
+    }
+
+    /**
+     * Obtiene la cantidad de descartes.
+     *
+     * @return la cantidad de elementos descartados por falta de espacio.
+     */
+    public synchronized long getDescartes() {
+        return descartes;
+    }
+
+    /**
+     * Devuelve un resumen de los contadores de la cache.
+     *
+     * @return una cadena con el tamaño, aciertos, fallos y descartes.
+     */
+    @Override
+    public synchronized String toString() {
+        return "CacheLRU{tamaño=" + elementos.size() + "/" + capacidad + ", aciertos=" + aciertos
+                + ", fallos=" + fallos + ", descartes=" + descartes + "}";
+    }
+}
@@ -0,0 +1,319 @@
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * La clase CacheVerificaciones guarda en disco el resultado de las consultas a la RAE, tanto positivas como negativas.
+ * <p>
+ * Cada resultado se agrega al final de un archivo de registro (solo se escribe al final) y se indexa en una
+ * tabla hash de direccionamiento abierto guardada en un archivo mapeado en memoria. Si el indice no coincide
+ * con el registro (por ejemplo tras un cierre abrupto) se reconstruye leyendo el registro completo.
+ * <p>
+ * Formato de cada entrada del registro: longitud (short), palabra en UTF-8, valida (byte), marca de tiempo (long).
+ */
+public class CacheVerificaciones {
+
+    /**
+     * Numero magico que identifica el archivo de indice.
+     */
+    private static final int MAGICO = 0x53435643;
+
+    /**
+     * Tamaño de la cabecera del indice: magico, capacidad, ocupados y longitud del registro indexada.
+     */
+    private static final int CABECERA = 24;
+
+    /**
+     * Tamaño de cada celda del indice: posicion en el registro + 1 (long), hash (int), valida (int), marca (long).
+     */
+    private static final int CELDA = 24;
+
+    /**
+     * Capacidad inicial del indice, en celdas.
+     */
+    private static final int CAPACIDAD_INICIAL = 1 << 12;
+
+    /**
+     * Archivo de registro con todas las entradas.
+     */
+    private final FileChannel registro;
+
+    /**
+     * Archivo del indice mapeado en memoria.
+     */
+    private final RandomAccessFile archivoIndice;
+
+    /**
+     * Vista en memoria del archivo de indice.
+     */
+    private MappedByteBuffer indice;
+
+    /**
+     * Cantidad de celdas del indice (potencia de dos).
+     */
+    private int capacidad;
+
+    /**
+     * Cantidad de celdas ocupadas del indice.
+     */
+    private int ocupados;
+
+    /**
+     * Tiempo durante el cual un resultado negativo se considera vigente.
+     */
+    private Duration ttlNegativos;
+
+    /**
+     * Abre (o crea) la cache en el directorio indicado.
+     *
+     * @param directorio el directorio donde se guardan los archivos de registro e indice.
+     * @param ttlNegativos el tiempo de vida de los resultados negativos.
+     * @throws IOException si ocurre un error al abrir los archivos.
+     */
+    public CacheVerificaciones(Path directorio, Duration ttlNegativos) throws IOException {
+        this.ttlNegativos = ttlNegativos;
+        this.registro = new RandomAccessFile(directorio.resolve("verificaciones.log").toFile(), "rw").getChannel();
+        this.archivoIndice = new RandomAccessFile(directorio.resolve("verificaciones.idx").toFile(), "rw");
+
+        if (archivoIndice.length() >= CABECERA) {
+            mapear(archivoIndice.length());
+            capacidad = indice.getInt(4);
+            ocupados = indice.getInt(8);
+            boolean valido = indice.getInt(0) == MAGICO
+                    && Integer.bitCount(capacidad) == 1
+                    && archivoIndice.length() == CABECERA + (long) capacidad * CELDA
+                    && indice.getLong(16) == registro.size();
+            if (!valido) {
+                reconstruir(CAPACIDAD_INICIAL);
+            }
+        } else {
+            reconstruir(CAPACIDAD_INICIAL);
+        }
+    }
+
+    /**
+     * Busca el resultado guardado para una palabra.
+     *
+     * @param palabra la palabra a buscar.
+     * @return {@code TRUE} o {@code FALSE} segun el resultado guardado, o {@code null} si no hay un resultado vigente.
+     * @throws IOException si ocurre un error al leer el registro.
+     */
+    public synchronized Boolean buscar(String palabra) throws IOException {
+        byte[] bytes = palabra.getBytes(StandardCharsets.UTF_8);
+        int celda = buscarCelda(bytes, hash(bytes));
+        int base = CABECERA + celda * CELDA;
+        if (indice.getLong(base) == 0) {
+            return null;
+        }
+        boolean valida = indice.getInt(base + 12) != 0;
+        if (!valida && System.currentTimeMillis() - indice.getLong(base + 16) > ttlNegativos.toMillis()) {
+            return null;
+        }
+        return valida;
+    }
+
+    /**
+     * Guarda el resultado de una verificacion, agregandolo al registro y actualizando el indice.
+     *
+     * @param palabra la palabra verificada.
+     * @param valida el resultado de la verificacion.
+     * @throws IOException si ocurre un error al escribir los archivos.
+     */
+    public synchronized void guardar(String palabra, boolean valida) throws IOException {
+        byte[] bytes = palabra.getBytes(StandardCharsets.UTF_8);
+        long marca = System.currentTimeMillis();
+        long posicion = registro.size();
+
+        ByteBuffer entrada = ByteBuffer.allocate(2 + bytes.length + 1 + 8);
+        entrada.putShort((short) bytes.length).put(bytes).put((byte) (valida ? 1 : 0)).putLong(marca).flip();
+        while (entrada.hasRemaining()) {
+            registro.write(entrada, posicion + entrada.position());
+        }
+
+        indexar(bytes, posicion, valida, marca);
+        indice.putLong(16, registro.size());
+    }
+
+    /**
+     * Establece el tiempo de vida de los resultados negativos.
+     *
+     * @param ttlNegativos el nuevo tiempo de vida.
+     */
+    public synchronized void setTtlNegativos(Duration ttlNegativos) {
+        this.ttlNegativos = ttlNegativos;
+    }
+
+    /**
+     * Obtiene la cantidad de palabras distintas guardadas.
+     *
+     * @return la cantidad de palabras.
+     */
+    public synchronized int getCantidadEntradas() {
+        return ocupados;
+    }
+
+    /**
+     * Inserta o actualiza una entrada en el indice, duplicando su capacidad si supera la mitad de ocupacion.
+     */
+    private void indexar(byte[] bytes, long posicion, boolean valida, long marca) throws IOException {
+        escribirCelda(bytes, posicion, valida, marca);
+        indice.putInt(8, ocupados);
+        if (ocupados * 2 > capacidad) {
+            reconstruir(capacidad * 2);
+        }
+    }
+
+    /**
+     * Escribe la entrada en su celda del indice, contandola si la celda estaba vacia.
+     */
+    private void escribirCelda(byte[] bytes, long posicion, boolean valida, long marca) throws IOException {
+        int hash = hash(bytes);
+        int base = CABECERA + buscarCelda(bytes, hash) * CELDA;
+        if (indice.getLong(base) == 0) {
+            ocupados++;
+        }
+        indice.putLong(base, posicion + 1);
+        indice.putInt(base + 8, hash);
+        indice.putInt(base + 12, valida ? 1 : 0);
+        indice.putLong(base + 16, marca);
+    }
+
+    /**
+     * Busca la celda de una palabra por sondeo lineal.
+     *
+     * @return la celda que contiene la palabra, o la primera celda vacia encontrada.
+     */
+    private int buscarCelda(byte[] bytes, int hash) throws IOException {
+        int mascara = capacidad - 1;
+        int celda = hash & mascara;
+        while (true) {
+            int base = CABECERA + celda * CELDA;
+            long posicion = indice.getLong(base);
+            if (posicion == 0) {
+                return celda;
+            }
+            if (indice.getInt(base + 8) == hash && Arrays.equals(leerPalabra(posicion - 1), bytes)) {
+                return celda;
+            }
+            celda = (celda + 1) & mascara;
+        }
+    }
+
+    /**
+     * Lee del registro la palabra de la entrada que comienza en la posicion dada.
+     *
+     * @return los bytes de la palabra, o {@code null} si la longitud guardada no es valida (negativa o mas
+     * larga que lo que queda del registro), como en una entrada cortada o corrupta.
+     */
+    private byte[] leerPalabra(long posicion) throws IOException {
+        ByteBuffer longitud = ByteBuffer.allocate(2);
+        while (longitud.hasRemaining()) {
+            if (registro.read(longitud, posicion + longitud.position()) < 0) {
+                return null;
+            }
+        }
+        short largo = longitud.flip().getShort();
+        if (largo < 0 || largo > registro.size() - posicion - 2) {
+            return null;
+        }
+        byte[] bytes = new byte[largo];
+        ByteBuffer palabra = ByteBuffer.wrap(bytes);
+        while (palabra.hasRemaining()) {
+            if (registro.read(palabra, posicion + 2 + palabra.position()) < 0) {
+                break;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Vacia el indice y lo vuelve a llenar leyendo el registro de principio a fin.
+     * La capacidad se duplica a partir del minimo dado hasta que todas las entradas quepan con ocupacion menor a la mitad.
+     */
+    private void reconstruir(int capacidadMinima) throws IOException {
+        int nuevaCapacidad = capacidadMinima;
+        int entradas = recorrerRegistro(false);
+        while (entradas * 2 > nuevaCapacidad) {
+            nuevaCapacidad *= 2;
+        }
+
+        long longitud = CABECERA + (long) nuevaCapacidad * CELDA;
+        if (archivoIndice.length() != longitud) {
+            archivoIndice.setLength(longitud);
+        }
+        mapear(longitud);
+        for (int i = 0; i < longitud; i += 8) {
+            indice.putLong(i, 0L);
+        }
+        capacidad = nuevaCapacidad;
+        ocupados = 0;
+        indice.putInt(0, MAGICO);
+        indice.putInt(4, capacidad);
+
+        recorrerRegistro(true);
+        indice.putInt(8, ocupados);
+        indice.putLong(16, registro.size());
+    }
+
+    /**
+     * Recorre el registro de principio a fin. Una entrada parcial o con una longitud invalida se toma como el
+     * fin de la parte valida del registro: se descarta junto con todo lo que la sigue.
+     *
+     * @param indexar {@code true} para insertar cada entrada en el indice, {@code false} para solo contarlas.
+     * @return la cantidad de entradas completas del registro.
+     */
+    private int recorrerRegistro(boolean indexar) throws IOException {
+        long tamaño = registro.size();
+        long posicion = 0;
+        int entradas = 0;
+        ByteBuffer cola = ByteBuffer.allocate(9);
+        while (posicion + 2 <= tamaño) {
+            byte[] bytes = leerPalabra(posicion);
+            if (bytes == null) {
+                break;
+            }
+            long fin = posicion + 2 + bytes.length + 9;
+            if (fin > tamaño) {
+                break;
+            }
+            if (indexar) {
+                cola.clear();
+                registro.read(cola, posicion + 2 + bytes.length);
+                cola.flip();
+                boolean valida = cola.get() != 0;
+                escribirCelda(bytes, posicion, valida, cola.getLong());
+            }
+            entradas++;
+            posicion = fin;
+        }
+        if (posicion != tamaño) {
+            registro.truncate(posicion);
+        }
+        return entradas;
+    }
+
+    /**
+     * Mapea en memoria el archivo de indice completo.
+     */
+    private void mapear(long longitud) throws IOException {
+        indice = archivoIndice.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, longitud);
+    }
+
+    /**
+     * Calcula el hash FNV-1a de los bytes de una palabra.
+     */
+    private static int hash(byte[] bytes) {
+        int hash = 0x811C9DC5;
+        for (byte b : bytes) {
+            hash ^= b & 0xFF;
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+}
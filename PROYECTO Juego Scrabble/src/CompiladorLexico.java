@@ -0,0 +1,192 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * La clase CompiladorLexico convierte una lista de palabras en texto en un diccionario binario
+ * que {@link TrieLouds} puede mapear en memoria al iniciar el juego.
+ * <p>
+ * Uso: {@code java CompiladorLexico lexico.txt lexico.bin}
+ */
+public class CompiladorLexico {
+
+    /**
+     * Compila la lista de palabras indicada en el primer argumento y guarda el resultado en el segundo.
+     *
+     * @param args la ruta de la lista de palabras y la ruta del archivo compilado.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Uso: java CompiladorLexico <lexico.txt> <lexico.bin>");
+            return;
+        }
+        try {
+            long inicio = System.nanoTime();
+            List<String> palabras = Lexico.leerPalabras(Path.of(args[0]));
+            compilar(palabras, Path.of(args[1]));
+            TrieLouds trie = TrieLouds.abrir(Path.of(args[1]));
+            System.out.printf("Diccionario compilado: %d palabras, %d nodos, %d bytes, suma de control %s (%d ms)%n",
+                    trie.getCantidadPalabras(), trie.getCantidadNodos(), Files.size(Path.of(args[1])),
+                    trie.verificarSumaControl() ? "correcta" : "INCORRECTA", (System.nanoTime() - inicio) / 1_000_000);
+        } catch (IOException e) {
+            System.out.println("Error al compilar el lexico: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compila una lista de palabras y escribe el diccionario binario.
+     * Las palabras se guardan como la secuencia de codigos de ficha de su forma plegada y sus grafias con
+     * tilde se guardan aparte. Las palabras con letras que no tienen ficha se descartan.
+     *
+     * @param palabras las palabras del lexico.
+     * @param destino la ruta del archivo a escribir.
+     * @throws IOException si ocurre un error al escribir el archivo.
+     */
+    public static void compilar(List<String> palabras, Path destino) throws IOException {
+        Files.write(destino, compilar(palabras).array());
+    }
+
+    /**
+     * Compila una lista de palabras al formato descrito en {@link TrieLouds}.
+     *
+     * @param palabras las palabras del lexico.
+     * @return el contenido del diccionario binario.
+     */
+    public static ByteBuffer compilar(List<String> palabras) {
+        TreeSet<String> clavesOrdenadas = new TreeSet<>();
+        TreeMap<String, TreeSet<String>> grafias = new TreeMap<>();
+        for (String palabra : palabras) {
+            String plegada = Lexico.plegar(palabra);
+            byte[] codigosFichas = AlfabetoFichas.codificar(plegada);
+            if (codigosFichas == null) {
+                continue;
+            }
+            clavesOrdenadas.add(AlfabetoFichas.clave(codigosFichas));
+            grafias.computeIfAbsent(plegada, _ -> new TreeSet<>()).add(palabra.toLowerCase());
+        }
+        grafias.entrySet().removeIf(entrada -> entrada.getValue().size() == 1
+                && entrada.getValue().first().equals(entrada.getKey()));
+        String[] claves = clavesOrdenadas.toArray(new String[0]);
+
+        TreeSet<Character> simbolos = new TreeSet<>();
+        for (String clave : claves) {
+            for (char letra : clave.toCharArray()) {
+                simbolos.add(letra);
+            }
+        }
+        if (simbolos.size() > 256) {
+            throw new IllegalArgumentException("El alfabeto del lexico tiene mas de 256 simbolos");
+        }
+        char[] alfabeto = new char[simbolos.size()];
+        int[] codigos = new int[Character.MAX_VALUE + 1];
+        int indice = 0;
+        for (char simbolo : simbolos) {
+            alfabeto[indice] = simbolo;
+            codigos[simbolo] = indice++;
+        }
+
+        // Recorrido en anchura: cada nodo es el rango de palabras que comparten el prefijo de su profundidad.
+        ArrayList<Boolean> finales = new ArrayList<>();
+        ArrayList<Integer> grados = new ArrayList<>();
+        ArrayList<Byte> etiquetas = new ArrayList<>();
+        ArrayDeque<int[]> pendientes = new ArrayDeque<>();
+        pendientes.add(new int[]{0, claves.length, 0});
+        while (!pendientes.isEmpty()) {
+            int[] nodo = pendientes.poll();
+            int desde = nodo[0];
+            int hasta = nodo[1];
+            int profundidad = nodo[2];
+            boolean esFinal = desde < hasta && claves[desde].length() == profundidad;
+            finales.add(esFinal);
+            int i = esFinal ? desde + 1 : desde;
+            int grado = 0;
+            while (i < hasta) {
+                char letra = claves[i].charAt(profundidad);
+                int j = i + 1;
+                while (j < hasta && claves[j].charAt(profundidad) == letra) {
+                    j++;
+                }
+                etiquetas.add((byte) codigos[letra]);
+                pendientes.add(new int[]{i, j, profundidad + 1});
+                grado++;
+                i = j;
+            }
+            grados.add(grado);
+        }
+
+        int cantidadNodos = finales.size();
+        TrieLouds.Secciones secciones = new TrieLouds.Secciones(cantidadNodos, alfabeto.length);
+
+        ArrayList<byte[]> textoGrafias = new ArrayList<>();
+        int tamañoTexto = 0;
+        for (Map.Entry<String, TreeSet<String>> entrada : grafias.entrySet()) {
+            byte[] bytes = (entrada.getKey() + "\t" + String.join(",", entrada.getValue())).getBytes(StandardCharsets.UTF_8);
+            textoGrafias.add(bytes);
+            tamañoTexto += bytes.length;
+        }
+        int tamaño = secciones.inicioGrafias + 4 * (textoGrafias.size() + 1) + tamañoTexto;
+
+        ByteBuffer datos = ByteBuffer.allocate(tamaño).order(ByteOrder.LITTLE_ENDIAN);
+        datos.putInt(0, TrieLouds.MAGICO);
+        datos.putInt(4, TrieLouds.VERSION);
+        datos.putInt(8, cantidadNodos);
+        datos.putInt(12, claves.length);
+        datos.putInt(24, alfabeto.length);
+        datos.putInt(28, textoGrafias.size());
+        for (int i = 0; i < alfabeto.length; i++) {
+            datos.putChar(TrieLouds.CABECERA + 2 * i, alfabeto[i]);
+        }
+
+        long[] louds = new long[secciones.palabrasLouds];
+        louds[0] = 1L;
+        int bit = 2;
+        for (int grado : grados) {
+            for (int k = 0; k < grado; k++, bit++) {
+                louds[bit >>> 6] |= 1L << bit;
+            }
+            bit++;
+        }
+        int unos = 0;
+        for (int palabra = 0; palabra < louds.length; palabra++) {
+            if (palabra % (TrieLouds.BITS_BLOQUE / 64) == 0) {
+                datos.putInt(secciones.inicioRangos + 4 * (palabra / (TrieLouds.BITS_BLOQUE / 64)), unos);
+            }
+            datos.putLong(secciones.inicioLouds + 8 * palabra, louds[palabra]);
+            unos += Long.bitCount(louds[palabra]);
+        }
+
+        for (int nodo = 0; nodo < cantidadNodos; nodo++) {
+            if (finales.get(nodo)) {
+                int posicion = secciones.inicioFinales + 8 * (nodo >>> 6);
+                datos.putLong(posicion, datos.getLong(posicion) | (1L << nodo));
+            }
+        }
+        for (int i = 0; i < etiquetas.size(); i++) {
+            datos.put(secciones.inicioEtiquetas + i, etiquetas.get(i));
+        }
+
+        int desplazamiento = 0;
+        int inicioTexto = secciones.inicioGrafias + 4 * (textoGrafias.size() + 1);
+        for (int i = 0; i < textoGrafias.size(); i++) {
+            datos.putInt(secciones.inicioGrafias + 4 * i, desplazamiento);
+            datos.put(inicioTexto + desplazamiento, textoGrafias.get(i));
+            desplazamiento += textoGrafias.get(i).length;
+        }
+        datos.putInt(secciones.inicioGrafias + 4 * textoGrafias.size(), desplazamiento);
+
+        CRC32 crc = new CRC32();
+        crc.update(datos.duplicate().position(TrieLouds.CABECERA));
+        datos.putLong(16, crc.getValue());
+        return datos;
+    }
+}
@@ -35,11 +35,11 @@ public record Controlador(Tablero tablero) {
     private int[] actualizarPosicion(int i, int j, int key) {
         if ((key == 'w' || key == 'W') && i > 0) {
             i--;
-        } else if ((key == 's' || key == 'S') && i < tablero.getTablero().length - 1) {
+        } else if ((key == 's' || key == 'S') && i < tablero.getFilas() - 1) {
             i++;
         } else if ((key == 'a' || key == 'A') && j > 0) {
             j--;
-        } else if ((key == 'd' || key == 'D') && j < tablero.getTablero()[0].length - 1) {
+        } else if ((key == 'd' || key == 'D') && j < tablero.getColumnas() - 1) {
             j++;
         }
         return new int[]{i, j};
@@ -0,0 +1,331 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * La clase Dawg representa un automata finito aciclico minimo (DAWG) que almacena un conjunto de palabras.
+ * <p>
+ * Se construye de forma incremental a partir de una lista de palabras ordenada (algoritmo de Daciuk) y
+ * luego se compacta en arreglos primitivos, de modo que cada consulta recorre a lo sumo un nodo por letra.
+ */
+public class Dawg implements Automata {
+
+    /**
+     * Indice del primer arco de cada nodo dentro de los arreglos de arcos.
+     */
+    private final int[] primerArco;
+
+    /**
+     * Cantidad de arcos salientes de cada nodo.
+     */
+    private final int[] cantidadArcos;
+
+    /**
+     * Indica si cada nodo es final (termina una palabra).
+     */
+    private final boolean[] esFinal;
+
+    /**
+     * Etiqueta de cada arco, ordenadas por nodo de origen y por caracter.
+     */
+    private final char[] etiquetas;
+
+    /**
+     * Nodo destino de cada arco.
+     */
+    private final int[] destinos;
+
+    /**
+     * Cantidad de palabras almacenadas.
+     */
+    private final int cantidadPalabras;
+
+    /**
+     * Constructor privado usado por {@link #construir(List)}.
+     */
+    private Dawg(int[] primerArco, int[] cantidadArcos, boolean[] esFinal, char[] etiquetas, int[] destinos, int cantidadPalabras) {
+        this.primerArco = primerArco;
+        this.cantidadArcos = cantidadArcos;
+        this.esFinal = esFinal;
+        this.etiquetas = etiquetas;
+        this.destinos = destinos;
+        this.cantidadPalabras = cantidadPalabras;
+    }
+
+    /**
+     * Construye un DAWG minimo a partir de una lista de palabras.
+     *
+     * @param palabras las palabras a almacenar; se ordenan y se eliminan duplicados.
+     * @return el automata construido.
+     */
+    public static Dawg construir(List<String> palabras) {
+        ArrayList<String> ordenadas = new ArrayList<>(palabras);
+        ordenadas.sort(null);
+
+        Constructor constructor = new Constructor();
+        String anterior = null;
+        int cantidad = 0;
+        for (String palabra : ordenadas) {
+            if (palabra.isEmpty() || palabra.equals(anterior)) {
+                continue;
+            }
+            constructor.insertar(palabra, anterior == null ? "" : anterior);
+            anterior = palabra;
+            cantidad++;
+        }
+        constructor.minimizar(0);
+        return constructor.compactar(cantidad);
+    }
+
+    /**
+     * Verifica si una palabra pertenece al automata.
+     *
+     * @param palabra la palabra a buscar.
+     * @return {@code true} si la palabra esta almacenada, {@code false} en caso contrario.
+     */
+    @Override
+    public boolean contiene(CharSequence palabra) {
+        int nodo = 0;
+        for (int i = 0; i < palabra.length(); i++) {
+            nodo = siguiente(nodo, palabra.charAt(i));
+            if (nodo < 0) {
+                return false;
+            }
+        }
+        return esFinal[nodo];
+    }
+
+    @Override
+    public boolean contiene(byte[] codigos) {
+        int nodo = 0;
+        for (byte codigo : codigos) {
+            nodo = siguiente(nodo, (char) (codigo & AlfabetoFichas.MASCARA_LETRA));
+            if (nodo < 0) {
+                return false;
+            }
+        }
+        return esFinal[nodo];
+    }
+
+    /**
+     * Busca el nodo destino del arco con la etiqueta dada usando busqueda binaria.
+     * La raiz del automata es el nodo 0.
+     *
+     * @param nodo el nodo de origen.
+     * @param letra la etiqueta del arco.
+     * @return el nodo destino, o -1 si no existe el arco.
+     */
+    public int siguiente(int nodo, char letra) {
+        int bajo = primerArco[nodo];
+        int alto = bajo + cantidadArcos[nodo] - 1;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            char etiqueta = etiquetas[medio];
+            if (etiqueta < letra) {
+                bajo = medio + 1;
+            } else if (etiqueta > letra) {
+                alto = medio - 1;
+            } else {
+                return destinos[medio];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Obtiene la cantidad de palabras almacenadas.
+     *
+     * @return la cantidad de palabras.
+     */
+    @Override
+    public int getCantidadPalabras() {
+        return cantidadPalabras;
+    }
+
+    /**
+     * Indica si un nodo termina una palabra.
+     *
+     * @param nodo el nodo a consultar.
+     * @return {@code true} si el nodo es final, {@code false} en caso contrario.
+     */
+    public boolean esFinal(int nodo) {
+        return esFinal[nodo];
+    }
+
+    /**
+     * Obtiene el indice del primer arco saliente de un nodo. Los arcos de un nodo son consecutivos
+     * y estan ordenados por etiqueta.
+     *
+     * @param nodo el nodo de origen.
+     * @return el indice del primer arco.
+     */
+    public int getPrimerArco(int nodo) {
+        return primerArco[nodo];
+    }
+
+    /**
+     * Obtiene la cantidad de arcos salientes de un nodo.
+     *
+     * @param nodo el nodo de origen.
+     * @return la cantidad de arcos.
+     */
+    public int getCantidadArcos(int nodo) {
+        return cantidadArcos[nodo];
+    }
+
+    /**
+     * Obtiene la etiqueta de un arco.
+     *
+     * @param arco el indice del arco.
+     * @return la etiqueta del arco.
+     */
+    public char getEtiqueta(int arco) {
+        return etiquetas[arco];
+    }
+
+    /**
+     * Obtiene el nodo destino de un arco.
+     *
+     * @param arco el indice del arco.
+     * @return el nodo destino.
+     */
+    public int getDestino(int arco) {
+        return destinos[arco];
+    }
+
+    /**
+     * Obtiene la cantidad de nodos del automata minimo.
+     *
+     * @return la cantidad de nodos.
+     */
+    public int getCantidadNodos() {
+        return esFinal.length;
+    }
+
+    /**
+     * Obtiene la cantidad de arcos del automata minimo.
+     *
+     * @return la cantidad de arcos.
+     */
+    public int getCantidadArcos() {
+        return etiquetas.length;
+    }
+
+    /**
+     * Nodo mutable usado solo durante la construccion.
+     * Dos nodos son equivalentes si tienen la misma finalidad y los mismos arcos hacia los mismos nodos.
+     */
+    private static final class Nodo {
+        private final TreeMap<Character, Nodo> hijos = new TreeMap<>();
+        private boolean esFinal;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Nodo that)) return false;
+            if (esFinal != that.esFinal || hijos.size() != that.hijos.size()) return false;
+            for (Map.Entry<Character, Nodo> arco : hijos.entrySet()) {
+                if (that.hijos.get(arco.getKey()) != arco.getValue()) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = esFinal ? 1 : 0;
+            for (Map.Entry<Character, Nodo> arco : hijos.entrySet()) {
+                hash = 31 * hash + arco.getKey();
+                hash = 31 * hash + System.identityHashCode(arco.getValue());
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * Arco aun no minimizado: padre, etiqueta e hijo.
+     */
+    private record Arco(Nodo padre, char letra, Nodo hijo) {
+    }
+
+    /**
+     * Implementa la construccion incremental de Daciuk sobre palabras ordenadas.
+     */
+    private static final class Constructor {
+        private final Nodo raiz = new Nodo();
+        private final HashMap<Nodo, Nodo> registro = new HashMap<>();
+        private final ArrayList<Arco> sinRevisar = new ArrayList<>();
+
+        private void insertar(String palabra, String anterior) {
+            int prefijo = 0;
+            int limite = Math.min(palabra.length(), anterior.length());
+            while (prefijo < limite && palabra.charAt(prefijo) == anterior.charAt(prefijo)) {
+                prefijo++;
+            }
+            minimizar(prefijo);
+
+            Nodo nodo = sinRevisar.isEmpty() ? raiz : sinRevisar.getLast().hijo();
+            for (int i = prefijo; i < palabra.length(); i++) {
+                Nodo hijo = new Nodo();
+                nodo.hijos.put(palabra.charAt(i), hijo);
+                sinRevisar.add(new Arco(nodo, palabra.charAt(i), hijo));
+                nodo = hijo;
+            }
+            nodo.esFinal = true;
+        }
+
+        private void minimizar(int hasta) {
+            for (int i = sinRevisar.size() - 1; i >= hasta; i--) {
+                Arco arco = sinRevisar.remove(i);
+                Nodo existente = registro.putIfAbsent(arco.hijo(), arco.hijo());
+                if (existente != null) {
+                    arco.padre().hijos.put(arco.letra(), existente);
+                }
+            }
+        }
+
+        private Dawg compactar(int cantidadPalabras) {
+            ArrayList<Nodo> orden = new ArrayList<>();
+            ArrayDeque<Nodo> pendientes = new ArrayDeque<>();
+            // Se usa identidad para numerar: todos los nodos ya son canonicos tras minimizar.
+            IdentityHashMap<Nodo, Integer> vistos = new IdentityHashMap<>();
+            vistos.put(raiz, 0);
+            orden.add(raiz);
+            pendientes.add(raiz);
+            int totalArcos = 0;
+            while (!pendientes.isEmpty()) {
+                Nodo nodo = pendientes.poll();
+                totalArcos += nodo.hijos.size();
+                for (Nodo hijo : nodo.hijos.values()) {
+                    if (!vistos.containsKey(hijo)) {
+                        vistos.put(hijo, orden.size());
+                        orden.add(hijo);
+                        pendientes.add(hijo);
+                    }
+                }
+            }
+
+            int[] primerArco = new int[orden.size()];
+            int[] cantidadArcos = new int[orden.size()];
+            boolean[] esFinal = new boolean[orden.size()];
+            char[] etiquetas = new char[totalArcos];
+            int[] destinos = new int[totalArcos];
+            int arco = 0;
+            for (int id = 0; id < orden.size(); id++) {
+                Nodo nodo = orden.get(id);
+                primerArco[id] = arco;
+                cantidadArcos[id] = nodo.hijos.size();
+                esFinal[id] = nodo.esFinal;
+                for (Map.Entry<Character, Nodo> hijo : nodo.hijos.entrySet()) {
+                    etiquetas[arco] = hijo.getKey();
+                    destinos[arco] = vistos.get(hijo.getValue());
+                    arco++;
+                }
+            }
+            return new Dawg(primerArco, cantidadArcos, esFinal, etiquetas, destinos, cantidadPalabras);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * La clase EstadisticasTorneo resume los resultados de un {@link Torneo}: victorias, distribucion de
+ * puntajes, palabras por partida y tiempo por jugada de cada jugador. Se guarda en JSON con {@link JsonUtil}.
+ */
+public class EstadisticasTorneo {
+
+    /**
+     * Ancho de cada intervalo del histograma de puntajes.
+     */
+    private static final int ANCHO_INTERVALO = 25;
+
+    /**
+     * Las estadisticas de uno de los dos jugadores del torneo.
+     */
+    public static class EstadisticasJugador {
+        private String jugador;
+        private int victorias;
+        private double puntajePromedio;
+        private double desviacionPuntaje;
+        private int puntajeMinimo;
+        private int puntajeMediana;
+        private int puntajeMaximo;
+        private Map<String, Integer> histogramaPuntajes;
+        private double palabrasPorPartida;
+        private double jugadasPorPartida;
+        private double latenciaPromedioMs;
+        private double latenciaP99Ms;
+        private double latenciaMaximaMs;
+    }
+
+    private String[] jugadores;
+    private long semilla;
+    private int partidas;
+    private int partidasFallidas;
+    private int hilos;
+    private double segundos;
+    private double partidasPorMinuto;
+    private int empates;
+    private EstadisticasJugador[] estadisticas;
+
+    /**
+     * Calcula las estadisticas de un torneo a partir del resultado de cada partida.
+     *
+     * @param jugadores los nombres de los dos jugadores.
+     * @param semilla la semilla del torneo.
+     * @param hilos la cantidad de partidas jugadas a la vez.
+     * @param nanos la duracion del torneo, en nanosegundos.
+     * @param resultados el resultado de cada partida terminada, en orden.
+     * @param fallidas la cantidad de partidas que no terminaron por un error y no estan en los resultados.
+     * @return las estadisticas del torneo.
+     */
+    public static EstadisticasTorneo calcular(String[] jugadores, long semilla, int hilos, long nanos,
+                                              List<Torneo.ResultadoPartida> resultados, int fallidas) {
+        EstadisticasTorneo torneo = new EstadisticasTorneo();
+        torneo.jugadores = jugadores;
+        torneo.semilla = semilla;
+        torneo.partidas = resultados.size();
+        torneo.partidasFallidas = fallidas;
+        torneo.hilos = hilos;
+        torneo.segundos = nanos / 1e9;
+        torneo.partidasPorMinuto = resultados.size() * 60e9 / nanos;
+        torneo.estadisticas = new EstadisticasJugador[2];
+
+        for (Torneo.ResultadoPartida resultado : resultados) {
+            if (resultado.puntajes()[0] == resultado.puntajes()[1]) {
+                torneo.empates++;
+            }
+        }
+        for (int j = 0; j < 2; j++) {
+            int jugador = j;
+            EstadisticasJugador e = new EstadisticasJugador();
+            e.jugador = jugadores[j];
+            int[] puntajes = resultados.stream().mapToInt(r -> r.puntajes()[jugador]).sorted().toArray();
+            long[] latencias = resultados.stream().flatMapToLong(r -> Arrays.stream(r.latencias()[jugador])).sorted().toArray();
+            e.victorias = (int) resultados.stream().filter(r -> r.puntajes()[jugador] > r.puntajes()[1 - jugador]).count();
+            e.puntajePromedio = Arrays.stream(puntajes).average().orElse(0);
+            e.desviacionPuntaje = Math.sqrt(Arrays.stream(puntajes)
+                    .mapToDouble(p -> (p - e.puntajePromedio) * (p - e.puntajePromedio)).average().orElse(0));
+            if (puntajes.length > 0) {
+                e.puntajeMinimo = puntajes[0];
+                e.puntajeMediana = puntajes[puntajes.length / 2];
+                e.puntajeMaximo = puntajes[puntajes.length - 1];
+            }
+            e.histogramaPuntajes = new LinkedHashMap<>();
+            for (int desde = e.puntajeMinimo / ANCHO_INTERVALO * ANCHO_INTERVALO; desde <= e.puntajeMaximo; desde += ANCHO_INTERVALO) {
+                int hasta = desde + ANCHO_INTERVALO;
+                e.histogramaPuntajes.put(desde + "-" + (hasta - 1),
+                        (int) Arrays.stream(puntajes).filter(p -> p >= hasta - ANCHO_INTERVALO && p < hasta).count());
+            }
+            e.palabrasPorPartida = resultados.stream().mapToInt(r -> r.palabras()[jugador]).average().orElse(0);
+            e.jugadasPorPartida = resultados.stream().mapToInt(r -> r.jugadas()[jugador]).average().orElse(0);
+            if (latencias.length > 0) {
+                e.latenciaPromedioMs = Arrays.stream(latencias).average().orElse(0) / 1e6;
+                e.latenciaP99Ms = latencias[latencias.length * 99 / 100] / 1e6;
+                e.latenciaMaximaMs = latencias[latencias.length - 1] / 1e6;
+            }
+            torneo.estadisticas[j] = e;
+        }
+        return torneo;
+    }
+
+    /**
+     * Describe el torneo en pocas lineas para mostrarlo en la consola.
+     *
+     * @return el resumen del torneo.
+     */
+    public String getResumen() {
+        StringBuilder resumen = new StringBuilder(String.format("%d partidas en %.1f s con %d hilos (%.0f por minuto), semilla %d, %d empates%n",
+                partidas, segundos, hilos, partidasPorMinuto, semilla, empates));
+        if (partidasFallidas > 0) {
+            resumen.append(String.format("%d partidas fallaron y no se cuentan en las estadisticas%n", partidasFallidas));
+        }
+        for (EstadisticasJugador e : estadisticas) {
+            resumen.append(String.format("%-10s %d victorias, puntaje %.1f +- %.1f (%d-%d), %.1f palabras por partida, %.2f ms por jugada (p99 %.2f ms)%n",
+                    e.jugador, e.victorias, e.puntajePromedio, e.desviacionPuntaje, e.puntajeMinimo, e.puntajeMaximo,
+                    e.palabrasPorPartida, e.latenciaPromedioMs, e.latenciaP99Ms));
+        }
+        return resumen.toString().stripTrailing();
+    }
+}
@@ -4,6 +4,23 @@
  */
 
 public class Ficha implements Cloneable {
+
+    /**
+     * Ficha compartida de una casilla vacia.
+     */
+    private static final Ficha VACIA = new FichaCompartida();
+
+    /**
+     * Fichas compartidas de cada codigo de {@link AlfabetoFichas}, con y sin la marca de comodin.
+     */
+    private static final Ficha[] COMPARTIDAS = new Ficha[2 * AlfabetoFichas.MARCA_COMODIN];
+
+    static {
+        for (byte codigo = 0; codigo < AlfabetoFichas.LETRAS.length; codigo++) {
+            COMPARTIDAS[codigo] = new FichaCompartida(AlfabetoFichas.VALORES[codigo], AlfabetoFichas.LETRAS[codigo]);
+            COMPARTIDAS[codigo | AlfabetoFichas.MARCA_COMODIN] = new FichaCompartida(0, AlfabetoFichas.LETRAS[codigo]);
+        }
+    }
     /**
      * Valor de la ficha.
      */
@@ -44,6 +61,17 @@ public class Ficha implements Cloneable {
         this.simbolo = "["+letra+"]";
     }
 
+    /**
+     * Obtiene la ficha compartida de un codigo. Las fichas compartidas no se pueden modificar; se usan
+     * para mostrar y leer las casillas del tablero sin crear una ficha por casilla.
+     *
+     * @param codigo el codigo de la ficha en {@link AlfabetoFichas}, con la marca de comodin si corresponde.
+     * @return la ficha del codigo, o una ficha vacia si el codigo es {@link AlfabetoFichas#VACIA}.
+     */
+    public static Ficha deCodigo(byte codigo) {
+        return codigo == AlfabetoFichas.VACIA ? VACIA : COMPARTIDAS[codigo];
+    }
+
     /**
      * Obtiene el simbolo de la ficha.
      *
@@ -91,6 +119,20 @@ public class Ficha implements Cloneable {
         return letra;
     }
 
+    /**
+     * Obtiene el codigo de la letra de la ficha en {@link AlfabetoFichas}.
+     * Un comodin ya asignado devuelve el codigo de su letra con la marca {@link AlfabetoFichas#MARCA_COMODIN}.
+     *
+     * @return el codigo de la ficha, o {@link AlfabetoFichas#VACIA} si es una casilla vacia.
+     */
+    public byte getCodigo() {
+        byte codigo = AlfabetoFichas.codigo(letra);
+        if (valor == 0 && codigo != AlfabetoFichas.VACIA && codigo != AlfabetoFichas.COMODIN) {
+            return (byte) (codigo | AlfabetoFichas.MARCA_COMODIN);
+        }
+        return codigo;
+    }
+
     /**
      * Establece el símbolo de la ficha.
      *
@@ -127,4 +169,33 @@ public class Ficha implements Cloneable {
     public String toString() {
         return simbolo;
     }
+
+    /**
+     * Ficha compartida entre todas las casillas con el mismo codigo, que no se puede modificar.
+     */
+    private static final class FichaCompartida extends Ficha {
+
+        FichaCompartida() {
+            super();
+        }
+
+        FichaCompartida(int valor, String letra) {
+            super(valor, letra);
+        }
+
+        @Override
+        public void setLetra(String letra) {
+            throw new UnsupportedOperationException("Una ficha compartida no se puede modificar");
+        }
+
+        @Override
+        public void setSimbolo(String simbolo) {
+            throw new UnsupportedOperationException("Una ficha compartida no se puede modificar");
+        }
+
+        @Override
+        public void setValor(int valor) {
+            throw new UnsupportedOperationException("Una ficha compartida no se puede modificar");
+        }
+    }
 }
\ No newline at end of file
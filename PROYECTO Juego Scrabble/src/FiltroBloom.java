@@ -0,0 +1,184 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * La clase FiltroBloom es un filtro probabilistico que descarta palabras que seguro no estan en una lista.
+ * <p>
+ * Si el filtro responde que una palabra no esta, la respuesta es definitiva; si responde que puede estar,
+ * se debe confirmar con una verificacion mas lenta. La probabilidad de falso positivo se fija al construirlo.
+ * Las palabras se guardan por su forma plegada ({@link Lexico#plegar(String)}).
+ */
+public class FiltroBloom {
+
+    /**
+     * Arreglo de bits del filtro.
+     */
+    private final long[] bits;
+
+    /**
+     * Cantidad de bits del filtro.
+     */
+    private final long cantidadBits;
+
+    /**
+     * Cantidad de funciones hash usadas por palabra.
+     */
+    private final int cantidadHashes;
+
+    /**
+     * Cantidad de consultas que el filtro descarto de forma definitiva.
+     */
+    private final AtomicLong negativos = new AtomicLong();
+
+    /**
+     * Cantidad de consultas que el filtro dejo pasar.
+     */
+    private final AtomicLong positivos = new AtomicLong();
+
+    /**
+     * Cantidad de consultas que el filtro dejo pasar y la verificacion posterior rechazo.
+     */
+    private final AtomicLong falsosPositivos = new AtomicLong();
+
+    /**
+     * Constructor que dimensiona el filtro para la cantidad de palabras y la tasa de falsos positivos deseada.
+     *
+     * @param cantidadPalabras la cantidad de palabras que se van a agregar.
+     * @param tasaFalsosPositivos la probabilidad de falso positivo deseada, entre 0 y 1.
+     */
+    public FiltroBloom(int cantidadPalabras, double tasaFalsosPositivos) {
+        int n = Math.max(1, cantidadPalabras);
+        long m = (long) Math.ceil(-n * Math.log(tasaFalsosPositivos) / (Math.log(2) * Math.log(2)));
+        this.bits = new long[(int) ((Math.max(64, m) + 63) / 64)];
+        this.cantidadBits = bits.length * 64L;
+        this.cantidadHashes = Math.max(1, (int) Math.round((double) cantidadBits / n * Math.log(2)));
+    }
+
+    /**
+     * Construye un filtro con todas las palabras de una lista.
+     *
+     * @param palabras las palabras a agregar.
+     * @param tasaFalsosPositivos la probabilidad de falso positivo deseada.
+     * @return el filtro construido.
+     */
+    public static FiltroBloom construir(List<String> palabras, double tasaFalsosPositivos) {
+        FiltroBloom filtro = new FiltroBloom(palabras.size(), tasaFalsosPositivos);
+        for (String palabra : palabras) {
+            filtro.agregar(palabra);
+        }
+        return filtro;
+    }
+
+    /**
+     * Construye un filtro a partir de un archivo de texto con una palabra por linea.
+     *
+     * @param archivo la ruta del archivo con la lista de palabras.
+     * @param tasaFalsosPositivos la probabilidad de falso positivo deseada.
+     * @return el filtro construido.
+     * @throws IOException si ocurre un error al leer el archivo.
+     */
+    public static FiltroBloom cargar(Path archivo, double tasaFalsosPositivos) throws IOException {
+        return construir(Lexico.leerPalabras(archivo), tasaFalsosPositivos);
+    }
+
+    /**
+     * Agrega una palabra al filtro.
+     *
+     * @param palabra la palabra a agregar.
+     */
+    public void agregar(String palabra) {
+        long hash = hash(palabra);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < cantidadHashes; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % cantidadBits;
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Consulta si una palabra puede estar en el filtro.
+     *
+     * @param palabra la palabra a consultar.
+     * @return {@code false} si la palabra seguro no esta, {@code true} si puede estar.
+     */
+    public boolean puedeContener(String palabra) {
+        long hash = hash(palabra);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < cantidadHashes; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % cantidadBits;
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                negativos.incrementAndGet();
+                return false;
+            }
+        }
+        positivos.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Registra que una palabra que el filtro dejo pasar fue rechazada por la verificacion posterior.
+     */
+    public void registrarFalsoPositivo() {
+        falsosPositivos.incrementAndGet();
+    }
+
+    /**
+     * Obtiene la memoria ocupada por el arreglo de bits.
+     *
+     * @return la cantidad de bytes del filtro.
+     */
+    public long getBytesMemoria() {
+        return bits.length * 8L;
+    }
+
+    /**
+     * Obtiene la cantidad de funciones hash usadas por palabra.
+     *
+     * @return la cantidad de funciones hash.
+     */
+    public int getCantidadHashes() {
+        return cantidadHashes;
+    }
+
+    /**
+     * Obtiene la tasa de falsos positivos observada: la fraccion de palabras inexistentes que el filtro dejo pasar.
+     *
+     * @return la tasa observada, o 0 si aun no hubo palabras rechazadas.
+     */
+    public double getTasaFalsosPositivosObservada() {
+        long rechazadas = negativos.get() + falsosPositivos.get();
+        return rechazadas == 0 ? 0 : (double) falsosPositivos.get() / rechazadas;
+    }
+
+    /**
+     * Devuelve un resumen del tamaño y las estadisticas del filtro.
+     *
+     * @return una cadena con la memoria ocupada y los contadores.
+     */
+    @Override
+    public String toString() {
+        return "FiltroBloom{bytes=" + getBytesMemoria() + ", hashes=" + cantidadHashes + ", positivos=" + positivos
+                + ", negativos=" + negativos + ", falsosPositivos=" + falsosPositivos
+                + ", tasaObservada=" + String.format("%.4f", getTasaFalsosPositivosObservada()) + "}";
+    }
+
+    /**
+     * Calcula un hash de 64 bits (FNV-1a con mezcla final) de la forma plegada de la palabra.
+     */
+    private static long hash(String palabra) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : Lexico.plegar(palabra).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
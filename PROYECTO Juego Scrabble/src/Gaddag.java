@@ -0,0 +1,139 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * La clase Gaddag representa el lexico como un GADDAG: un automata que permite formar las palabras
+ * a partir de cualquiera de sus letras, primero hacia la izquierda y luego hacia la derecha.
+ * <p>
+ * Por cada palabra de n fichas se guardan n entradas: el prefijo de longitud i invertido, el
+ * {@link #SEPARADOR} y el resto de la palabra. Por ejemplo "casa" se guarda como "c·asa", "ac·sa",
+ * "sac·a" y "asac·". Las entradas se almacenan en un {@link Dawg} minimo sobre codigos de ficha
+ * ({@link AlfabetoFichas}), por lo que el generador de jugadas puede partir de una casilla ancla y
+ * extender la palabra en ambas direcciones sin probar prefijos que no llevan a ninguna palabra.
+ */
+public class Gaddag {
+
+    /**
+     * Simbolo que separa el prefijo invertido del resto de la palabra. No es el codigo de ninguna ficha.
+     */
+    public static final char SEPARADOR = 29;
+
+    /**
+     * Automata con las entradas del GADDAG.
+     */
+    private final Dawg automata;
+
+    /**
+     * Cantidad de palabras del lexico.
+     */
+    private final int cantidadPalabras;
+
+    /**
+     * Constructor privado usado por {@link #construir(List)}.
+     */
+    private Gaddag(Dawg automata, int cantidadPalabras) {
+        this.automata = automata;
+        this.cantidadPalabras = cantidadPalabras;
+    }
+
+    /**
+     * Construye un GADDAG a partir de una lista de palabras. Las palabras se pliegan y se codifican
+     * en fichas; las de una sola ficha y las que tienen letras sin ficha se descartan porque no se
+     * pueden jugar.
+     *
+     * @param palabras las palabras del lexico.
+     * @return el GADDAG construido.
+     */
+    public static Gaddag construir(List<String> palabras) {
+        LinkedHashSet<String> claves = new LinkedHashSet<>();
+        for (String palabra : palabras) {
+            byte[] codigos = AlfabetoFichas.codificar(Lexico.plegar(palabra));
+            if (codigos != null && codigos.length >= 2) {
+                claves.add(AlfabetoFichas.clave(codigos));
+            }
+        }
+
+        ArrayList<String> entradas = new ArrayList<>();
+        StringBuilder entrada = new StringBuilder();
+        for (String clave : claves) {
+            for (int i = 1; i <= clave.length(); i++) {
+                entrada.setLength(0);
+                entrada.append(clave, 0, i).reverse().append(SEPARADOR).append(clave, i, clave.length());
+                entradas.add(entrada.toString());
+            }
+        }
+        return new Gaddag(Dawg.construir(entradas), claves.size());
+    }
+
+    /**
+     * Construye un GADDAG a partir de un archivo de texto con una palabra por linea.
+     *
+     * @param archivo la ruta del archivo con la lista de palabras.
+     * @return el GADDAG construido.
+     * @throws IOException si ocurre un error al leer el archivo.
+     */
+    public static Gaddag cargar(Path archivo) throws IOException {
+        return construir(Lexico.leerPalabras(archivo));
+    }
+
+    /**
+     * Obtiene el nodo que se alcanza desde otro siguiendo un codigo de ficha o el separador.
+     * La raiz es el nodo 0.
+     *
+     * @param nodo el nodo de origen, o -1.
+     * @param simbolo el codigo de la letra, sin marca de comodin, o {@link #SEPARADOR}.
+     * @return el nodo destino, o -1 si no existe.
+     */
+    public int siguiente(int nodo, int simbolo) {
+        return nodo < 0 ? -1 : automata.siguiente(nodo, (char) simbolo);
+    }
+
+    /**
+     * Indica si un nodo completa una entrada del GADDAG.
+     *
+     * @param nodo el nodo a consultar.
+     * @return {@code true} si el nodo es final, {@code false} en caso contrario.
+     */
+    public boolean esFinal(int nodo) {
+        return nodo >= 0 && automata.esFinal(nodo);
+    }
+
+    /**
+     * Verifica si una secuencia de codigos de ficha es una palabra del lexico.
+     *
+     * @param codigos los codigos de las fichas; la marca de comodin se ignora.
+     * @return {@code true} si la palabra esta en el lexico, {@code false} en caso contrario.
+     */
+    public boolean contiene(byte[] codigos) {
+        if (codigos.length == 0) {
+            return false;
+        }
+        int nodo = siguiente(0, codigos[0] & AlfabetoFichas.MASCARA_LETRA);
+        nodo = siguiente(nodo, SEPARADOR);
+        for (int i = 1; i < codigos.length && nodo >= 0; i++) {
+            nodo = siguiente(nodo, codigos[i] & AlfabetoFichas.MASCARA_LETRA);
+        }
+        return esFinal(nodo);
+    }
+
+    /**
+     * Obtiene la cantidad de palabras del lexico.
+     *
+     * @return la cantidad de palabras.
+     */
+    public int getCantidadPalabras() {
+        return cantidadPalabras;
+    }
+
+    /**
+     * Obtiene la cantidad de nodos del automata.
+     *
+     * @return la cantidad de nodos.
+     */
+    public int getCantidadNodos() {
+        return automata.getCantidadNodos();
+    }
+}
@@ -0,0 +1,302 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * La clase GeneradorJugadas encuentra todas las jugadas validas de un atril sobre un tablero usando un {@link Gaddag}.
+ * <p>
+ * Sigue el algoritmo de Gordon: cada jugada se genera desde una casilla ancla (una casilla vacia junto a
+ * una ficha, o la casilla de inicio si el tablero esta vacio), extendiendo la palabra primero hacia la izquierda y
+ * luego hacia la derecha. Las anclas y las restricciones cruzadas (las letras que se pueden poner en
+ * cada casilla sin formar una palabra cruzada invalida, y los puntos que esa palabra cruzada sumaria)
+ * se leen de un {@link RestriccionesTablero}, que el tablero mantiene entre jugadas. Las columnas se
+ * recorren igual que las filas.
+ * <p>
+ * El puntaje sigue las reglas del juego: la suma de los valores de la palabra principal mas la de cada
+ * palabra cruzada formada. Una instancia no se debe usar desde varios hilos a la vez.
+ */
+public class GeneradorJugadas {
+
+    /**
+     * GADDAG con el lexico.
+     */
+    private final Gaddag gaddag;
+
+    /**
+     * Jugadas encontradas en la generacion en curso.
+     */
+    private ArrayList<Jugada> jugadas;
+
+    /**
+     * Cantidad de fichas de cada codigo en el atril; el indice {@link AlfabetoFichas#COMODIN} cuenta los comodines.
+     */
+    private int[] atril;
+
+    /**
+     * Fichas de la linea que se esta recorriendo.
+     */
+    private byte[] linea;
+
+    /**
+     * Letras permitidas en cada casilla de la linea por las palabras cruzadas.
+     */
+    private int[] permitidas;
+
+    /**
+     * Puntos de las fichas vecinas de la palabra cruzada de cada casilla, o -1 si no forma palabra cruzada.
+     */
+    private int[] sumasCruzadas;
+
+    /**
+     * Indica las casillas ancla de la linea.
+     */
+    private boolean[] anclas;
+
+    /**
+     * Fichas de la palabra que se esta formando, por columna.
+     */
+    private byte[] palabra;
+
+    /**
+     * Indica, por columna, si la ficha de la palabra en formacion sale del atril.
+     */
+    private boolean[] nuevas;
+
+    /**
+     * Linea, casilla ancla y columna inicial de la palabra en formacion, y direccion del recorrido.
+     */
+    private int lineaActual, ancla, inicio;
+    private boolean vertical;
+
+    /**
+     * Momento ({@link System#nanoTime()}) a partir del cual no se empieza ninguna ancla nueva.
+     */
+    private long limite;
+
+    /**
+     * Constructor que inicializa el generador con el lexico a usar.
+     *
+     * @param gaddag el GADDAG con el lexico.
+     */
+    public GeneradorJugadas(Gaddag gaddag) {
+        this.gaddag = gaddag;
+    }
+
+    /**
+     * Genera todas las jugadas validas de un atril sobre un tablero.
+     *
+     * @param tablero el tablero actual.
+     * @param fichas las fichas del atril; las posiciones vacias pueden ser {@code null}.
+     * @return la lista de jugadas validas.
+     */
+    public ArrayList<Jugada> generar(Tablero tablero, Ficha[] fichas) {
+        return generar(tablero.getRestricciones(gaddag), contarAtril(fichas));
+    }
+
+    /**
+     * Genera todas las jugadas validas sobre una matriz de codigos de ficha.
+     *
+     * @param casillas los codigos de cada casilla, {@link AlfabetoFichas#VACIA} si esta vacia.
+     * @param cantidades la cantidad de fichas de cada codigo en el atril, como en {@link #contarAtril(Ficha[])}.
+     * @return la lista de jugadas validas.
+     */
+    public ArrayList<Jugada> generar(byte[][] casillas, int[] cantidades) {
+        return generar(new RestriccionesTablero(gaddag, casillas), cantidades);
+    }
+
+    /**
+     * Genera todas las jugadas validas usando las anclas y restricciones ya calculadas de un tablero.
+     *
+     * @param restricciones las restricciones del tablero, calculadas con el mismo GADDAG.
+     * @param cantidades la cantidad de fichas de cada codigo en el atril, como en {@link #contarAtril(Ficha[])}.
+     * @return la lista de jugadas validas.
+     */
+    public ArrayList<Jugada> generar(RestriccionesTablero restricciones, int[] cantidades) {
+        jugadas = new ArrayList<>();
+        atril = cantidades.clone();
+        limite = Long.MAX_VALUE;
+        for (int fila = 0; fila < restricciones.getFilas(); fila++) {
+            recorrerLinea(restricciones, false, fila);
+        }
+        if (!restricciones.bastanHorizontales()) {
+            // En el tablero vacio y cuadrado las jugadas verticales son las horizontales transpuestas.
+            for (int columna = 0; columna < restricciones.getColumnas(); columna++) {
+                recorrerLinea(restricciones, true, columna);
+            }
+        }
+        return jugadas;
+    }
+
+    /**
+     * Genera solo las jugadas que tienen su ancla en una fila o en una columna del tablero.
+     * Permite repartir la generacion entre varios generadores, uno por hilo.
+     *
+     * @param restricciones las restricciones del tablero, calculadas con el mismo GADDAG.
+     * @param cantidades la cantidad de fichas de cada codigo en el atril.
+     * @param vertical {@code true} para las jugadas verticales de una columna, {@code false} para las horizontales de una fila.
+     * @param linea el indice de la fila o columna.
+     * @param limite el momento ({@link System#nanoTime()}) a partir del cual no se empiezan anclas nuevas.
+     * @return las jugadas encontradas antes del limite.
+     */
+    public ArrayList<Jugada> generarLinea(RestriccionesTablero restricciones, int[] cantidades, boolean vertical, int linea, long limite) {
+        jugadas = new ArrayList<>();
+        atril = cantidades.clone();
+        this.limite = limite;
+        recorrerLinea(restricciones, vertical, linea);
+        return jugadas;
+    }
+
+    /**
+     * Cuenta las fichas de un atril por codigo.
+     *
+     * @param fichas las fichas del atril; las posiciones vacias pueden ser {@code null}.
+     * @return la cantidad de fichas de cada codigo.
+     */
+    public static int[] contarAtril(Ficha[] fichas) {
+        int[] cantidades = new int[AlfabetoFichas.LETRAS.length];
+        for (Ficha ficha : fichas) {
+            if (ficha != null && ficha.getCodigo() >= 0) {
+                cantidades[ficha.getCodigo() & AlfabetoFichas.MASCARA_LETRA]++;
+            }
+        }
+        return cantidades;
+    }
+
+    /**
+     * Genera las jugadas de una fila, o de una columna si la direccion es vertical.
+     * La linea se copia a los arreglos de trabajo para recorrerla siempre como una fila.
+     */
+    private void recorrerLinea(RestriccionesTablero restricciones, boolean vertical, int l) {
+        this.vertical = vertical;
+        lineaActual = l;
+        int largo = vertical ? restricciones.getFilas() : restricciones.getColumnas();
+        if (linea == null || linea.length != largo) {
+            linea = new byte[largo];
+            permitidas = new int[largo];
+            sumasCruzadas = new int[largo];
+            anclas = new boolean[largo];
+            palabra = new byte[largo];
+            nuevas = new boolean[largo];
+        }
+
+        boolean hayAnclas = false;
+        for (int k = 0; k < largo; k++) {
+            int fila = vertical ? k : l;
+            int columna = vertical ? l : k;
+            linea[k] = restricciones.getCasilla(fila, columna);
+            permitidas[k] = restricciones.getPermitidas(fila, columna, vertical);
+            sumasCruzadas[k] = restricciones.getSumaCruzada(fila, columna, vertical);
+            anclas[k] = restricciones.esAncla(fila, columna);
+            hayAnclas |= anclas[k];
+        }
+        if (!hayAnclas) {
+            return;
+        }
+        for (int columna = 0; columna < largo; columna++) {
+            if (anclas[columna]) {
+                if (System.nanoTime() > limite) {
+                    return;
+                }
+                ancla = columna;
+                generarEn(columna, 0, false);
+            }
+        }
+    }
+
+    /**
+     * Coloca en una columna la ficha del tablero o, si esta vacia, cada ficha del atril que el
+     * nodo actual del GADDAG y las restricciones cruzadas permiten.
+     */
+    private void generarEn(int columna, int nodo, boolean derecha) {
+        byte ocupada = linea[columna];
+        if (ocupada != AlfabetoFichas.VACIA) {
+            int siguiente = gaddag.siguiente(nodo, ocupada & AlfabetoFichas.MASCARA_LETRA);
+            if (siguiente >= 0) {
+                avanzar(columna, ocupada, siguiente, derecha, false);
+            }
+            return;
+        }
+
+        int mascara = permitidas[columna];
+        for (int letra = 0; letra < AlfabetoFichas.COMODIN; letra++) {
+            if ((mascara & (1 << letra)) == 0 || (atril[letra] == 0 && atril[AlfabetoFichas.COMODIN] == 0)) {
+                continue;
+            }
+            int siguiente = gaddag.siguiente(nodo, letra);
+            if (siguiente < 0) {
+                continue;
+            }
+            if (atril[letra] > 0) {
+                atril[letra]--;
+                avanzar(columna, (byte) letra, siguiente, derecha, true);
+                atril[letra]++;
+            }
+            if (atril[AlfabetoFichas.COMODIN] > 0) {
+                atril[AlfabetoFichas.COMODIN]--;
+                avanzar(columna, (byte) (letra | AlfabetoFichas.MARCA_COMODIN), siguiente, derecha, true);
+                atril[AlfabetoFichas.COMODIN]++;
+            }
+        }
+    }
+
+    /**
+     * Registra la ficha puesta en la columna y sigue extendiendo la palabra.
+     * Hacia la izquierda no se pisa otra casilla ancla: esa jugada se genera desde esa ancla.
+     */
+    private void avanzar(int columna, byte codigo, int nodo, boolean derecha, boolean nueva) {
+        palabra[columna] = codigo;
+        nuevas[columna] = nueva;
+        int ultima = linea.length - 1;
+
+        if (!derecha) {
+            boolean izquierdaLibre = columna == 0 || linea[columna - 1] == AlfabetoFichas.VACIA;
+            int separador = gaddag.siguiente(nodo, Gaddag.SEPARADOR);
+            if (separador >= 0 && izquierdaLibre) {
+                boolean derechaLibre = ancla == ultima || linea[ancla + 1] == AlfabetoFichas.VACIA;
+                if (derechaLibre && gaddag.esFinal(separador)) {
+                    registrar(columna, ancla);
+                }
+                if (ancla < ultima) {
+                    inicio = columna;
+                    generarEn(ancla + 1, separador, true);
+                }
+            }
+            if (columna > 0 && (linea[columna - 1] != AlfabetoFichas.VACIA || !anclas[columna - 1])) {
+                generarEn(columna - 1, nodo, false);
+            }
+        } else {
+            boolean derechaLibre = columna == ultima || linea[columna + 1] == AlfabetoFichas.VACIA;
+            if (derechaLibre && gaddag.esFinal(nodo)) {
+                registrar(inicio, columna);
+            }
+            if (columna < ultima) {
+                generarEn(columna + 1, nodo, true);
+            }
+        }
+    }
+
+    /**
+     * Agrega la palabra formada entre dos columnas a las jugadas encontradas, con su puntaje.
+     */
+    private void registrar(int desde, int hasta) {
+        if (hasta == desde) {
+            return;
+        }
+        int principal = 0;
+        int cruzadas = 0;
+        long mascaraNuevas = 0;
+        for (int columna = desde; columna <= hasta; columna++) {
+            int valor = AlfabetoFichas.valor(palabra[columna]);
+            principal += valor;
+            if (nuevas[columna]) {
+                mascaraNuevas |= 1L << (columna - desde);
+                if (sumasCruzadas[columna] >= 0) {
+                    cruzadas += sumasCruzadas[columna] + valor;
+                }
+            }
+        }
+        byte[] codigos = Arrays.copyOfRange(palabra, desde, hasta + 1);
+        jugadas.add(vertical
+                ? new Jugada(desde, lineaActual, true, codigos, mascaraNuevas, principal + cruzadas)
+                : new Jugada(lineaActual, desde, false, codigos, mascaraNuevas, principal + cruzadas));
+    }
+}
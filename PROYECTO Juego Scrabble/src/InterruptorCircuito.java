@@ -0,0 +1,113 @@
+/**
+ * La clase InterruptorCircuito corta las consultas a un servicio remoto despues de varios fallos seguidos.
+ * <p>
+ * Mientras esta cerrado deja pasar todas las solicitudes. Al acumular el umbral de fallos consecutivos se abre
+ * y rechaza las solicitudes de inmediato durante el tiempo de espera; pasado ese tiempo queda semiabierto y deja
+ * pasar una solicitud de prueba: si tiene exito se cierra, y si falla vuelve a abrirse. Si la prueba se abandona
+ * sin resultado (por ejemplo porque su hilo fue interrumpido) hay que llamar a {@link #liberarPrueba()}; si no, el
+ * interruptor quedaria semiabierto rechazando todas las solicitudes.
+ */
+public class InterruptorCircuito {
+
+    /**
+     * Estados posibles del interruptor.
+     */
+    public enum Estado {CERRADO, ABIERTO, SEMIABIERTO}
+
+    /**
+     * Cantidad de fallos consecutivos que abren el circuito.
+     */
+    private final int umbralFallos;
+
+    /**
+     * Tiempo que el circuito permanece abierto antes de permitir una prueba, en milisegundos.
+     */
+    private final long esperaMs;
+
+    /**
+     * Estado actual del interruptor.
+     */
+    private Estado estado = Estado.CERRADO;
+
+    /**
+     * Cantidad de fallos consecutivos.
+     */
+    private int fallosConsecutivos;
+
+    /**
+     * Momento en que se abrio el circuito, en milisegundos.
+     */
+    private long abiertoDesde;
+
+    /**
+     * Hilo que realiza la solicitud de prueba mientras el circuito esta semiabierto.
+     */
+    private Thread hiloPrueba;
+
+    /**
+     * Constructor del interruptor.
+     *
+     * @param umbralFallos la cantidad de fallos consecutivos que abren el circuito.
+     * @param esperaMs el tiempo que el circuito permanece abierto, en milisegundos.
+     */
+    public InterruptorCircuito(int umbralFallos, long esperaMs) {
+        this.umbralFallos = umbralFallos;
+        this.esperaMs = esperaMs;
+    }
+
+    /**
+     * Indica si se puede realizar una solicitud. Con el circuito semiabierto solo se permite una solicitud de prueba.
+     *
+     * @return {@code true} si la solicitud puede realizarse, {@code false} si debe fallar de inmediato.
+     */
+    public synchronized boolean permiteSolicitud() {
+        if (estado == Estado.ABIERTO && System.currentTimeMillis() - abiertoDesde >= esperaMs) {
+            estado = Estado.SEMIABIERTO;
+            hiloPrueba = Thread.currentThread();
+            return true;
+        }
+        return estado == Estado.CERRADO;
+    }
+
+    /**
+     * Registra una solicitud exitosa y cierra el circuito.
+     */
+    public synchronized void registrarExito() {
+        fallosConsecutivos = 0;
+        estado = Estado.CERRADO;
+        hiloPrueba = null;
+    }
+
+    /**
+     * Registra una solicitud fallida, abriendo el circuito si se alcanza el umbral o si era una prueba.
+     */
+    public synchronized void registrarFallo() {
+        fallosConsecutivos++;
+        if (estado == Estado.SEMIABIERTO || fallosConsecutivos >= umbralFallos) {
+            estado = Estado.ABIERTO;
+            abiertoDesde = System.currentTimeMillis();
+            hiloPrueba = null;
+        }
+    }
+
+    /**
+     * Libera la solicitud de prueba si el hilo actual la abandono sin resultado. El circuito vuelve a abrirse
+     * sin reiniciar el tiempo de espera, ya vencido, para que la siguiente solicitud haga una nueva prueba.
+     * No hace nada si el hilo actual no realiza la prueba en curso.
+     */
+    public synchronized void liberarPrueba() {
+        if (estado == Estado.SEMIABIERTO && hiloPrueba == Thread.currentThread()) {
+            estado = Estado.ABIERTO;
+            hiloPrueba = null;
+        }
+    }
+
+    /**
+     * Obtiene el estado actual del interruptor.
+     *
+     * @return el estado actual.
+     */
+    public synchronized Estado getEstado() {
+        return estado;
+    }
+}
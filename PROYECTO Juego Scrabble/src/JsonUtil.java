@@ -108,6 +108,19 @@ public class JsonUtil {
         }
     }
 
+    /**
+     * Guarda las estadisticas de un torneo en un archivo JSON.
+     * @param estadisticas Las estadisticas del torneo.
+     * @param archivo La ruta del archivo a escribir.
+     */
+    public static void guardarResultadosTorneo(EstadisticasTorneo estadisticas, String archivo) {
+        try (FileWriter writer = new FileWriter(archivo)) {
+            gson.toJson(estadisticas, writer);
+        } catch (IOException e) {
+            System.out.println("Error al guardar el archivo " + archivo);
+        }
+    }
+
     /**
      * Carga una lista de objetos Jugador desde el archivo de usuarios.
      * <p>
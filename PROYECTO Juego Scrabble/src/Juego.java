@@ -4,6 +4,15 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 public class Juego {
+    private static final int CANTIDAD_SUGERENCIAS = Integer.getInteger("scrabble.sugerencias.cantidad", 5);
+    private static final long TIEMPO_SUGERENCIAS_MS = Long.getLong("scrabble.sugerencias.ms", 1000);
+    private static final int FILAS_TABLERO = Integer.getInteger("scrabble.tablero.filas", Tablero.TAMANO_ESTANDAR);
+    private static final int COLUMNAS_TABLERO = Integer.getInteger("scrabble.tablero.columnas", Tablero.TAMANO_ESTANDAR);
+    private static final int FILA_INICIO = Integer.getInteger("scrabble.tablero.filaInicio", (FILAS_TABLERO - 1) / 2);
+    private static final int COLUMNA_INICIO = Integer.getInteger("scrabble.tablero.columnaInicio", (COLUMNAS_TABLERO - 1) / 2);
+    private static final String INSTRUCCIONES_FICHA = "Utilice (W A S D) para seleccionar la posición donde quiere poner la ficha.\n"
+            + "La ficha debe estar adyacente a otra o sera una jugada invalida.\n"
+            + "Presione P y luego 9 para cancelar\n";
     private int turnoActual;
     private Jugador jugadorActual;
     private boolean primeraJugada;
@@ -15,12 +24,13 @@ public class Juego {
     private final BolsaFichas bolsaFichas;
     private Controlador controlador;
     private Tablero tablero;
-    private Tablero tableroAuxiliar;
     private final Jugador[] jugadores;
     private transient Scanner scanner = new Scanner(System.in);
     private final PalabraExtractor palabraExtractor = new PalabraExtractor();
     private boolean partidaTerminada = false;
+    private int pasesSeguidos;
     private transient boolean salir = false;
+    private transient PantallaTablero pantalla;
     private long tiempoInicio;
     private long tiempoAcumulado;
 
@@ -39,8 +49,7 @@ public class Juego {
      */
     public Juego(Jugador[] jugadores) {
         this.jugadores = jugadores;
-        this.tablero = new Tablero();
-        this.tableroAuxiliar = new Tablero(tablero);
+        this.tablero = new Tablero(FILAS_TABLERO, COLUMNAS_TABLERO, FILA_INICIO, COLUMNA_INICIO);
         this.turnoActual = 0;
         this.jugadorActual = null;
         this.primeraJugada = true;
@@ -50,7 +59,7 @@ public class Juego {
         this.palabraCancelada = false;
         this.indiceFichasPuestas = new ArrayList<>();
         this.bolsaFichas = new BolsaFichas();
-        this.controlador = new Controlador(tableroAuxiliar);
+        this.controlador = new Controlador(tablero);
     }
 
     /**
@@ -63,7 +72,7 @@ public class Juego {
         tiempoAcumulado = 0;
         inicializarNuevoJuego();
 
-        while (partidaTerminada(jugadores[turnoActual], bolsaFichas) && !salir) {
+        while (partidaTerminada(bolsaFichas) && !salir) {
             gestionarTurno();
         }
 
@@ -92,7 +101,7 @@ public class Juego {
     public void continuarPartida() {
         tiempoInicio = Instant.now().getEpochSecond();
         inicializarJuegoAnterior();
-        while (partidaTerminada(jugadores[turnoActual], bolsaFichas) && !salir) {
+        while (partidaTerminada(bolsaFichas) && !salir) {
             gestionarTurno();
         }
 
@@ -119,8 +128,20 @@ public class Juego {
      */
     private void inicializarJuegoAnterior() {
         salir = false;
+        // La partida guardada no conserva el tipo de jugador: la computadora se reconoce por su alias.
+        for (int i = 0; i < jugadores.length; i++) {
+            if (jugadores[i] instanceof JugadorCPU) {
+                continue;
+            }
+            if (JugadorCPU.ALIAS.equals(jugadores[i].getAlias())) {
+                jugadores[i] = new JugadorCPU(jugadores[i]);
+            } else if (JugadorSimulacion.ALIAS.equals(jugadores[i].getAlias())) {
+                jugadores[i] = new JugadorSimulacion(jugadores[i]);
+            }
+        }
         jugadorActual = jugadores[turnoActual];
         indiceFichasPuestas = new ArrayList<>();
+        tablero.convertirFormatoAnterior();
 
         System.out.println("¡Continua la partida anterior!");
         System.out.println("Le toca al jugador: " + jugadorActual.getAlias());
@@ -137,6 +158,7 @@ public class Juego {
         jugadaCompleta = false;
         turnoPasado = false;
         palabraCancelada = false;
+        pasesSeguidos = 0;
         indiceFichasPuestas = new ArrayList<>();
 
         System.out.println("¡Nueva partida iniciada!");
@@ -147,7 +169,7 @@ public class Juego {
      * Gestiona el turno actual de un jugador.
      */
     private void gestionarTurno() {
-        controlador = new Controlador(tableroAuxiliar);
+        controlador = new Controlador(tablero);
         rellenarFichasJugadores(jugadores, bolsaFichas);
         jugadorActual = jugadores[turnoActual];
         Ficha[] atrilCopia = jugadorActual.clonarFichas();
@@ -161,7 +183,9 @@ public class Juego {
         System.out.println("\nTurno de: " + jugadorActual.getAlias());
         System.out.println("Puntos: " + jugadorActual.getScore());
 
-        if (primeraJugada) {
+        if (jugadorActual instanceof JugadorCPU cpu) {
+            manejarJugadaCPU(cpu);
+        } else if (primeraJugada) {
             manejarPrimeraJugada();
         } else {
             manejarJugadaRegular();
@@ -169,21 +193,76 @@ public class Juego {
 
         manejarFinTurno(atrilCopia);
     }
+
+    /**
+     * Maneja la jugada de un jugador de la computadora, sin leer la consola.
+     * <p>
+     * Pone en el tablero, como fichas pendientes, las fichas de la jugada elegida; si no encuentra ninguna, pasa el turno.
+     *
+     * @param cpu el jugador de la computadora.
+     */
+    private void manejarJugadaCPU(JugadorCPU cpu) {
+        tablero.mostrarTablero();
+        mostrarFichasEIndices(cpu);
+        // El cuadro del turno se muestra antes de buscar la jugada, que puede llevar varios segundos.
+        System.out.flush();
+        // Se elige antes de poner fichas pendientes; el tablero conserva sus restricciones entre turnos.
+        Jugada jugada = cpu.elegirJugada(tablero, contarFichasNoVistas(cpu), esFinalPartida(), pasesSeguidos > 0);
+        jugadaCompleta = true;
+        if (jugada == null) {
+            System.out.println(cpu.getAlias() + " no encontro ninguna jugada.");
+            turnoPasado = true;
+            return;
+        }
+        System.out.println(cpu.getAlias() + " juega " + jugada);
+        indiceFichasPuestas = cpu.jugar(jugada, tablero);
+        primeraFichaPuesta = true;
+        tablero.mostrarTablero();
+    }
+    /**
+     * Indica si se llego al final de la partida: la bolsa esta vacia y, con dos jugadores, cada uno conoce
+     * el atril del otro.
+     *
+     * @return {@code true} si la bolsa esta vacia y hay dos jugadores.
+     */
+    private boolean esFinalPartida() {
+        return bolsaFichas.getListaFichas().isEmpty() && jugadores.length == 2;
+    }
+
+    /**
+     * Cuenta las fichas que un jugador no puede ver: las de la bolsa y las de los atriles de los demas jugadores.
+     *
+     * @param jugador el jugador desde cuyo punto de vista se cuenta.
+     * @return la cantidad de fichas de cada codigo, como en {@link GeneradorJugadas#contarAtril(Ficha[])}.
+     */
+    private int[] contarFichasNoVistas(Jugador jugador) {
+        int[] noVistas = GeneradorJugadas.contarAtril(bolsaFichas.getListaFichas().toArray(new Ficha[0]));
+        for (Jugador otro : jugadores) {
+            if (otro != jugador) {
+                int[] atril = GeneradorJugadas.contarAtril(otro.getFichas());
+                for (int i = 0; i < noVistas.length; i++) {
+                    noVistas[i] += atril[i];
+                }
+            }
+        }
+        return noVistas;
+    }
+
     /**
      * Maneja la primera jugada del juego.
      * <p>
-     * Muestra el tablero inicial, instrucciones para el usuario y gestiona la colocación de la primera ficha en el centro del tablero.
+     * Muestra el tablero inicial, instrucciones para el usuario y gestiona la colocación de la primera ficha en la casilla de inicio del tablero.
      */
     private void manejarPrimeraJugada() {
         tablero.mostrarTablero();
-        System.out.println("Debe colocar la primera Ficha en el centro del tablero.");
+        System.out.println("Debe colocar la primera Ficha en la casilla de inicio del tablero.");
         System.out.println("\u001B[33m" + "Para regresar al menu principal debe poner primero la ficha central" + "\u001B[0m");
         System.out.println("Utilice las teclas (W A S D) para moverse en el tablero, debe presionar ENTER después de usar cada letra.");
         System.out.println("Para colocar una Ficha presione la letra P y luego ENTER.");
         mostrarFichasEIndices(jugadorActual);
 
         indiceFichasPuestas.add(ponerPrimeraFicha(jugadorActual));
-        tableroAuxiliar.mostrarTablero();
+        tablero.mostrarTablero();
         mostrarFichasEIndices(jugadorActual);
 
         if (indiceFichasPuestas.getFirst() != null) {
@@ -214,6 +293,7 @@ public class Juego {
             System.out.println("Presione P y luego Enter para poner otra Ficha.");
             System.out.println("Presione L para verificar su palabra.");
             System.out.println("Presione C para CANCELAR su palabra.");
+            System.out.println("Presione A para ver sugerencias de jugadas.");
 
             if (!primeraJugada) {
                 System.out.println("Presione 9 para pasar su turno");
@@ -238,6 +318,9 @@ public class Juego {
                     jugadaCompleta = true;
                     palabraCancelada = true;
                     break;
+                case "a":
+                    mostrarSugerencias();
+                    break;
                 case "salir":
                     if (confirmar("Estas seguro de querer Salir y Guardar? Y/N", "Usted NO ha salido, la partida se guarda automaticamente cada palabra" )) {
                         salir = true;
@@ -245,12 +328,11 @@ public class Juego {
                     }
                     break;
                 case"p":
-                    System.out.println("Utilice (W A S D) para seleccionar la posición donde quiere poner la ficha.");
-                    System.out.println("La ficha debe estar adyacente a otra o sera una jugada invalida.");
-                    System.out.println("Presione P y luego 9 para cancelar");
+                    System.out.print(INSTRUCCIONES_FICHA);
 
                     indiceFichasPuestas.add(ponerFicha(jugadorActual));
-                    tableroAuxiliar.mostrarTablero();
+                    palabraExtractor.especularPalabrasFormadas(indiceFichasPuestas, tablero);
+                    tablero.mostrarTablero();
                     mostrarFichasEIndices(jugadorActual);
                     break;
                 default:
@@ -259,6 +341,45 @@ public class Juego {
         }
     }
 
+    /**
+     * Muestra las mejores jugadas posibles con las fichas del jugador actual sobre el tablero confirmado.
+     * <p>
+     * Solo se puede pedir antes de poner fichas en el turno, porque las sugerencias usan el atril completo.
+     * La cantidad de sugerencias y el tiempo de busqueda se configuran con {@code -Dscrabble.sugerencias.cantidad}
+     * y {@code -Dscrabble.sugerencias.ms}. En el final de la partida muestra la jugada del {@link SolucionadorFinal}.
+     */
+    private void mostrarSugerencias() {
+        indiceFichasPuestas.removeIf(Objects::isNull);
+        if (!indiceFichasPuestas.isEmpty()) {
+            System.out.println("Cancele su palabra (C) para ver sugerencias con todas sus fichas.");
+            return;
+        }
+        Gaddag gaddag = JugadorCPU.getGaddag();
+        if (gaddag == null) {
+            System.out.println("No hay lexico cargado, no se pueden dar sugerencias.");
+            return;
+        }
+        if (esFinalPartida()) {
+            RestriccionesTablero restricciones = tablero.getRestricciones(gaddag);
+            SolucionadorFinal.Resultado resultado = new SolucionadorFinal(gaddag, restricciones.getFilas(), restricciones.getColumnas())
+                    .resolver(restricciones, GeneradorJugadas.contarAtril(jugadorActual.getFichas()),
+                            contarFichasNoVistas(jugadorActual), TIEMPO_SUGERENCIAS_MS, pasesSeguidos > 0);
+            System.out.println("Final de partida: " + (resultado.mejor() == null ? "lo mejor es pasar" : "juegue " + resultado.mejor()));
+            System.out.println(resultado.getResumen());
+            return;
+        }
+        List<Jugada> sugerencias = new MotorSugerencias(gaddag)
+                .sugerir(tablero, jugadorActual.getFichas(), CANTIDAD_SUGERENCIAS, TIEMPO_SUGERENCIAS_MS);
+        if (sugerencias.isEmpty()) {
+            System.out.println("No se encontro ninguna jugada con sus fichas.");
+            return;
+        }
+        System.out.println("Sugerencias:");
+        for (int i = 0; i < sugerencias.size(); i++) {
+            System.out.println((i + 1) + ". " + sugerencias.get(i));
+        }
+    }
+
     /**
      * Solicita al usuario confirmar una acción.
      *
@@ -291,10 +412,15 @@ public class Juego {
      * @param atrilCopia Una copia del atril del jugador antes de la jugada.
      */
     private void manejarFinTurno(Ficha[] atrilCopia) {
+        if (turnoPasado || palabraCancelada || salir) {
+            palabraExtractor.cancelarEspeculaciones();
+        }
+
         if (turnoPasado) {
-            System.out.println("Usted ha pasado su turno!");
+            System.out.println(jugadorActual instanceof JugadorCPU ? jugadorActual.getAlias() + " paso su turno." : "Usted ha pasado su turno!");
+            pasesSeguidos++;
             jugadorActual.setFichas(atrilCopia);
-            tableroAuxiliar = new Tablero(this.tablero);
+            tablero.descartarPendientes();
             turnoActual = (turnoActual + 1) % jugadores.length;
             return;
         } else if (palabraCancelada) {
@@ -303,7 +429,7 @@ public class Juego {
             if (primeraJugada) {
                 primeraFichaPuesta = false;
             }
-            tableroAuxiliar = new Tablero(this.tablero);
+            tablero.descartarPendientes();
             return;
         } else if (salir) {
             System.out.println("Regresando al menu principal...");
@@ -311,62 +437,64 @@ public class Juego {
             if (primeraJugada) {
                 primeraFichaPuesta = false;
             }
-            tableroAuxiliar = new Tablero(this.tablero);
+            tablero.descartarPendientes();
             return;
         }
 
         if (!indiceFichasPuestas.isEmpty()) {
             if (!verificarIndicesValidos(indiceFichasPuestas)) {
                 System.out.println("Usted hizo una jugada inválida!");
+                palabraExtractor.cancelarEspeculaciones();
                 jugadorActual.setFichas(atrilCopia);
-                tableroAuxiliar = new Tablero(this.tablero);
-            } else if (palabraExtractor.verificarPalabrasFormadas(indiceFichasPuestas, tableroAuxiliar, jugadorActual)) {
-                turnoActual = (turnoActual + 1) % jugadores.length;
-                primeraJugada = false;
-                tablero = new Tablero(this.tableroAuxiliar);
+                tablero.descartarPendientes();
             } else {
-                System.out.println("La palabra que puso no es válida!");
+                Veredicto veredicto = palabraExtractor.verificarPalabrasFormadas(indiceFichasPuestas, tablero, jugadorActual);
+                if (veredicto == Veredicto.VALIDA) {
+                    pasesSeguidos = 0;
+                    turnoActual = (turnoActual + 1) % jugadores.length;
+                    primeraJugada = false;
+                    tablero.confirmarPendientes();
+                    return;
+                }
+                if (veredicto == Veredicto.PENDIENTE) {
+                    System.out.println("No hay conexion con el diccionario, su palabra no se pudo verificar. Intente de nuevo.");
+                } else {
+                    System.out.println("La palabra que puso no es válida!");
+                }
                 jugadorActual.setFichas(atrilCopia);
                 if (primeraJugada) {
                     primeraFichaPuesta = false;
                 }
-                tableroAuxiliar = new Tablero(this.tablero);
+                tablero.descartarPendientes();
+                if (jugadorActual instanceof JugadorCPU) {
+                    // La computadora repetiria la misma jugada: pasa el turno.
+                    pasesSeguidos++;
+                    turnoActual = (turnoActual + 1) % jugadores.length;
+                }
             }
         } else {
             System.out.println("No ha ingresado una palabra!");
             jugadorActual.setFichas(atrilCopia);
-            tableroAuxiliar = new Tablero(this.tablero);
+            tablero.descartarPendientes();
         }
     }
     /**
      * Verifica si los índices de las fichas colocadas son válidos.
      * <p>
-     * El método comprueba si las fichas se colocan en la misma fila o columna.
+     * El método comprueba si las fichas se colocan en la misma fila o columna, sin casillas vacías entre ellas.
      *
      * @param indices Lista de índices de las fichas colocadas.
      * @return true si los índices son válidos, false en caso contrario.
      */
     private boolean verificarIndicesValidos(ArrayList<int[]> indices) {
         indices.removeIf(Objects::isNull);
-        if (indices.isEmpty()){
-            return false;
-        }
-
-        int i = indices.getFirst()[0];
-        int j = indices.getFirst()[1];
-
-        for(int[] indice : indices) {
-            if (indice[0] != i && indice[1] != j) {
-                return false;
-            }
-        }
-        return true;
+        return tablero.esLineaContinua(indices);
     }
 
     /**
      * Permite al jugador colocar la primera ficha en el tablero.
      * <p>
-     * La primera ficha debe colocarse en el centro del tablero.
+     * La primera ficha debe colocarse en la casilla de inicio del tablero, el centro si no se configuro otra.
      *
      * @param jugador El jugador que coloca la ficha.
      * @return Un array con las coordenadas de la ficha colocada.
@@ -385,7 +513,7 @@ public class Juego {
                     if (indice == 9){
                         return null;
                     }
-                    if (!jugador.jugarPrimeraFicha(tableroAuxiliar, indice)) {
+                    if (!jugador.jugarPrimeraFicha(tablero, indice)) {
                         return null;
                     }
                     break;
@@ -412,6 +540,12 @@ public class Juego {
     private int[] ponerFicha(Jugador jugador){
         int i = tablero.getFilaCentral();
         int j = tablero.getColumnaCentral();
+        if (pantalla == null) {
+            pantalla = new PantallaTablero(tablero, System.out);
+        }
+        // La pantalla tiene mensajes escritos desde el ultimo cuadro: el primer movimiento la redibuja completa.
+        pantalla.invalidar();
+        String pie = componerFichasEIndices(jugador) + INSTRUCCIONES_FICHA;
 
         while(true){
             try {
@@ -420,29 +554,28 @@ public class Juego {
                 if (key == 'p' || key == 'P') {
                     System.out.println("¡Has presionado 'P'! Escoge que Ficha poner...");
                     int indice = obtenerEntradaNumerica();
-                    tableroAuxiliar.desresaltarPosicion(i, j);
+                    tablero.desresaltarPosicion(i, j);
 
                     if (indice == 9){
                         return null;
                     }
 
-                    if (!jugador.jugarFichas(tableroAuxiliar, i , j, indice)) {
+                    if (!jugador.jugarFichas(tablero, i , j, indice)) {
                         return null;
                     }
                     break;
-
-                } else if (key != 'w' && key != 'W' && key != 'S' && key != 's' && key != 'a' && key != 'A' && key != 'd' && key != 'D') {
-                    System.out.println("Presione alguna de estas teclas para moverse W A S D, presione P para escoger que ficha poner");
-                    System.out.println("Para cancelar presione P y luego 9");
                 }
 
-                // Mueve el jugador y actualiza la posición
+                // Mueve el jugador y vuelve a escribir solo las casillas que cambiaron
                 int[] nuevaPosicion = controlador.moverJugador(i, j, key);
                 i = nuevaPosicion[0];
                 j = nuevaPosicion[1];
+                pantalla.actualizar(pie);
 
-                tableroAuxiliar.mostrarTablero();
-                mostrarFichasEIndices(jugador);
+                if (key != 'w' && key != 'W' && key != 'S' && key != 's' && key != 'a' && key != 'A' && key != 'd' && key != 'D') {
+                    System.out.println("Presione alguna de estas teclas para moverse W A S D, presione P para escoger que ficha poner");
+                    System.out.println("Para cancelar presione P y luego 9");
+                }
 
             } catch (IOException e) {
                 System.out.println("Error al capturar entrada");
@@ -488,14 +621,21 @@ public class Juego {
      * @param jugador El jugador cuyas fichas se muestran.
      */
     private void mostrarFichasEIndices(Jugador jugador){
-        jugador.mostrarFichas();
-        int contadorIndices = 0;
-        StringBuilder indices = new StringBuilder();
-        for (Ficha _ : jugador.getFichas()) {
-            indices.append("[").append(contadorIndices).append(" ]");
-            contadorIndices++;
+        System.out.print(componerFichasEIndices(jugador));
+    }
+
+    /**
+     * Compone el texto con las fichas del jugador y sus índices, una línea cada uno.
+     *
+     * @param jugador El jugador cuyas fichas se muestran.
+     * @return El texto de las dos líneas, terminado en salto de línea.
+     */
+    private String componerFichasEIndices(Jugador jugador){
+        StringBuilder texto = new StringBuilder(jugador.getAtril()).append('\n');
+        for (int indice = 0; indice < jugador.getFichas().length; indice++) {
+            texto.append("[").append(indice).append(" ]");
         }
-        System.out.println(indices);
+        return texto.append('\n').toString();
     }
 
     /**
@@ -513,14 +653,19 @@ public class Juego {
     /**
      * Verifica si la partida ha terminado.
      * <p>
-     * La partida termina si el jugador actual no tiene más fichas y la bolsa de fichas está vacía.
+     * La partida termina si algun jugador no tiene más fichas y la bolsa de fichas está vacía, o si
+     * todos los jugadores pasaron su turno seguido, como en {@link Torneo} y {@link SolucionadorFinal}.
+     * Se revisan todos los jugadores porque al quedarse sin fichas el turno ya paso al siguiente.
      *
-     * @param jugadorActual El jugador actual.
      * @param bolsaFichas La bolsa de fichas.
      * @return true si la partida continúa, false si ha terminado.
      */
-    private boolean partidaTerminada(Jugador jugadorActual, BolsaFichas bolsaFichas) {
-        if (jugadorActual.fichasIsEmpty() && bolsaFichas.getListaFichas().isEmpty()){
+    private boolean partidaTerminada(BolsaFichas bolsaFichas) {
+        if (bolsaFichas.getListaFichas().isEmpty() && Arrays.stream(jugadores).anyMatch(Jugador::fichasIsEmpty)){
+            partidaTerminada = true;
+            return false;
+        } else if (pasesSeguidos >= jugadores.length) {
+            System.out.println("\nTodos los jugadores pasaron su turno seguido.");
             partidaTerminada = true;
             return false;
         }else{
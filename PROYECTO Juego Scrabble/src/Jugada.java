@@ -0,0 +1,86 @@
+import java.util.Comparator;
+
+/**
+ * El registro Jugada representa una colocacion de fichas en el tablero: la palabra principal que se forma,
+ * la casilla donde empieza, su direccion y cuales de sus fichas salen del atril.
+ *
+ * @param fila la fila de la primera ficha de la palabra principal.
+ * @param columna la columna de la primera ficha de la palabra principal.
+ * @param vertical {@code true} si la palabra se lee hacia abajo, {@code false} si se lee hacia la derecha.
+ * @param codigos los codigos de las fichas de la palabra principal ({@link AlfabetoFichas}).
+ * @param nuevas mascara de bits con las posiciones de la palabra que ocupan fichas nuevas. Es de 64 bits para
+ *               cubrir una palabra tan larga como el tablero mas ancho, {@link Tablero#TAMANO_MAXIMO}.
+ * @param puntaje los puntos que suman la palabra principal y las palabras cruzadas que se forman.
+ */
+public record Jugada(int fila, int columna, boolean vertical, byte[] codigos, long nuevas, int puntaje) {
+
+    /**
+     * Ordena las jugadas de peor a mejor: por puntaje y, ante un empate, por cantidad de fichas nuevas.
+     */
+    public static final Comparator<Jugada> POR_PUNTAJE =
+            Comparator.comparingInt(Jugada::puntaje).thenComparingInt(Jugada::getCantidadFichasNuevas);
+
+    /**
+     * Indica si la ficha en la posicion dada de la palabra sale del atril.
+     *
+     * @param posicion la posicion dentro de la palabra.
+     * @return {@code true} si la ficha es nueva, {@code false} si ya estaba en el tablero.
+     */
+    public boolean esNueva(int posicion) {
+        return (nuevas & (1L << posicion)) != 0;
+    }
+
+    /**
+     * Obtiene la fila de la ficha en la posicion dada de la palabra.
+     *
+     * @param posicion la posicion dentro de la palabra.
+     * @return la fila de la ficha.
+     */
+    public int filaDe(int posicion) {
+        return vertical ? fila + posicion : fila;
+    }
+
+    /**
+     * Obtiene la columna de la ficha en la posicion dada de la palabra.
+     *
+     * @param posicion la posicion dentro de la palabra.
+     * @return la columna de la ficha.
+     */
+    public int columnaDe(int posicion) {
+        return vertical ? columna : columna + posicion;
+    }
+
+    /**
+     * Obtiene la cantidad de fichas que salen del atril.
+     *
+     * @return la cantidad de fichas nuevas.
+     */
+    public int getCantidadFichasNuevas() {
+        return Long.bitCount(nuevas);
+    }
+
+    /**
+     * Descuenta del atril las fichas nuevas de la jugada; las letras de comodin descuentan un comodin.
+     *
+     * @param cantidades la cantidad de fichas de cada codigo en el atril, como en {@link GeneradorJugadas#contarAtril(Ficha[])}.
+     */
+    public void quitarFichas(int[] cantidades) {
+        for (int i = 0; i < codigos.length; i++) {
+            if (esNueva(i)) {
+                boolean comodin = (codigos[i] & AlfabetoFichas.MARCA_COMODIN) != 0;
+                cantidades[comodin ? AlfabetoFichas.COMODIN : codigos[i]]--;
+            }
+        }
+    }
+
+    /**
+     * Devuelve una descripcion legible de la jugada.
+     *
+     * @return la palabra, la casilla de inicio, la direccion y el puntaje.
+     */
+    @Override
+    public String toString() {
+        return AlfabetoFichas.texto(codigos).toUpperCase() + " en (" + fila + ", " + columna + ") "
+                + (vertical ? "vertical" : "horizontal") + " por " + puntaje + " puntos";
+    }
+}
@@ -45,6 +45,26 @@ public class Jugador {
 
 
     }
+    /**
+     * Constructor que crea un jugador con un alias nuevo y copia el estado en la partida de otro jugador:
+     * el puntaje, las palabras colocadas, el tiempo jugado y las fichas. Los datos de usuario quedan en cero.
+     * @param alias El alias del jugador.
+     * @param guardado El jugador del que se copia el estado, o {@code null} para empezar en cero.
+     */
+    protected Jugador(String alias, Jugador guardado) {
+        this(alias, "", 0, 0, 0, 0, 0);
+        if (guardado != null) {
+            this.scoreInGame = guardado.scoreInGame;
+            this.cantidadPalabrasColocadas = guardado.cantidadPalabrasColocadas;
+            this.tiempoJugado = guardado.tiempoJugado;
+            for (int i = 0; i < guardado.fichas.length; i++) {
+                if (guardado.fichas[i] != null) {
+                    fichas[i] = guardado.fichas[i].clone();
+                }
+            }
+        }
+    }
+
     /**
      * Constructor vacio de la clase Jugador.
      * Solo iniciliza las fichas.
@@ -66,6 +86,15 @@ public class Jugador {
      * Imprime las fichas actuales del jugador, mostrando "__" si no hay ficha en esa posición.
      */
     public void mostrarFichas() {
+        System.out.println(getAtril());
+    }
+
+    /**
+     * Obtiene el texto con el que se muestran las fichas del jugador en la consola.
+     *
+     * @return los simbolos de las fichas, con {@code " __ "} en los lugares vacios.
+     */
+    public String getAtril() {
         StringBuilder atril = new StringBuilder();
         for (Ficha ficha : this.fichas) {
             if (ficha != null) {
@@ -74,7 +103,7 @@ public class Jugador {
                 atril.append(" __ ");
             }
         }
-        System.out.println(atril.toString());
+        return atril.toString();
     }
 
     /**
@@ -84,7 +113,8 @@ public class Jugador {
     public Ficha[] clonarFichas() {
         Ficha[] clon = new Ficha[fichas.length];
         for (int i = 0; i < fichas.length; i++) {
-            clon[i] = fichas[i].clone();
+            // Con la bolsa vacia el atril puede tener posiciones sin ficha.
+            clon[i] = fichas[i] == null ? null : fichas[i].clone();
         }
         return clon;
     }
@@ -0,0 +1,226 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * La clase JugadorCPU representa un jugador controlado por la computadora.
+ * <p>
+ * En su turno genera todas las jugadas validas de su atril con un {@link GeneradorJugadas} y juega
+ * la de mayor puntaje, sin leer la consola. El lexico se carga de la misma lista de palabras que usa
+ * {@link RaeVerificador} ({@code -Dscrabble.lexico}); sin lexico la computadora pasa su turno.
+ */
+public class JugadorCPU extends Jugador {
+
+    /**
+     * Alias con el que se elige a la computadora como jugador.
+     */
+    public static final String ALIAS = "cpu";
+
+    /**
+     * Ruta del archivo con la lista de palabras del lexico.
+     */
+    private static final String ARCHIVO_LEXICO = System.getProperty("scrabble.lexico", "lexico.txt");
+
+    /**
+     * Tiempo maximo para buscar una jugada del final de la partida, en milisegundos.
+     */
+    private static final long TIEMPO_FINAL_MS = Long.getLong("scrabble.final.ms", 3000);
+
+    /**
+     * GADDAG compartido por todos los jugadores de la computadora y por las sugerencias de jugadas.
+     */
+    private static Gaddag gaddag;
+
+    /**
+     * Indica si ya se intento cargar el GADDAG.
+     */
+    private static boolean gaddagCargado = false;
+
+    /**
+     * Solucionador del final de la partida, creado la primera vez que se usa. No se guarda con la partida.
+     */
+    private transient SolucionadorFinal solucionador;
+
+    /**
+     * Constructor de un jugador de la computadora con puntaje y estadisticas en cero.
+     */
+    public JugadorCPU() {
+        this(ALIAS, null);
+    }
+
+    /**
+     * Constructor que recupera un jugador de la computadora de una partida guardada, donde se guardo
+     * como un {@link Jugador} comun.
+     *
+     * @param guardado el jugador leido de la partida guardada.
+     */
+    public JugadorCPU(Jugador guardado) {
+        this(ALIAS, guardado);
+    }
+
+    /**
+     * Constructor para las subclases, que eligen su propio alias.
+     *
+     * @param alias el alias del jugador.
+     * @param guardado el jugador leido de una partida guardada, o {@code null} para empezar en cero.
+     */
+    protected JugadorCPU(String alias, Jugador guardado) {
+        super(alias, guardado);
+    }
+
+    /**
+     * Obtiene el GADDAG del lexico, construyendolo la primera vez que se necesita.
+     *
+     * @return el GADDAG, o {@code null} si no existe la lista de palabras o no se pudo leer.
+     */
+    public static synchronized Gaddag getGaddag() {
+        if (!gaddagCargado) {
+            gaddagCargado = true;
+            Path archivo = Path.of(ARCHIVO_LEXICO);
+            if (Files.isRegularFile(archivo)) {
+                try {
+                    gaddag = Gaddag.cargar(archivo);
+                } catch (IOException e) {
+                    System.out.println("Error al cargar el lexico " + ARCHIVO_LEXICO + ": " + e.getMessage());
+                }
+            }
+        }
+        return gaddag;
+    }
+
+    /**
+     * Establece el GADDAG a usar, reemplazando el que se carga desde disco.
+     *
+     * @param nuevoGaddag el GADDAG a usar.
+     */
+    public static synchronized void setGaddag(Gaddag nuevoGaddag) {
+        gaddag = nuevoGaddag;
+        gaddagCargado = true;
+    }
+
+    /**
+     * Elige la jugada de mayor puntaje para el atril actual. Ante un empate prefiere la que usa mas fichas.
+     *
+     * @param tablero el tablero sobre el que se juega.
+     * @return la mejor jugada, o {@code null} si no hay lexico o ninguna jugada es posible.
+     */
+    public Jugada elegirJugada(Tablero tablero) {
+        Gaddag lexico = getGaddag();
+        if (lexico == null) {
+            return null;
+        }
+        Jugada mejor = null;
+        for (Jugada jugada : new GeneradorJugadas(lexico).generar(tablero, getFichas())) {
+            if (mejor == null || Jugada.POR_PUNTAJE.compare(jugada, mejor) > 0) {
+                mejor = jugada;
+            }
+        }
+        return mejor;
+    }
+
+    /**
+     * Elige la jugada para el atril actual conociendo las fichas que no ve.
+     * <p>
+     * Con la bolsa vacia las fichas que no ve son el atril del rival, y la jugada se busca con el
+     * {@link SolucionadorFinal}. Si no, se elige con {@link #elegirJugadaConBolsa(Tablero, int[])}.
+     *
+     * @param tablero el tablero sobre el que se juega.
+     * @param noVistas la cantidad de fichas de cada codigo en la bolsa y en los atriles de los rivales.
+     * @param finalPartida {@code true} si la bolsa esta vacia y hay un solo rival.
+     * @param rivalPaso {@code true} si el rival paso en su ultimo turno, por lo que pasar terminaria la partida.
+     * @return la jugada elegida, o {@code null} si no hay lexico, ninguna jugada es posible o lo mejor es pasar.
+     */
+    public Jugada elegirJugada(Tablero tablero, int[] noVistas, boolean finalPartida, boolean rivalPaso) {
+        if (!finalPartida) {
+            return elegirJugadaConBolsa(tablero, noVistas);
+        }
+        Gaddag lexico = getGaddag();
+        if (lexico == null) {
+            return null;
+        }
+        RestriccionesTablero restricciones = tablero.getRestricciones(lexico);
+        if (solucionador == null || !solucionador.admite(restricciones.getFilas(), restricciones.getColumnas())) {
+            solucionador = new SolucionadorFinal(lexico, restricciones.getFilas(), restricciones.getColumnas());
+        }
+        SolucionadorFinal.Resultado resultado = solucionador.resolver(restricciones,
+                GeneradorJugadas.contarAtril(getFichas()), noVistas, TIEMPO_FINAL_MS, rivalPaso);
+        System.out.println("Final de partida: " + resultado.getResumen());
+        return resultado.mejor();
+    }
+
+    /**
+     * Elige la jugada mientras quedan fichas en la bolsa. Este jugador no usa las fichas que no ve y
+     * elige la de mayor puntaje; las subclases pueden usarlas para estimar las jugadas del rival.
+     *
+     * @param tablero el tablero sobre el que se juega.
+     * @param noVistas la cantidad de fichas de cada codigo en la bolsa y en los atriles de los rivales.
+     * @return la jugada elegida, o {@code null} si no hay lexico o ninguna jugada es posible.
+     */
+    protected Jugada elegirJugadaConBolsa(Tablero tablero, int[] noVistas) {
+        return elegirJugada(tablero);
+    }
+
+    /**
+     * Coloca en el tablero las fichas nuevas de una jugada, tomandolas del atril.
+     * Las fichas se ponen en un orden en que cada una queda junto a otra, como exige {@link Tablero#colocarFicha}.
+     *
+     * @param jugada la jugada a realizar.
+     * @param tablero el tablero sobre el que se juega.
+     * @return los indices de las fichas puestas, o {@code null} en las que no se pudieron poner.
+     */
+    public ArrayList<int[]> jugar(Jugada jugada, Tablero tablero) {
+        ArrayList<int[]> indices = new ArrayList<>();
+        ArrayList<Integer> pendientes = new ArrayList<>();
+        for (int i = 0; i < jugada.codigos().length; i++) {
+            if (jugada.esNueva(i)) {
+                pendientes.add(i);
+            }
+        }
+
+        boolean primera = tablero.estaVacio();
+        while (!pendientes.isEmpty()) {
+            int elegida = 0;
+            for (int k = 0; k < pendientes.size(); k++) {
+                int fila = jugada.filaDe(pendientes.get(k));
+                int columna = jugada.columnaDe(pendientes.get(k));
+                if (primera ? fila == tablero.getFilaCentral() && columna == tablero.getColumnaCentral()
+                        : tablero.tieneFichaAdyacente(fila, columna)) {
+                    elegida = k;
+                    break;
+                }
+            }
+            int posicion = pendientes.remove(elegida);
+            int fila = jugada.filaDe(posicion);
+            int columna = jugada.columnaDe(posicion);
+            int indice = tomarFicha(jugada.codigos()[posicion]);
+            boolean puesta = indice >= 0 && (primera ? jugarPrimeraFicha(tablero, indice) : jugarFichas(tablero, fila, columna, indice));
+            indices.add(puesta ? new int[]{fila, columna} : null);
+            primera = false;
+        }
+        return indices;
+    }
+
+    /**
+     * Busca en el atril la ficha de un codigo. Si hace falta un comodin, le asigna la letra del codigo.
+     *
+     * @return el indice de la ficha en el atril, o -1 si no esta.
+     */
+    private int tomarFicha(byte codigo) {
+        Ficha[] fichas = getFichas();
+        boolean comodin = (codigo & AlfabetoFichas.MARCA_COMODIN) != 0;
+        for (int i = 0; i < fichas.length; i++) {
+            if (fichas[i] == null) {
+                continue;
+            }
+            if (comodin && fichas[i].getCodigo() == AlfabetoFichas.COMODIN) {
+                fichas[i].setLetra(AlfabetoFichas.letra(codigo));
+                return i;
+            }
+            if (!comodin && fichas[i].getCodigo() == codigo) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,72 @@
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * La clase JugadorSimulacion representa un jugador de la computadora que elige sus jugadas simulando
+ * como puede seguir la partida ({@link SimuladorJugadas}), en lugar de jugar siempre la de mayor puntaje.
+ * <p>
+ * La cantidad de candidatas, la cantidad de jugadas simuladas y el tiempo por jugada se configuran con
+ * {@code -Dscrabble.simulacion.candidatos}, {@code -Dscrabble.simulacion.jugadas} y {@code -Dscrabble.simulacion.ms}.
+ */
+public class JugadorSimulacion extends JugadorCPU {
+
+    /**
+     * Alias con el que se elige a este jugador.
+     */
+    public static final String ALIAS = "simulador";
+
+    /**
+     * Cantidad de jugadas candidatas que se simulan.
+     */
+    private static final int CANDIDATOS = Integer.getInteger("scrabble.simulacion.candidatos", 10);
+
+    /**
+     * Cantidad de jugadas que se simulan despues de cada candidata.
+     */
+    private static final int JUGADAS = Integer.getInteger("scrabble.simulacion.jugadas", 2);
+
+    /**
+     * Tiempo maximo para elegir una jugada, en milisegundos.
+     */
+    private static final long TIEMPO_MS = Long.getLong("scrabble.simulacion.ms", 3000);
+
+    /**
+     * Pool con un hilo por nucleo, compartido por todos los jugadores de simulacion.
+     */
+    private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Constructor de un jugador de simulacion con puntaje y estadisticas en cero.
+     */
+    public JugadorSimulacion() {
+        super(ALIAS, null);
+    }
+
+    /**
+     * Constructor que recupera un jugador de simulacion de una partida guardada.
+     *
+     * @param guardado el jugador leido de la partida guardada.
+     */
+    public JugadorSimulacion(Jugador guardado) {
+        super(ALIAS, guardado);
+    }
+
+    /**
+     * Elige la jugada con mejor resultado promedio en las simulaciones y muestra cuantas simulaciones hizo.
+     *
+     * @param tablero el tablero sobre el que se juega.
+     * @param noVistas la cantidad de fichas de cada codigo en la bolsa y en los atriles de los rivales.
+     * @return la jugada elegida, o {@code null} si no hay lexico o ninguna jugada es posible.
+     */
+    @Override
+    protected Jugada elegirJugadaConBolsa(Tablero tablero, int[] noVistas) {
+        Gaddag lexico = getGaddag();
+        if (lexico == null) {
+            return null;
+        }
+        SimuladorJugadas.Resultado resultado = new SimuladorJugadas(lexico, CANDIDATOS, JUGADAS, POOL)
+                .elegir(tablero.getRestricciones(lexico), GeneradorJugadas.contarAtril(getFichas()), noVistas, TIEMPO_MS);
+        System.out.printf("%d simulaciones en %d ms (%.0f por segundo)%n", resultado.simulaciones(),
+                resultado.nanos() / 1_000_000, resultado.getSimulacionesPorSegundo());
+        return resultado.mejor();
+    }
+}
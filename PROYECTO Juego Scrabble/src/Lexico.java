@@ -0,0 +1,199 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * La clase Lexico representa un diccionario local de palabras validas cargado desde un archivo en disco.
+ * <p>
+ * Las palabras se indexan por la secuencia de codigos de ficha ({@link AlfabetoFichas}) de su forma plegada
+ * (sin tildes ni dieresis, conservando la Ñ), que es como aparecen en el tablero. Asi una palabra del tablero
+ * se verifica con una sola busqueda en el automata, sin generar variantes acentuadas ni construir cadenas,
+ * y los digrafos CH, LL y RR solo coinciden con su propia ficha. El automata puede ser un {@link Dawg} construido en memoria
+ * a partir de la lista de palabras o un {@link TrieLouds} compilado y mapeado desde disco.
+ */
+public class Lexico {
+
+    /**
+     * Automata que contiene los codigos de ficha de las formas plegadas del lexico.
+     */
+    private final Automata automata;
+
+    /**
+     * Grafias aceptadas de cada forma plegada; devuelve {@code null} si la unica grafia es la plegada.
+     */
+    private final Function<String, String[]> grafias;
+
+    /**
+     * Constructor que inicializa el lexico con un automata ya construido.
+     *
+     * @param automata el automata con los codigos de ficha de las formas plegadas del lexico.
+     * @param grafias las grafias con tilde o dieresis de cada forma plegada.
+     */
+    public Lexico(Automata automata, Function<String, String[]> grafias) {
+        this.automata = automata;
+        this.grafias = grafias;
+    }
+
+    /**
+     * Construye un lexico a partir de una lista de palabras con su grafia original.
+     * Las palabras con letras que no tienen ficha (por ejemplo K o W) se descartan porque no se pueden jugar.
+     *
+     * @param palabras las palabras del lexico, en minusculas.
+     * @return el lexico construido.
+     */
+    public static Lexico construir(List<String> palabras) {
+        ArrayList<String> claves = new ArrayList<>(palabras.size());
+        HashMap<String, String[]> grafias = new HashMap<>();
+        for (String palabra : palabras) {
+            String plegada = plegar(palabra);
+            byte[] codigos = AlfabetoFichas.codificar(plegada);
+            if (codigos == null) {
+                continue;
+            }
+            claves.add(AlfabetoFichas.clave(codigos));
+            if (!plegada.equals(palabra)) {
+                String[] anteriores = grafias.get(plegada);
+                if (anteriores == null) {
+                    grafias.put(plegada, new String[]{palabra});
+                } else if (!Arrays.asList(anteriores).contains(palabra)) {
+                    String[] nuevas = Arrays.copyOf(anteriores, anteriores.length + 1);
+                    nuevas[anteriores.length] = palabra;
+                    grafias.put(plegada, nuevas);
+                }
+            }
+        }
+        // Si la forma sin tilde tambien es una palabra (p. ej. "solo" y "sólo") se conserva entre las grafias.
+        for (String palabra : palabras) {
+            String[] conTilde = grafias.get(palabra);
+            if (conTilde != null && !Arrays.asList(conTilde).contains(palabra)) {
+                String[] nuevas = Arrays.copyOf(conTilde, conTilde.length + 1);
+                nuevas[conTilde.length] = palabra;
+                grafias.put(palabra, nuevas);
+            }
+        }
+        return new Lexico(Dawg.construir(claves), grafias::get);
+    }
+
+    /**
+     * Carga un lexico desde un archivo de texto con una palabra por linea.
+     * <p>
+     * Las lineas vacias y las que empiezan con {@code #} se ignoran. Las palabras se guardan en minusculas.
+     *
+     * @param archivo la ruta del archivo con la lista de palabras.
+     * @return el lexico cargado.
+     * @throws IOException si ocurre un error al leer el archivo.
+     */
+    public static Lexico cargar(Path archivo) throws IOException {
+        return construir(leerPalabras(archivo));
+    }
+
+    /**
+     * Abre un lexico compilado con {@link CompiladorLexico}. El archivo se mapea en memoria, por lo que
+     * la apertura no depende del tamaño del diccionario.
+     *
+     * @param archivo la ruta del diccionario compilado.
+     * @return el lexico abierto.
+     * @throws IOException si ocurre un error al abrir el archivo o su formato no es valido.
+     */
+    public static Lexico abrir(Path archivo) throws IOException {
+        TrieLouds trie = TrieLouds.abrir(archivo);
+        return new Lexico(trie, trie::buscarGrafias);
+    }
+
+    /**
+     * Lee un archivo de texto con una palabra por linea.
+     *
+     * @param archivo la ruta del archivo con la lista de palabras.
+     * @return las palabras del archivo, en minusculas.
+     * @throws IOException si ocurre un error al leer el archivo.
+     */
+    public static ArrayList<String> leerPalabras(Path archivo) throws IOException {
+        ArrayList<String> palabras = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            String linea;
+            while ((linea = reader.readLine()) != null) {
+                linea = linea.trim();
+                if (!linea.isEmpty() && !linea.startsWith("#")) {
+                    palabras.add(linea.toLowerCase());
+                }
+            }
+        }
+        return palabras;
+    }
+
+    /**
+     * Pliega una palabra: la pasa a minusculas y quita tildes y dieresis, conservando la Ñ.
+     * Los digrafos CH, LL y RR no se ven afectados.
+     *
+     * @param palabra la palabra a plegar.
+     * @return la forma plegada de la palabra.
+     */
+    public static String plegar(String palabra) {
+        char[] letras = palabra.toLowerCase().toCharArray();
+        for (int i = 0; i < letras.length; i++) {
+            letras[i] = switch (letras[i]) {
+                case 'á', 'à', 'ä' -> 'a';
+                case 'é', 'è', 'ë' -> 'e';
+                case 'í', 'ì', 'ï' -> 'i';
+                case 'ó', 'ò', 'ö' -> 'o';
+                case 'ú', 'ù', 'ü' -> 'u';
+                default -> letras[i];
+            };
+        }
+        return new String(letras);
+    }
+
+    /**
+     * Verifica si una palabra pertenece al lexico, sin importar tildes ni dieresis.
+     * Realiza una unica busqueda en el automata.
+     *
+     * @param palabra la palabra a verificar.
+     * @return {@code true} si alguna grafia de la palabra esta en el lexico, {@code false} en caso contrario.
+     */
+    public boolean contiene(String palabra) {
+        byte[] codigos = AlfabetoFichas.codificar(plegar(palabra));
+        return codigos != null && automata.contiene(codigos);
+    }
+
+    /**
+     * Verifica si una secuencia de codigos de ficha forma una palabra del lexico, sin construir cadenas.
+     * Las letras jugadas con comodin se buscan como la letra que representan.
+     *
+     * @param codigos los codigos de las fichas, como en {@link Palabra#getCodigos()}.
+     * @return {@code true} si la secuencia es una palabra del lexico, {@code false} en caso contrario.
+     */
+    public boolean contiene(byte[] codigos) {
+        return automata.contiene(codigos);
+    }
+
+    /**
+     * Obtiene las grafias aceptadas de una palabra.
+     *
+     * @param palabra la palabra a buscar, con o sin tildes.
+     * @return la lista de grafias aceptadas, vacia si la palabra no esta en el lexico.
+     */
+    public List<String> getGrafias(String palabra) {
+        String plegada = plegar(palabra);
+        if (!contiene(plegada)) {
+            return List.of();
+        }
+        String[] conTilde = grafias.apply(plegada);
+        return conTilde == null ? List.of(plegada) : List.of(conTilde);
+    }
+
+    /**
+     * Obtiene la cantidad de formas plegadas distintas del lexico.
+     *
+     * @return la cantidad de formas plegadas.
+     */
+    public int getCantidadPalabras() {
+        return automata.getCantidadPalabras();
+    }
+}
@@ -8,6 +8,7 @@ public class Main {
      * @param args Argumentos de línea de comandos.
      */
     public static void main(String[] args) {
+        SalidaConsola.instalar();
         MenuScrabble scrabble = new MenuScrabble();
         scrabble.mostrarMenu();
     }
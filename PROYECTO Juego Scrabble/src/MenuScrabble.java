@@ -52,6 +52,7 @@ public class MenuScrabble {
      * Solicita al usuario ingresar el nombre de usuario para un jugador.
      * <p>
      * Verifica si el usuario ya existe en el archivo JSON y lo carga, o solicita un nuevo nombre de usuario.
+     * El usuario "cpu" crea un jugador controlado por la computadora, y "simulador" uno que elige sus jugadas por simulacion.
      *
      * @param tipoJugador el número del jugador (1 o 2).
      * @return el jugador cargado o creado.
@@ -65,6 +66,14 @@ public class MenuScrabble {
                 throw new RuntimeException("Saliendo del programa, registrese para poder jugar!!!");
             }
             nombre = nombre.toLowerCase();
+            if (nombre.equals(JugadorCPU.ALIAS)) {
+                System.out.println("El jugador " + tipoJugador + " sera la computadora.");
+                return new JugadorCPU();
+            }
+            if (nombre.equals(JugadorSimulacion.ALIAS)) {
+                System.out.println("El jugador " + tipoJugador + " sera la computadora con simulacion.");
+                return new JugadorSimulacion();
+            }
 
             // Cargar usuarios desde el archivo JSON
             List<Jugador> usuarios = JsonUtil.cargarUsuarios();
@@ -89,6 +98,7 @@ public class MenuScrabble {
         while (!salir) {
             limpiarPantalla();
             System.out.println(menuPrincipal());
+            RaeVerificador.avisarFiltroDesactivado();
             String opcion = scanner.next();
 
             switch (opcion) {
@@ -281,7 +291,6 @@ public class MenuScrabble {
      */
     public static void limpiarPantalla() {
         System.out.print("\033[H\033[2J");
-        System.out.flush();
     }
 
 }
@@ -0,0 +1,140 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * La clase MotorSugerencias busca las mejores jugadas de un atril para sugerirlas al jugador.
+ * <p>
+ * La busqueda se reparte en un {@link ForkJoinPool}: cada fila (jugadas horizontales) y cada columna
+ * (jugadas verticales) del tablero es una tarea independiente con su propio {@link GeneradorJugadas},
+ * y las tareas se dividen en mitades hasta llegar a una linea. Cada tarea se queda solo con sus mejores
+ * jugadas, por lo que unir los resultados es barato. El tablero y el GADDAG solo se leen, asi que se
+ * comparten entre los hilos sin sincronizacion.
+ * <p>
+ * Si se agota el tiempo disponible, las tareas dejan de empezar anclas nuevas y se devuelven las mejores
+ * jugadas encontradas hasta ese momento.
+ */
+public class MotorSugerencias {
+
+    /**
+     * GADDAG con el lexico.
+     */
+    private final Gaddag gaddag;
+
+    /**
+     * Pool en el que se ejecutan las tareas de busqueda.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor que usa el pool comun de la JVM, con un hilo por nucleo.
+     *
+     * @param gaddag el GADDAG con el lexico.
+     */
+    public MotorSugerencias(Gaddag gaddag) {
+        this(gaddag, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor que usa un pool propio.
+     *
+     * @param gaddag el GADDAG con el lexico.
+     * @param pool el pool en el que se ejecuta la busqueda.
+     */
+    public MotorSugerencias(Gaddag gaddag, ForkJoinPool pool) {
+        this.gaddag = gaddag;
+        this.pool = pool;
+    }
+
+    /**
+     * Busca las mejores jugadas de un atril sobre un tablero.
+     *
+     * @param tablero el tablero actual.
+     * @param fichas las fichas del atril; las posiciones vacias pueden ser {@code null}.
+     * @param cantidad la cantidad maxima de jugadas a devolver.
+     * @param presupuestoMs el tiempo maximo de busqueda en milisegundos.
+     * @return las mejores jugadas encontradas, de mayor a menor puntaje.
+     */
+    public List<Jugada> sugerir(Tablero tablero, Ficha[] fichas, int cantidad, long presupuestoMs) {
+        return sugerir(tablero.getRestricciones(gaddag), GeneradorJugadas.contarAtril(fichas), cantidad, presupuestoMs);
+    }
+
+    /**
+     * Busca las mejores jugadas de un atril usando las restricciones ya calculadas de un tablero.
+     *
+     * @param restricciones las restricciones del tablero, calculadas con el mismo GADDAG.
+     * @param cantidades la cantidad de fichas de cada codigo en el atril.
+     * @param cantidad la cantidad maxima de jugadas a devolver.
+     * @param presupuestoMs el tiempo maximo de busqueda en milisegundos.
+     * @return las mejores jugadas encontradas, de mayor a menor puntaje.
+     */
+    public List<Jugada> sugerir(RestriccionesTablero restricciones, int[] cantidades, int cantidad, long presupuestoMs) {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(presupuestoMs);
+        // En el tablero vacio y cuadrado solo se buscan las jugadas horizontales, como en GeneradorJugadas.
+        int lineas = restricciones.getFilas() + (restricciones.bastanHorizontales() ? 0 : restricciones.getColumnas());
+        List<Jugada> mejores = pool.invoke(new TareaBusqueda(gaddag, restricciones, cantidades, cantidad, limite, 0, lineas));
+        mejores.sort(Jugada.POR_PUNTAJE.reversed());
+        return mejores;
+    }
+
+    /**
+     * Se queda con las mejores jugadas de una lista.
+     */
+    private static List<Jugada> mejores(List<Jugada> jugadas, int cantidad) {
+        PriorityQueue<Jugada> seleccion = new PriorityQueue<>(Jugada.POR_PUNTAJE);
+        for (Jugada jugada : jugadas) {
+            seleccion.add(jugada);
+            if (seleccion.size() > cantidad) {
+                seleccion.poll();
+            }
+        }
+        return new ArrayList<>(seleccion);
+    }
+
+    /**
+     * Tarea que busca las mejores jugadas de un rango de lineas. Las lineas se numeran primero por
+     * filas (jugadas horizontales) y luego por columnas (jugadas verticales).
+     * <p>
+     * {@link RecursiveTask} es serializable, pero las tareas nunca se serializan.
+     */
+    @SuppressWarnings("serial")
+    private static final class TareaBusqueda extends RecursiveTask<List<Jugada>> {
+
+        private final Gaddag gaddag;
+        private final RestriccionesTablero restricciones;
+        private final int[] cantidades;
+        private final int cantidad;
+        private final long limite;
+        private final int desde, hasta;
+
+        TareaBusqueda(Gaddag gaddag, RestriccionesTablero restricciones, int[] cantidades, int cantidad, long limite, int desde, int hasta) {
+            this.gaddag = gaddag;
+            this.restricciones = restricciones;
+            this.cantidades = cantidades;
+            this.cantidad = cantidad;
+            this.limite = limite;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected List<Jugada> compute() {
+            if (hasta - desde == 1) {
+                int filas = restricciones.getFilas();
+                boolean vertical = desde >= filas;
+                ArrayList<Jugada> jugadas = new GeneradorJugadas(gaddag)
+                        .generarLinea(restricciones, cantidades, vertical, vertical ? desde - filas : desde, limite);
+                return mejores(jugadas, cantidad);
+            }
+            int medio = (desde + hasta) >>> 1;
+            TareaBusqueda izquierda = new TareaBusqueda(gaddag, restricciones, cantidades, cantidad, limite, desde, medio);
+            izquierda.fork();
+            List<Jugada> jugadas = new TareaBusqueda(gaddag, restricciones, cantidades, cantidad, limite, medio, hasta).compute();
+            jugadas.addAll(izquierda.join());
+            return mejores(jugadas, cantidad);
+        }
+    }
+}
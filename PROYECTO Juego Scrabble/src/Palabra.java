@@ -18,12 +18,26 @@ public class Palabra {
     private final boolean esVertical;
 
     /**
-     * Constructor que inicializa la palabra con la orientación especificada.
+     * Fila y columna de la primera ficha de la palabra en el tablero.
+     */
+    private final int fila, columna;
+
+    /**
+     * Codigos de las fichas de la palabra, calculados la primera vez que se piden.
+     */
+    private byte[] codigos;
+
+    /**
+     * Constructor que inicializa la palabra con la orientación y la posición especificadas.
      *
      * @param esVertical {@code true} si la palabra está dispuesta de manera vertical, {@code false} si es horizontal.
+     * @param fila la fila de la primera ficha de la palabra.
+     * @param columna la columna de la primera ficha de la palabra.
      */
-    public Palabra(boolean esVertical) {
+    public Palabra(boolean esVertical, int fila, int columna) {
         this.esVertical = esVertical;
+        this.fila = fila;
+        this.columna = columna;
     }
 
     /**
@@ -33,6 +47,8 @@ public class Palabra {
      */
     public Palabra(Palabra palabra) {
         this.esVertical = palabra.esVertical();
+        this.fila = palabra.getFila();
+        this.columna = palabra.getColumna();
         this.palabra = new ArrayList<>(palabra.getPalabra());
     }
 
@@ -52,6 +68,7 @@ public class Palabra {
      */
     public void add(Ficha ficha) {
         palabra.add(ficha);
+        codigos = null;
     }
 
     /**
@@ -61,6 +78,25 @@ public class Palabra {
      */
     public void addFirst(Ficha ficha) {
         palabra.add(0, ficha);
+        codigos = null;
+    }
+
+    /**
+     * Obtiene la fila de la primera ficha de la palabra.
+     *
+     * @return la fila de la primera ficha.
+     */
+    public int getFila() {
+        return fila;
+    }
+
+    /**
+     * Obtiene la columna de la primera ficha de la palabra.
+     *
+     * @return la columna de la primera ficha.
+     */
+    public int getColumna() {
+        return columna;
     }
 
     /**
@@ -81,17 +117,29 @@ public class Palabra {
         return palabra;
     }
 
+    /**
+     * Obtiene la palabra como la secuencia de codigos de sus fichas ({@link AlfabetoFichas}).
+     * A diferencia de {@link #toString()}, distingue la ficha CH de las fichas C y H.
+     *
+     * @return los codigos de las fichas, en orden.
+     */
+    public byte[] getCodigos() {
+        if (codigos == null) {
+            codigos = new byte[palabra.size()];
+            for (int i = 0; i < codigos.length; i++) {
+                codigos[i] = palabra.get(i).getCodigo();
+            }
+        }
+        return codigos;
+    }
+
     /**
      * Obtiene el puntaje total de las fichas en la palabra.
      *
      * @return el puntaje total de las fichas.
      */
     public int getPuntaje() {
-        int puntaje = 0;
-        for (Ficha ficha : palabra) {
-            puntaje += ficha.getValor();
-        }
-        return puntaje;
+        return AlfabetoFichas.puntaje(getCodigos());
     }
 
     /**
@@ -119,7 +167,8 @@ public class Palabra {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Palabra that = (Palabra) o;
-        return esVertical == that.esVertical && Objects.equals(palabra, that.palabra);
+        return esVertical == that.esVertical && fila == that.fila && columna == that.columna
+                && Objects.equals(palabra, that.palabra);
     }
 
     /**
@@ -129,6 +178,6 @@ public class Palabra {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(palabra, esVertical);
+        return Objects.hash(palabra, esVertical, fila, columna);
     }
 }
@@ -1,5 +1,15 @@
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Clase PalabraExtractor.
@@ -7,6 +17,27 @@ import java.util.HashSet;
  */
 public class PalabraExtractor {
 
+    /**
+     * Tiempo maximo que se espera la verificacion de una jugada antes de dejarla pendiente, en milisegundos.
+     */
+    private static final long TIEMPO_MAXIMO_VERIFICACION_MS = Long.getLong("scrabble.verificacion.maxMs", 8000);
+
+    /**
+     * Verificaciones especulativas de las palabras que forman las fichas puestas en el turno, por texto.
+     */
+    private final transient HashMap<String, CompletableFuture<Veredicto>> especulaciones = new HashMap<>();
+
+    /**
+     * Palabras de la ultima llamada a {@link #extraerPalabras}: fila, columna, orientacion (1 si es
+     * vertical) y largo de cada una, seguidos. Se reutiliza entre llamadas.
+     */
+    private transient int[] palabras = new int[4 * 16];
+
+    /**
+     * Cantidad de palabras de la ultima llamada a {@link #extraerPalabras}.
+     */
+    private transient int cantidadPalabras;
+
     /**
      * Constructor de la clase PalabraExtractor.
      */
@@ -14,57 +45,114 @@ public class PalabraExtractor {
     }
 
     /**
-     * Extrae una palabra vertical en el tablero a partir de una posición dada.
-     * @param fila La fila inicial de la extracción.
-     * @param columna La columna inicial de la extracción.
-     * @param tablero El tablero del juego.
-     * @return Una instancia de Palabra que representa la palabra vertical extraída.
+     * Busca las palabras que forman las fichas puestas en una sola pasada por sus posiciones, sin crear
+     * objetos: para cada ficha se busca la palabra vertical y la horizontal que pasan por ella con las
+     * casillas ocupadas del tablero, y se descartan las de una sola letra y las repetidas (la misma
+     * posicion y orientacion). Las palabras quedan descritas por su posicion y su largo, y se consultan
+     * con {@link #getFilaPalabra}, {@link #getColumnaPalabra}, {@link #esVerticalPalabra} y
+     * {@link #getLargoPalabra} hasta la siguiente llamada.
+     *
+     * @param IndiceFichasPuestas Lista de los índices de las fichas puestas; se ignoran los {@code null}.
+     * @param tablero El tablero del juego con las fichas puestas.
+     * @return La cantidad de palabras formadas.
      */
-    private Palabra extraerPalabraVertical(int fila, int columna, Tablero tablero) {
-        Palabra palabraVertical = new Palabra(true);
-
-        // Extraer palabra vertical hacia abajo
-        for (int i = fila; i < tablero.getTablero().length; i++) {
-            if (!tablero.getTablero()[i][columna].getLetra().equals("  ")) {
-                palabraVertical.add(tablero.getTablero()[i][columna]);
-            } else break;
+    public int extraerPalabras(List<int[]> IndiceFichasPuestas, Tablero tablero) {
+        cantidadPalabras = 0;
+        for (int i = 0; i < IndiceFichasPuestas.size(); i++) {
+            int[] indices = IndiceFichasPuestas.get(i);
+            if (indices != null && tablero.estaOcupada(indices[0], indices[1])) {
+                agregarPalabra(indices[0], indices[1], true, tablero);
+                agregarPalabra(indices[0], indices[1], false, tablero);
+            }
         }
+        return cantidadPalabras;
+    }
 
-        // Extraer palabra vertical hacia arriba
-        for (int x = fila - 1; x >= 0; x--) {
-            if (!tablero.getTablero()[x][columna].getLetra().equals("  ")) {
-                palabraVertical.addFirst(tablero.getTablero()[x][columna]);
-            } else break;
+    /**
+     * Agrega la palabra que pasa por una casilla en una orientacion, si tiene mas de una letra y no se
+     * encontro antes.
+     */
+    private void agregarPalabra(int fila, int columna, boolean vertical, Tablero tablero) {
+        int inicio = tablero.inicioPalabra(fila, columna, vertical);
+        int largo = tablero.finPalabra(fila, columna, vertical) - inicio + 1;
+        if (largo < 2) {
+            return;
+        }
+        int filaInicio = vertical ? inicio : fila;
+        int columnaInicio = vertical ? columna : inicio;
+        int orientacion = vertical ? 1 : 0;
+        for (int i = 0; i < 4 * cantidadPalabras; i += 4) {
+            if (palabras[i] == filaInicio && palabras[i + 1] == columnaInicio && palabras[i + 2] == orientacion) {
+                return;
+            }
         }
-        return palabraVertical;
+        if (4 * cantidadPalabras == palabras.length) {
+            palabras = Arrays.copyOf(palabras, 2 * palabras.length);
+        }
+        int i = 4 * cantidadPalabras++;
+        palabras[i] = filaInicio;
+        palabras[i + 1] = columnaInicio;
+        palabras[i + 2] = orientacion;
+        palabras[i + 3] = largo;
     }
 
     /**
-     * Extrae una palabra horizontal en el tablero a partir de una posición dada.
-     * @param fila La fila inicial de la extracción.
-     * @param columna La columna inicial de la extracción.
-     * @param tablero El tablero del juego.
-     * @return Una instancia de Palabra que representa la palabra horizontal extraída.
+     * Obtiene la fila de la primera letra de una palabra de la ultima extraccion.
+     * @param palabra El numero de palabra, de 0 a la cantidad de palabras menos 1.
+     * @return La fila de la primera letra.
      */
-    private Palabra extraerPalabraHorizontal(int fila, int columna, Tablero tablero) {
-        Palabra palabraHorizontal = new Palabra(false);
+    public int getFilaPalabra(int palabra) {
+        return palabras[4 * palabra];
+    }
 
-        // Extraer palabra horizontal hacia la derecha
-        for (int j = columna; j < tablero.getTablero()[0].length; j++) {
-            if (!tablero.getTablero()[fila][j].getLetra().equals("  ")) {
-                palabraHorizontal.add(tablero.getTablero()[fila][j]);
-            } else {
-                break;
-            }
-        }
+    /**
+     * Obtiene la columna de la primera letra de una palabra de la ultima extraccion.
+     * @param palabra El numero de palabra, de 0 a la cantidad de palabras menos 1.
+     * @return La columna de la primera letra.
+     */
+    public int getColumnaPalabra(int palabra) {
+        return palabras[4 * palabra + 1];
+    }
+
+    /**
+     * Indica si una palabra de la ultima extraccion es vertical.
+     * @param palabra El numero de palabra, de 0 a la cantidad de palabras menos 1.
+     * @return true si es vertical, false si es horizontal.
+     */
+    public boolean esVerticalPalabra(int palabra) {
+        return palabras[4 * palabra + 2] == 1;
+    }
+
+    /**
+     * Obtiene la cantidad de letras de una palabra de la ultima extraccion.
+     * @param palabra El numero de palabra, de 0 a la cantidad de palabras menos 1.
+     * @return El largo de la palabra.
+     */
+    public int getLargoPalabra(int palabra) {
+        return palabras[4 * palabra + 3];
+    }
 
-        // Extraer palabra horizontal hacia la izquierda
-        for (int y = columna - 1; y >= 0; y--) {
-            if (!tablero.getTablero()[fila][y].getLetra().equals("  ")) {
-                palabraHorizontal.addFirst(tablero.getTablero()[fila][y]);
-            } else break;
+    /**
+     * Suma el valor de las fichas de una palabra de la ultima extraccion, como {@link Palabra#getPuntaje()}.
+     * @param palabra El numero de palabra, de 0 a la cantidad de palabras menos 1.
+     * @param tablero El tablero del que se extrajo la palabra.
+     * @return El puntaje de la palabra.
+     */
+    public int getPuntajePalabra(int palabra, Tablero tablero) {
+        int puntaje = 0;
+        for (int k = 0; k < getLargoPalabra(palabra); k++) {
+            puntaje += AlfabetoFichas.valor(codigoEn(palabra, k, tablero));
         }
-        return palabraHorizontal;
+        return puntaje;
+    }
+
+    /**
+     * Obtiene el codigo de una letra de una palabra de la ultima extraccion.
+     */
+    private byte codigoEn(int palabra, int letra, Tablero tablero) {
+        boolean vertical = esVerticalPalabra(palabra);
+        return tablero.getCodigo(getFilaPalabra(palabra) + (vertical ? letra : 0),
+                getColumnaPalabra(palabra) + (vertical ? 0 : letra));
     }
 
     /**
@@ -74,47 +162,162 @@ public class PalabraExtractor {
      * @return Un conjunto de instancias de Palabra que representan las palabras formadas.
      */
     private HashSet<Palabra> extraerPalabrasFormadas(ArrayList<int[]> IndiceFichasPuestas, Tablero tablero) {
+        if (extraerPalabras(IndiceFichasPuestas, tablero) == 0) {
+            return null;
+        }
         HashSet<Palabra> palabrasFormadas = new HashSet<>();
-        for (int[] indices : IndiceFichasPuestas) {
-            Palabra palabraVertical = extraerPalabraVertical(indices[0], indices[1], tablero);
-            Palabra palabraHorizontal = extraerPalabraHorizontal(indices[0], indices[1], tablero);
+        for (int i = 0; i < cantidadPalabras; i++) {
+            boolean vertical = esVerticalPalabra(i);
+            Palabra palabra = new Palabra(vertical, getFilaPalabra(i), getColumnaPalabra(i));
+            for (int k = 0; k < getLargoPalabra(i); k++) {
+                palabra.add(Ficha.deCodigo(codigoEn(i, k, tablero)));
+            }
+            palabrasFormadas.add(palabra);
+        }
+        return palabrasFormadas;
+    }
 
-            if (palabraVertical.size() > 1) {
-                palabrasFormadas.add(new Palabra(palabraVertical));
+    /**
+     * Adelanta en segundo plano la verificacion de las palabras que forman las fichas puestas hasta ahora,
+     * mientras el jugador sigue colocando fichas. Se llama despues de cada ficha puesta.
+     * <p>
+     * Las verificaciones de palabras que ya no se forman (por ejemplo "cas" al completar "casa") se cancelan
+     * sin interrumpir su consulta, que termina en segundo plano y deja su resultado en cache. Las vigentes siguen en curso o ya estan en cache, y al terminar la jugada
+     * {@link #verificarPalabrasFormadas} se une a ellas en lugar de consultar de nuevo.
+     *
+     * @param IndiceFichasPuestas Lista de los índices de las fichas puestas.
+     * @param tablero El tablero del juego con las fichas puestas.
+     */
+    public void especularPalabrasFormadas(ArrayList<int[]> IndiceFichasPuestas, Tablero tablero) {
+        HashMap<String, Palabra> vigentes = new HashMap<>();
+        HashSet<Palabra> formadas = extraerPalabrasFormadas(IndiceFichasPuestas, tablero);
+        if (formadas != null) {
+            for (Palabra palabra : formadas) {
+                if (AlfabetoFichas.esSecuenciaValida(palabra.getCodigos())) {
+                    vigentes.put(AlfabetoFichas.texto(palabra.getCodigos()), palabra);
+                }
             }
-            if (palabraHorizontal.size() > 1) {
-                palabrasFormadas.add(new Palabra(palabraHorizontal));
+        }
+
+        Iterator<Map.Entry<String, CompletableFuture<Veredicto>>> iterador = especulaciones.entrySet().iterator();
+        while (iterador.hasNext()) {
+            Map.Entry<String, CompletableFuture<Veredicto>> especulacion = iterador.next();
+            if (!vigentes.containsKey(especulacion.getKey())) {
+                especulacion.getValue().cancel(false);
+                iterador.remove();
             }
         }
-        if (!palabrasFormadas.isEmpty()) {
-            return palabrasFormadas;
-        } else return null;
+        for (Map.Entry<String, Palabra> vigente : vigentes.entrySet()) {
+            especulaciones.computeIfAbsent(vigente.getKey(), _ -> verificarPalabraAsync(vigente.getValue()));
+        }
+    }
+
+    /**
+     * Verifica una palabra del tablero por los codigos de sus fichas. Una palabra con un digrafo formado
+     * con fichas sueltas (por ejemplo C y H en lugar de la ficha CH) no es valida.
+     */
+    private CompletableFuture<Veredicto> verificarPalabraAsync(Palabra palabra) {
+        byte[] codigos = palabra.getCodigos();
+        if (!AlfabetoFichas.esSecuenciaValida(codigos)) {
+            return CompletableFuture.completedFuture(Veredicto.INVALIDA);
+        }
+        return RaeVerificador.verificarPalabraAsync(codigos);
+    }
+
+    /**
+     * Cancela todas las verificaciones especulativas del turno, por ejemplo cuando el jugador cancela su palabra.
+     * Las consultas en curso no se interrumpen: terminan en segundo plano y dejan su resultado en cache.
+     */
+    public void cancelarEspeculaciones() {
+        for (CompletableFuture<Veredicto> especulacion : especulaciones.values()) {
+            especulacion.cancel(false);
+        }
+        especulaciones.clear();
+    }
+
+    /**
+     * Verifica un conjunto de palabras a la vez, lanzando todas las consultas en paralelo sin bloquear el juego
+     * mas alla del tiempo maximo de verificacion.
+     * <p>
+     * A diferencia de verificarlas una por una, el tiempo total es el de la consulta mas lenta y se obtiene
+     * el resultado de todas las palabras, no solo hasta la primera invalida. Las palabras que no se confirmen
+     * dentro del tiempo maximo quedan {@link Veredicto#PENDIENTE}; su consulta sigue en segundo plano y su
+     * resultado queda en cache para el siguiente intento.
+     *
+     * @param palabras Las palabras a verificar.
+     * @return Un mapa con el veredicto de cada palabra.
+     */
+    public HashMap<Palabra, Veredicto> verificarPalabras(Set<Palabra> palabras) {
+        HashMap<Palabra, CompletableFuture<Veredicto>> consultas = new HashMap<>();
+        for (Palabra palabra : palabras) {
+            consultas.put(palabra, verificarPalabraAsync(palabra));
+        }
+
+        CompletableFuture<Void> todas = CompletableFuture.allOf(consultas.values().toArray(new CompletableFuture<?>[0]));
+        if (!todas.isDone()) {
+            // Hay que esperar a la RAE: lo escrito hasta ahora se muestra antes de la espera.
+            System.out.flush();
+        }
+        try {
+            todas.get(TIEMPO_MAXIMO_VERIFICACION_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Las palabras sin respuesta quedan pendientes.
+        }
+
+        HashMap<Palabra, Veredicto> resultados = new HashMap<>();
+        for (Map.Entry<Palabra, CompletableFuture<Veredicto>> consulta : consultas.entrySet()) {
+            CompletableFuture<Veredicto> futuro = consulta.getValue();
+            Veredicto veredicto = futuro.isDone() && !futuro.isCompletedExceptionally()
+                    ? futuro.join() : Veredicto.PENDIENTE;
+            resultados.put(consulta.getKey(), veredicto);
+        }
+        return resultados;
     }
 
     /**
      * Verifica las palabras formadas en el tablero y actualiza el puntaje del jugador.
+     * Todas las palabras se verifican a la vez y se informan todas las que resulten invalidas o pendientes.
      * @param IndiceFichasPuestas Lista de los índices de las fichas puestas.
      * @param tablero El tablero del juego.
      * @param jugador El jugador que ha formado las palabras.
-     * @return true si todas las palabras formadas son válidas, false en caso contrario.
+     * @return VALIDA si todas las palabras formadas son válidas, INVALIDA si alguna no lo es,
+     * o PENDIENTE si alguna no se pudo confirmar.
      */
-    public boolean verificarPalabrasFormadas(ArrayList<int[]> IndiceFichasPuestas, Tablero tablero, Jugador jugador) {
+    public Veredicto verificarPalabrasFormadas(ArrayList<int[]> IndiceFichasPuestas, Tablero tablero, Jugador jugador) {
         HashSet<Palabra> palabrasSet = extraerPalabrasFormadas(IndiceFichasPuestas, tablero);
         int puntosPalabras = 0;
         int cantidadPalabras = 0;
 
         if (palabrasSet == null) {
-            return false;
-        } else {
-            for (Palabra palabra : palabrasSet) {
-                if (!RaeVerificador.verificarPalabra(palabra.toString().toLowerCase())) {
-                    System.out.println("Palabra invalida: " + palabra);
-                    return false;
+            cancelarEspeculaciones();
+            return Veredicto.INVALIDA;
+        }
+
+        // Descarta las especulaciones que ya no corresponden; las vigentes se reutilizan al verificar.
+        especularPalabrasFormadas(IndiceFichasPuestas, tablero);
+        HashMap<Palabra, Veredicto> resultados = verificarPalabras(palabrasSet);
+        especulaciones.clear();
+        Veredicto veredictoJugada = Veredicto.VALIDA;
+        for (Palabra palabra : palabrasSet) {
+            Veredicto veredicto = resultados.get(palabra);
+            if (veredicto == Veredicto.INVALIDA) {
+                System.out.println("Palabra invalida: " + palabra);
+                veredictoJugada = Veredicto.INVALIDA;
+            } else if (veredicto == Veredicto.PENDIENTE) {
+                System.out.println("No se pudo verificar la palabra: " + palabra);
+                if (veredictoJugada == Veredicto.VALIDA) {
+                    veredictoJugada = Veredicto.PENDIENTE;
                 }
-                puntosPalabras += palabra.getPuntaje();
-                cantidadPalabras++;
             }
+            puntosPalabras += palabra.getPuntaje();
+            cantidadPalabras++;
+        }
+        if (veredictoJugada != Veredicto.VALIDA) {
+            return veredictoJugada;
         }
+
         jugador.addToScore(puntosPalabras);
         jugador.addToCantidadPalabrasColocadas(cantidadPalabras);
 
@@ -124,7 +327,6 @@ public class PalabraExtractor {
         }
 
         System.out.println("\n¡¡¡Has ganado: " + puntosPalabras + " puntos!!!");
-        return true;
+        return Veredicto.VALIDA;
     }
 }
-
@@ -0,0 +1,157 @@
+import java.io.PrintStream;
+
+/**
+ * La clase PantallaTablero muestra un {@link Tablero} en la consola volviendo a escribir solo las casillas
+ * que cambiaron desde el ultimo cuadro.
+ * <p>
+ * El primer cuadro limpia la pantalla y escribe el tablero completo arriba, seguido de un pie (el atril y
+ * las instrucciones). Despues recuerda lo que muestra cada casilla y, en los cuadros siguientes, mueve el
+ * cursor con secuencias ANSI solo a las casillas cuya ficha o resaltado cambio. Al terminar deja el cursor
+ * debajo del pie y borra lo que se escribio ahi (la tecla ingresada y los mensajes), para que la pantalla
+ * no se desplace y las posiciones del tablero sigan siendo validas. Cada cuadro se escribe con una sola
+ * llamada a la salida.
+ * <p>
+ * Si se escribe en la consola por fuera de esta clase, la pantalla deja de coincidir con el ultimo cuadro:
+ * hay que llamar a {@link #invalidar()} para que el siguiente cuadro sea completo. El cuadro tiene que
+ * caber en la pantalla; si la consola se desplaza, las posiciones de las casillas dejan de ser validas.
+ */
+public class PantallaTablero {
+
+    /**
+     * Columna de la consola (desde 1) donde empieza la primera casilla; el tablero se escribe despues de un tabulador.
+     */
+    private static final int COLUMNA_TABLERO = 9;
+
+    /**
+     * Columnas de la consola que ocupa cada casilla.
+     */
+    private static final int ANCHO_CASILLA = 4;
+
+    /**
+     * Bit del estado de una casilla que indica que esta resaltada.
+     */
+    private static final int RESALTADA = 0x100;
+
+    /**
+     * Tablero que se muestra.
+     */
+    private final Tablero tablero;
+
+    /**
+     * Salida donde se escriben los cuadros.
+     */
+    private final PrintStream salida;
+
+    /**
+     * Estado de cada casilla en el ultimo cuadro, por filas: el codigo de su ficha, con {@link #RESALTADA}
+     * si estaba resaltada.
+     */
+    private final int[] cuadro;
+
+    /**
+     * Pie del ultimo cuadro completo, o {@code null} si la pantalla no coincide con ningun cuadro.
+     */
+    private String pie;
+
+    /**
+     * Cantidad de lineas del pie.
+     */
+    private int lineasPie;
+
+    /**
+     * Texto del cuadro que se esta armando. Se reutiliza entre cuadros.
+     */
+    private final StringBuilder texto = new StringBuilder();
+
+    /**
+     * Constructor que inicializa la pantalla de un tablero.
+     *
+     * @param tablero el tablero a mostrar.
+     * @param salida la salida donde se escriben los cuadros, normalmente {@code System.out}.
+     */
+    public PantallaTablero(Tablero tablero, PrintStream salida) {
+        this.tablero = tablero;
+        this.salida = salida;
+        this.cuadro = new int[tablero.getFilas() * tablero.getColumnas()];
+    }
+
+    /**
+     * Muestra el tablero y el pie. Si la pantalla coincide con el ultimo cuadro y el pie no cambio, solo
+     * escribe las casillas que cambiaron; si no, limpia la pantalla y escribe el cuadro completo.
+     *
+     * @param pie el texto a mostrar debajo del tablero, con sus saltos de linea.
+     */
+    public void actualizar(String pie) {
+        if (!pie.equals(this.pie)) {
+            dibujarCompleto(pie);
+            return;
+        }
+        texto.setLength(0);
+        int columnas = tablero.getColumnas();
+        for (int fila = 0; fila < tablero.getFilas(); fila++) {
+            for (int columna = 0; columna < columnas; columna++) {
+                int estado = estado(fila, columna);
+                if (cuadro[fila * columnas + columna] != estado) {
+                    cuadro[fila * columnas + columna] = estado;
+                    moverCursor(fila + 1, COLUMNA_TABLERO + columna * ANCHO_CASILLA);
+                    texto.append(tablero.getSimboloCasilla(fila, columna));
+                }
+            }
+        }
+        moverCursor(tablero.getFilas() + lineasPie + 1, 1);
+        texto.append("\033[J");
+        escribir();
+    }
+
+    /**
+     * Indica que la pantalla ya no coincide con el ultimo cuadro, por ejemplo porque se escribieron
+     * mensajes en la consola. El siguiente cuadro se escribe completo.
+     */
+    public void invalidar() {
+        pie = null;
+    }
+
+    /**
+     * Limpia la pantalla y escribe el tablero completo y el pie.
+     */
+    private void dibujarCompleto(String pie) {
+        texto.setLength(0);
+        texto.append("\033[H\033[2J");
+        int columnas = tablero.getColumnas();
+        for (int fila = 0; fila < tablero.getFilas(); fila++) {
+            texto.append('\t');
+            for (int columna = 0; columna < columnas; columna++) {
+                cuadro[fila * columnas + columna] = estado(fila, columna);
+                texto.append(tablero.getSimboloCasilla(fila, columna));
+            }
+            texto.append('\n');
+        }
+        texto.append(pie);
+        this.pie = pie;
+        lineasPie = (int) pie.chars().filter(c -> c == '\n').count();
+        escribir();
+    }
+
+    /**
+     * Obtiene el estado de una casilla para compararlo con el del ultimo cuadro.
+     */
+    private int estado(int fila, int columna) {
+        return (tablero.getCodigo(fila, columna) & 0xFF) | (tablero.estaResaltada(fila, columna) ? RESALTADA : 0);
+    }
+
+    /**
+     * Agrega la secuencia que mueve el cursor a una linea y columna de la consola, contadas desde 1.
+     */
+    private void moverCursor(int linea, int columna) {
+        texto.append("\033[").append(linea).append(';').append(columna).append('H');
+    }
+
+    /**
+     * Escribe el cuadro armado en una sola llamada y vacia la salida, porque un cuadro parcial no
+     * termina en salto de linea.
+     */
+    private void escribir() {
+        salida.print(texto);
+        salida.flush();
+    }
+}
@@ -2,66 +2,565 @@ import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.select.Elements;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * La clase RaeVerificador se encarga de verificar palabras en el diccionario de la Real Academia Española (RAE).
+ * <p>
+ * Primero consulta el {@link Lexico} local; el diccionario en linea de la RAE solo se usa como respaldo
+ * para las palabras que no estan en el lexico. Si la RAE no responde, la palabra queda
+ * {@link Veredicto#PENDIENTE} y un {@link InterruptorCircuito} evita seguir esperando a un servicio caido.
  */
 public class RaeVerificador {
 
     /**
-     * URL base del diccionario de la RAE.
+     * URL base del diccionario de la RAE. Se puede cambiar para apuntar a un servidor de pruebas.
      */
-    private static final String RAE_URL = "https://dle.rae.es/";
+    private static String urlBase = System.getProperty("scrabble.rae.url", "https://dle.rae.es/");
+
+    /**
+     * Ruta del archivo con la lista de palabras del lexico local.
+     */
+    private static final String ARCHIVO_LEXICO = System.getProperty("scrabble.lexico", "lexico.txt");
+
+    /**
+     * Ruta del lexico compilado con {@link CompiladorLexico}. Si existe se usa en lugar de la lista de palabras.
+     */
+    private static final String ARCHIVO_LEXICO_COMPILADO = System.getProperty("scrabble.lexico.bin", "lexico.bin");
+
+    /**
+     * Lexico local, o {@code null} si no hay un archivo de lexico disponible.
+     */
+    private static Lexico lexico;
+
+    /**
+     * Indica si ya se intento cargar el lexico local.
+     */
+    private static boolean lexicoCargado = false;
+
+    /**
+     * Indica si se consulta la RAE cuando una palabra no esta en el lexico local.
+     */
+    private static boolean consultarRae = Boolean.parseBoolean(System.getProperty("scrabble.rae.respaldo", "true"));
+
+    /**
+     * Ruta del archivo con la lista de palabras usada para construir el filtro de Bloom. La lista no se
+     * distribuye con el juego: hay que proveerla, una forma por linea, para que el filtro se active.
+     */
+    private static final String ARCHIVO_FILTRO = System.getProperty("scrabble.filtro", "formas.txt");
+
+    /**
+     * Tasa de falsos positivos con la que se construye el filtro de Bloom.
+     */
+    private static final double TASA_FALSOS_POSITIVOS = Double.parseDouble(System.getProperty("scrabble.filtro.fp", "0.01"));
+
+    /**
+     * Filtro de Bloom que descarta palabras inexistentes antes de consultar la RAE, o {@code null} si no hay lista.
+     */
+    private static FiltroBloom filtro;
+
+    /**
+     * Indica si ya se intento construir el filtro de Bloom.
+     */
+    private static boolean filtroCargado = false;
+
+    /**
+     * Directorio donde se guarda la cache persistente de consultas a la RAE.
+     */
+    private static final String DIRECTORIO_CACHE = System.getProperty("scrabble.cache.dir", ".");
+
+    /**
+     * Tiempo de vida de los resultados negativos de la cache persistente, en horas.
+     */
+    private static final long TTL_NEGATIVOS_HORAS = Long.getLong("scrabble.cache.ttlNegativoHoras", 24 * 7);
+
+    /**
+     * Cache persistente de consultas a la RAE, o {@code null} si no se pudo abrir.
+     */
+    private static CacheVerificaciones cache;
+
+    /**
+     * Indica si ya se intento abrir la cache persistente.
+     */
+    private static boolean cacheAbierta = false;
+
+    /**
+     * Cantidad maxima de palabras guardadas en la cache en memoria.
+     */
+    private static final int CAPACIDAD_CACHE_MEMORIA = Integer.getInteger("scrabble.cache.memoria", 4096);
+
+    /**
+     * Cache en memoria de los resultados de {@link #verificarPalabra(String)}, positivos y negativos.
+     */
+    private static final CacheLRU<String, Boolean> cacheMemoria = new CacheLRU<>(CAPACIDAD_CACHE_MEMORIA);
+
+    /**
+     * Indica si las variantes de una palabra se consultan a la RAE todas a la vez, en hilos virtuales.
+     */
+    private static boolean modoConcurrente = Boolean.parseBoolean(System.getProperty("scrabble.rae.concurrente", "true"));
+
+    /**
+     * Espera base entre reintentos, en milisegundos; se duplica en cada reintento.
+     */
+    private static final long ESPERA_BASE_MS = 250;
+
+    /**
+     * Espera maxima entre reintentos, en milisegundos.
+     */
+    private static final long ESPERA_MAXIMA_MS = 4000;
+
+    /**
+     * Interruptor que deja de consultar la RAE tras varios fallos seguidos.
+     */
+    private static final InterruptorCircuito interruptor = new InterruptorCircuito(
+            Integer.getInteger("scrabble.rae.umbralFallos", 5), Long.getLong("scrabble.rae.esperaCircuitoMs", 30_000));
+
+    /**
+     * Ejecutor de las verificaciones asincronas: un hilo virtual por verificacion.
+     */
+    private static final ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Verificaciones en curso por palabra normalizada, para que dos pedidos de la misma palabra compartan la consulta.
+     */
+    private static final ConcurrentHashMap<String, CompletableFuture<Veredicto>> enCurso = new ConcurrentHashMap<>();
 
     /**
      * Verifica si una palabra es válida según el diccionario de la RAE.
+     * Si la palabra no se pudo confirmar (por ejemplo sin conexion) se considera no válida.
      *
      * @param palabra la palabra a verificar.
      * @return {@code true} si la palabra es válida, {@code false} en caso contrario.
      */
     public static boolean verificarPalabra(String palabra) {
+        return verificar(palabra) == Veredicto.VALIDA;
+    }
+
+    /**
+     * Verifica una palabra sin bloquear al llamador. La verificacion se ejecuta en un hilo virtual.
+     * <p>
+     * Si la misma palabra ya se esta verificando se devuelve el futuro de esa verificacion en lugar de
+     * consultar de nuevo. Cancelar el futuro no interrumpe la consulta, porque una interrupcion durante la
+     * lectura o escritura de la cache persistente cerraria su canal: la consulta termina en segundo plano y
+     * su resultado queda en cache. Como el futuro puede estar compartido, solo debe cancelarlo quien sabe que
+     * nadie mas espera su resultado.
+     *
+     * @param palabra la palabra a verificar.
+     * @return un futuro con el veredicto de la palabra.
+     */
+    public static CompletableFuture<Veredicto> verificarPalabraAsync(String palabra) {
+        String normalizada = palabra.trim().toLowerCase();
+        CompletableFuture<Veredicto> existente = enCurso.get(normalizada);
+        if (existente != null) {
+            return existente;
+        }
+        CompletableFuture<Veredicto> futuro = new CompletableFuture<>();
+        existente = enCurso.putIfAbsent(normalizada, futuro);
+        if (existente != null) {
+            return existente;
+        }
+        ejecutor.execute(() -> {
+            try {
+                futuro.complete(verificar(normalizada));
+            } catch (RuntimeException e) {
+                futuro.completeExceptionally(e);
+            }
+        });
+        futuro.whenComplete((_, _) -> enCurso.remove(normalizada, futuro));
+        return futuro;
+    }
+
+    /**
+     * Verifica una palabra del tablero dada como codigos de ficha. Si el lexico local la contiene se
+     * responde de inmediato, sin construir cadenas ni usar otro hilo; si no, se verifica su texto.
+     *
+     * @param codigos los codigos de las fichas de la palabra, sin digrafos formados con fichas sueltas.
+     * @return un futuro con el veredicto de la palabra.
+     */
+    public static CompletableFuture<Veredicto> verificarPalabraAsync(byte[] codigos) {
+        Lexico lexicoLocal = getLexico();
+        if (lexicoLocal != null && lexicoLocal.contiene(codigos)) {
+            return CompletableFuture.completedFuture(Veredicto.VALIDA);
+        }
+        return verificarPalabraAsync(AlfabetoFichas.texto(codigos));
+    }
+
+    /**
+     * Verifica una palabra y devuelve su veredicto, consultando primero la cache en memoria.
+     * Solo los veredictos definitivos se guardan en la cache; los pendientes se vuelven a intentar.
+     *
+     * @param palabra la palabra a verificar.
+     * @return el veredicto de la palabra.
+     */
+    public static Veredicto verificar(String palabra) {
         if (palabra.contains("#")) {
-            return false;
+            return Veredicto.INVALIDA;
+        }
+
+        String normalizada = palabra.trim().toLowerCase();
+        Boolean guardado = cacheMemoria.obtener(normalizada);
+        if (guardado != null) {
+            return guardado ? Veredicto.VALIDA : Veredicto.INVALIDA;
         }
+        Veredicto veredicto = verificarPalabraSinCache(normalizada);
+        if (veredicto != Veredicto.PENDIENTE) {
+            cacheMemoria.guardar(normalizada, veredicto == Veredicto.VALIDA);
+        }
+        return veredicto;
+    }
 
+    /**
+     * Verifica una palabra normalizada consultando el lexico local y, como respaldo, la RAE.
+     *
+     * @param palabra la palabra a verificar, en minusculas.
+     * @return el veredicto de la palabra.
+     */
+    private static Veredicto verificarPalabraSinCache(String palabra) {
+        Lexico lexicoLocal = getLexico();
+        if (lexicoLocal != null) {
+            // El lexico esta indexado por la forma sin tildes: basta una busqueda, sin generar variantes.
+            if (lexicoLocal.contiene(palabra)) {
+                return Veredicto.VALIDA;
+            }
+            if (!consultarRae) {
+                return Veredicto.INVALIDA;
+            }
+        }
+
+        FiltroBloom filtroActual = getFiltro();
+        if (filtroActual != null && !filtroActual.puedeContener(palabra)) {
+            return Veredicto.INVALIDA;
+        }
+
+        Veredicto veredicto = verificarVariantesRae(palabra);
+        if (filtroActual != null && veredicto == Veredicto.INVALIDA) {
+            filtroActual.registrarFalsoPositivo();
+        }
+        return veredicto;
+    }
+
+    /**
+     * Verifica las variantes acentuadas de una palabra en la RAE.
+     *
+     * @param palabra la palabra a verificar, en minusculas.
+     * @return el veredicto combinado de las variantes.
+     */
+    private static Veredicto verificarVariantesRae(String palabra) {
         ArrayList<String> variantes = VariantesPalabra.generarVariantes(palabra);
+        if (modoConcurrente && variantes.size() > 1) {
+            return verificarVariantesConcurrente(variantes);
+        }
+        Veredicto veredicto = Veredicto.INVALIDA;
         for (String variante : variantes) {
-            if (verificarVariante(variante)) {
-                return true;
+            veredicto = veredicto.combinar(verificarVarianteConCache(variante));
+            if (veredicto == Veredicto.VALIDA) {
+                break;
             }
         }
-        return false;
+        return veredicto;
+    }
+
+    /**
+     * Consulta todas las variantes a la vez, cada una en su propio hilo virtual, y responde con la primera
+     * variante valida, por lo que la demora queda acotada por la consulta individual mas lenta y no por la
+     * suma de todas. Las consultas que siguen pendientes no se interrumpen, porque una interrupcion durante
+     * la lectura o escritura de la cache persistente cerraria su canal: terminan en segundo plano, guardan
+     * su resultado en la cache y su veredicto se descarta.
+     *
+     * @param variantes las variantes a verificar.
+     * @return el veredicto combinado de las variantes.
+     */
+    private static Veredicto verificarVariantesConcurrente(List<String> variantes) {
+        ExecutorService ejecutorVariantes = Executors.newVirtualThreadPerTaskExecutor();
+        ExecutorCompletionService<Veredicto> completadas = new ExecutorCompletionService<>(ejecutorVariantes);
+        for (String variante : variantes) {
+            completadas.submit(() -> verificarVarianteConCache(variante));
+        }
+        Veredicto veredicto = Veredicto.INVALIDA;
+        try {
+            for (int i = 0; i < variantes.size() && veredicto != Veredicto.VALIDA; i++) {
+                veredicto = veredicto.combinar(completadas.take().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            veredicto = Veredicto.PENDIENTE;
+        } catch (ExecutionException e) {
+            System.out.println("Error al verificar variantes: " + e.getCause());
+            veredicto = Veredicto.PENDIENTE;
+        } finally {
+            // No se espera a que terminen las consultas restantes: los hilos virtuales no retienen la JVM.
+            ejecutorVariantes.shutdown();
+        }
+        return veredicto;
+    }
+
+    /**
+     * Establece si las variantes de una palabra se consultan a la RAE de forma concurrente.
+     *
+     * @param concurrente {@code true} para consultar todas las variantes a la vez, {@code false} para hacerlo en orden.
+     */
+    public static void setModoConcurrente(boolean concurrente) {
+        modoConcurrente = concurrente;
+    }
+
+    /**
+     * Obtiene la cache en memoria de palabras verificadas, para consultar sus contadores.
+     *
+     * @return la cache en memoria.
+     */
+    public static CacheLRU<String, Boolean> getCacheMemoria() {
+        return cacheMemoria;
+    }
+
+    /**
+     * Obtiene el lexico local, cargandolo desde disco la primera vez que se necesita.
+     * Se prefiere el lexico compilado, que se mapea en memoria; la lista de palabras queda como respaldo.
+     *
+     * @return el lexico local, o {@code null} si no existe el archivo o no se pudo leer.
+     */
+    public static synchronized Lexico getLexico() {
+        if (!lexicoCargado) {
+            lexicoCargado = true;
+            Path compilado = Path.of(ARCHIVO_LEXICO_COMPILADO);
+            if (Files.isRegularFile(compilado)) {
+                try {
+                    lexico = Lexico.abrir(compilado);
+                    return lexico;
+                } catch (IOException e) {
+                    System.out.println("Error al abrir el lexico " + ARCHIVO_LEXICO_COMPILADO + ": " + e.getMessage());
+                }
+            }
+            Path archivo = Path.of(ARCHIVO_LEXICO);
+            if (Files.isRegularFile(archivo)) {
+                try {
+                    lexico = Lexico.cargar(archivo);
+                } catch (IOException e) {
+                    System.out.println("Error al cargar el lexico " + ARCHIVO_LEXICO + ": " + e.getMessage());
+                }
+            }
+        }
+        return lexico;
+    }
+
+    /**
+     * Establece el lexico local a usar, reemplazando el que se carga desde disco.
+     *
+     * @param nuevoLexico el lexico a usar, o {@code null} para consultar solo la RAE.
+     */
+    public static synchronized void setLexico(Lexico nuevoLexico) {
+        lexico = nuevoLexico;
+        lexicoCargado = true;
+    }
+
+    /**
+     * Obtiene el filtro de Bloom, construyendolo desde disco la primera vez que se necesita.
+     *
+     * @return el filtro de Bloom, o {@code null} si no existe la lista de palabras o no se pudo leer.
+     */
+    public static synchronized FiltroBloom getFiltro() {
+        if (!filtroCargado) {
+            filtroCargado = true;
+            Path archivo = Path.of(ARCHIVO_FILTRO);
+            if (Files.isRegularFile(archivo)) {
+                try {
+                    filtro = FiltroBloom.cargar(archivo, TASA_FALSOS_POSITIVOS);
+                } catch (IOException e) {
+                    System.out.println("Error al cargar el filtro " + ARCHIVO_FILTRO + ": " + e.getMessage());
+                }
+            }
+        }
+        return filtro;
+    }
+
+    /**
+     * Avisa en la consola si no existe la lista de palabras del filtro de Bloom, porque sin ella el filtro
+     * queda desactivado. No construye el filtro, que se construye la primera vez que se necesita. Se llama
+     * debajo del menu principal, para que el aviso no quede borrado al limpiar la pantalla.
+     */
+    public static void avisarFiltroDesactivado() {
+        if (!Files.isRegularFile(Path.of(ARCHIVO_FILTRO))) {
+            System.out.println("No se encontro la lista " + ARCHIVO_FILTRO + ": el filtro de palabras esta desactivado y toda palabra fuera del lexico se consulta a la RAE.");
+        }
+    }
+
+    /**
+     * Establece el filtro de Bloom a usar, reemplazando el que se construye desde disco.
+     *
+     * @param nuevoFiltro el filtro a usar, o {@code null} para no filtrar.
+     */
+    public static synchronized void setFiltro(FiltroBloom nuevoFiltro) {
+        filtro = nuevoFiltro;
+        filtroCargado = true;
+    }
+
+    /**
+     * Establece si se consulta la RAE cuando una palabra no esta en el lexico local.
+     *
+     * @param consultar {@code true} para usar la RAE como respaldo, {@code false} para confiar solo en el lexico.
+     */
+    public static void setConsultarRae(boolean consultar) {
+        consultarRae = consultar;
+    }
+
+    /**
+     * Obtiene la cache persistente de consultas, abriendola la primera vez que se necesita.
+     *
+     * @return la cache persistente, o {@code null} si no se pudo abrir.
+     */
+    public static synchronized CacheVerificaciones getCache() {
+        if (!cacheAbierta) {
+            cacheAbierta = true;
+            try {
+                cache = new CacheVerificaciones(Path.of(DIRECTORIO_CACHE), Duration.ofHours(TTL_NEGATIVOS_HORAS));
+            } catch (IOException e) {
+                System.out.println("Error al abrir la cache de verificaciones: " + e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Establece la cache persistente a usar, reemplazando la que se abre desde disco.
+     *
+     * @param nuevaCache la cache a usar, o {@code null} para no guardar consultas en disco.
+     */
+    public static synchronized void setCache(CacheVerificaciones nuevaCache) {
+        cache = nuevaCache;
+        cacheAbierta = true;
+    }
+
+    /**
+     * Establece la URL base del diccionario consultado.
+     *
+     * @param url la URL base, terminada en {@code /}, a la que se le agrega la palabra.
+     */
+    public static void setUrlBase(String url) {
+        urlBase = url;
+    }
+
+    /**
+     * Establece el tiempo de vida de los resultados negativos guardados en la cache persistente.
+     *
+     * @param ttl el nuevo tiempo de vida.
+     */
+    public static void setTtlNegativos(Duration ttl) {
+        CacheVerificaciones cacheActual = getCache();
+        if (cacheActual != null) {
+            cacheActual.setTtlNegativos(ttl);
+        }
+    }
+
+    /**
+     * Verifica una variante consultando primero la cache persistente y, si no hay un resultado vigente, la RAE.
+     * Los resultados definitivos obtenidos de la RAE se guardan en la cache.
+     *
+     * @param variante la variante de la palabra a verificar.
+     * @return el veredicto de la variante.
+     */
+    private static Veredicto verificarVarianteConCache(String variante) {
+        CacheVerificaciones cacheActual = getCache();
+        if (cacheActual != null) {
+            try {
+                Boolean guardado = cacheActual.buscar(variante);
+                if (guardado != null) {
+                    return guardado ? Veredicto.VALIDA : Veredicto.INVALIDA;
+                }
+            } catch (IOException e) {
+                System.out.println("Error al leer la cache de verificaciones: " + e.getMessage());
+            }
+        }
+
+        Veredicto veredicto = verificarVariante(variante);
+
+        if (cacheActual != null && veredicto != Veredicto.PENDIENTE) {
+            try {
+                cacheActual.guardar(variante, veredicto == Veredicto.VALIDA);
+            } catch (IOException e) {
+                System.out.println("Error al escribir la cache de verificaciones: " + e.getMessage());
+            }
+        }
+        return veredicto;
     }
 
     /**
      * Verifica una variante de una palabra en el diccionario de la RAE.
+     * <p>
+     * Los reintentos esperan con retroceso exponencial y variacion aleatoria. Si el circuito esta abierto
+     * por fallos anteriores, o se agotan los reintentos, la variante queda pendiente en lugar de terminar el programa.
      *
      * @param variante la variante de la palabra a verificar.
-     * @return {@code true} si la variante es válida, {@code false} en caso contrario.
+     * @return el veredicto de la variante.
      */
-    private static boolean verificarVariante(String variante) {
-        String url = RAE_URL + variante;
+    private static Veredicto verificarVariante(String variante) {
+        String url = urlBase + variante;
         int maxRetries = 3;
         int retryCount = 0;
         long timeout = 5000; // 5 segundos
 
         while (retryCount < maxRetries) {
+            if (!interruptor.permiteSolicitud()) {
+                return Veredicto.PENDIENTE;
+            }
             try {
                 Document doc = Jsoup.connect(url).userAgent("Mozilla").timeout((int) timeout).get();
+                interruptor.registrarExito();
                 Elements elementos = doc.select("#resultados");
-                return !elementos.text().startsWith("Aviso");
+                return elementos.text().startsWith("Aviso") ? Veredicto.INVALIDA : Veredicto.VALIDA;
             } catch (Exception e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    // Una prueba interrumpida no dice nada del servicio, pero no puede dejar el circuito semiabierto.
+                    interruptor.liberarPrueba();
+                    return Veredicto.PENDIENTE;
+                }
+                interruptor.registrarFallo();
                 retryCount++;
                 if (retryCount < maxRetries) {
                     System.out.println("Error al conectar: " + e.getMessage() + ". Reintentando (" + retryCount + "/" + maxRetries + ")");
-                }else{
-                    System.out.println("Error al conectarse a internet, porfavor verifique su conexion, firewall o proxy de su red ");
-                    System.exit(130);
+                    if (!esperarReintento(retryCount)) {
+                        return Veredicto.PENDIENTE;
+                    }
                 }
             }
         }
-        return false;
+        System.out.println("Error al conectarse a internet, porfavor verifique su conexion, firewall o proxy de su red ");
+        return Veredicto.PENDIENTE;
     }
 
-}
\ No newline at end of file
+    /**
+     * Espera antes de un reintento un tiempo aleatorio entre 0 y {@code base * 2^(intento-1)}, con un maximo.
+     *
+     * @param intento el numero de reintento, empezando en 1.
+     * @return {@code false} si la espera fue interrumpida.
+     */
+    private static boolean esperarReintento(int intento) {
+        long tope = Math.min(ESPERA_MAXIMA_MS, ESPERA_BASE_MS << (intento - 1));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(tope + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Obtiene el interruptor de circuito que protege las consultas a la RAE.
+     *
+     * @return el interruptor de circuito.
+     */
+    public static InterruptorCircuito getInterruptor() {
+        return interruptor;
+    }
+}
@@ -0,0 +1,411 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * La clase RestriccionesTablero guarda, para cada casilla vacia del tablero, si es ancla y que letras
+ * se pueden poner en ella sin formar una palabra cruzada invalida, en cada una de las dos direcciones.
+ * <p>
+ * Las tablas se calculan completas una sola vez y despues se actualizan con cada jugada confirmada
+ * ({@link #colocarFichas(List, byte[])}): una ficha nueva solo cambia las anclas de sus vecinas y las
+ * restricciones de las casillas que quedan en los extremos de su fila y de su columna.
+ * <p>
+ * Las restricciones de una casilla en la direccion horizontal dependen de la palabra vertical que
+ * se formaria en ella, y viceversa.
+ */
+public class RestriccionesTablero {
+
+    /**
+     * Mascara con todas las letras permitidas (los codigos anteriores al comodin).
+     */
+    public static final int TODAS = (1 << AlfabetoFichas.COMODIN) - 1;
+
+    /**
+     * GADDAG con el que se comprueban las palabras cruzadas.
+     */
+    private final Gaddag gaddag;
+
+    /**
+     * Codigos de ficha de cada casilla, {@link AlfabetoFichas#VACIA} si esta vacia.
+     */
+    private final byte[][] casillas;
+
+    /**
+     * Indica las casillas ancla.
+     */
+    private final boolean[][] anclas;
+
+    /**
+     * Letras permitidas en cada casilla, por direccion de la jugada (0 horizontal, 1 vertical).
+     */
+    private final int[][][] permitidas;
+
+    /**
+     * Puntos de las fichas de la palabra cruzada de cada casilla, por direccion de la jugada,
+     * o -1 si no se forma palabra cruzada.
+     */
+    private final int[][][] sumasCruzadas;
+
+    /**
+     * Indica si el tablero no tiene fichas.
+     */
+    private boolean vacio;
+
+    /**
+     * Fila y columna de la casilla de inicio, la unica ancla del tablero vacio.
+     */
+    private final int filaInicio, columnaInicio;
+
+    /**
+     * Constructor que calcula todas las tablas de una matriz de codigos, con la casilla de inicio en el centro.
+     *
+     * @param gaddag el GADDAG con el lexico.
+     * @param casillas los codigos de cada casilla; se copian.
+     */
+    public RestriccionesTablero(Gaddag gaddag, byte[][] casillas) {
+        this(gaddag, casillas, (casillas.length - 1) / 2, (casillas[0].length - 1) / 2);
+    }
+
+    /**
+     * Constructor que calcula todas las tablas de una matriz de codigos.
+     *
+     * @param gaddag el GADDAG con el lexico.
+     * @param casillas los codigos de cada casilla; se copian.
+     * @param filaInicio la fila de la casilla de inicio.
+     * @param columnaInicio la columna de la casilla de inicio.
+     */
+    public RestriccionesTablero(Gaddag gaddag, byte[][] casillas, int filaInicio, int columnaInicio) {
+        this.gaddag = gaddag;
+        this.filaInicio = filaInicio;
+        this.columnaInicio = columnaInicio;
+        this.casillas = new byte[casillas.length][];
+        for (int i = 0; i < casillas.length; i++) {
+            this.casillas[i] = casillas[i].clone();
+        }
+        int filas = casillas.length;
+        int columnas = casillas[0].length;
+        anclas = new boolean[filas][columnas];
+        permitidas = new int[2][filas][columnas];
+        sumasCruzadas = new int[2][filas][columnas];
+        calcularTablas();
+    }
+
+    /**
+     * Constructor de copia que crea unas restricciones independientes de las originales.
+     *
+     * @param original las restricciones a copiar.
+     */
+    public RestriccionesTablero(RestriccionesTablero original) {
+        this.gaddag = original.gaddag;
+        this.casillas = new byte[original.casillas.length][];
+        this.anclas = new boolean[original.anclas.length][];
+        this.permitidas = new int[2][original.casillas.length][];
+        this.sumasCruzadas = new int[2][original.casillas.length][];
+        for (int i = 0; i < casillas.length; i++) {
+            casillas[i] = original.casillas[i].clone();
+            anclas[i] = original.anclas[i].clone();
+            for (int d = 0; d < 2; d++) {
+                permitidas[d][i] = original.permitidas[d][i].clone();
+                sumasCruzadas[d][i] = original.sumasCruzadas[d][i].clone();
+            }
+        }
+        this.vacio = original.vacio;
+        this.filaInicio = original.filaInicio;
+        this.columnaInicio = original.columnaInicio;
+    }
+
+    /**
+     * Vuelve a calcular todas las tablas desde cero.
+     */
+    public void recalcular() {
+        calcularTablas();
+    }
+
+    /**
+     * Calcula todas las tablas desde cero. Es privado para que el constructor no llame a un metodo que una
+     * subclase podria redefinir.
+     */
+    private void calcularTablas() {
+        vacio = true;
+        for (byte[] fila : casillas) {
+            for (byte casilla : fila) {
+                vacio &= casilla == AlfabetoFichas.VACIA;
+            }
+        }
+        for (int fila = 0; fila < casillas.length; fila++) {
+            for (int columna = 0; columna < casillas[0].length; columna++) {
+                anclas[fila][columna] = calcularAncla(fila, columna);
+                calcularRestriccion(fila, columna, false);
+                calcularRestriccion(fila, columna, true);
+            }
+        }
+    }
+
+    /**
+     * Pone fichas nuevas en las tablas y actualiza solo las casillas afectadas por ellas.
+     *
+     * @param posiciones las posiciones {fila, columna} de las fichas nuevas.
+     * @param codigos los codigos de las fichas, en el mismo orden que las posiciones.
+     */
+    public void colocarFichas(List<int[]> posiciones, byte[] codigos) {
+        for (int i = 0; i < codigos.length; i++) {
+            casillas[posiciones.get(i)[0]][posiciones.get(i)[1]] = codigos[i];
+        }
+        if (vacio) {
+            // La primera jugada cambia el ancla de la casilla de inicio por las vecinas de sus fichas; el
+            // resto de las tablas del tablero vacio se actualiza como en cualquier otra jugada.
+            vacio = false;
+            anclas[filaInicio][columnaInicio] = false;
+        }
+        for (int[] posicion : posiciones) {
+            int fila = posicion[0];
+            int columna = posicion[1];
+            anclas[fila][columna] = false;
+            calcularRestriccion(fila, columna, false);
+            calcularRestriccion(fila, columna, true);
+            marcarAncla(fila - 1, columna);
+            marcarAncla(fila + 1, columna);
+            marcarAncla(fila, columna - 1);
+            marcarAncla(fila, columna + 1);
+
+            int arriba = extremo(fila, columna, -1, 0);
+            int abajo = extremo(fila, columna, 1, 0);
+            int izquierda = extremo(fila, columna, 0, -1);
+            int derecha = extremo(fila, columna, 0, 1);
+            actualizarCasilla(arriba - 1, columna, false);
+            actualizarCasilla(abajo + 1, columna, false);
+            actualizarCasilla(fila, izquierda - 1, true);
+            actualizarCasilla(fila, derecha + 1, true);
+        }
+    }
+
+    /**
+     * Pone en las tablas las fichas nuevas de una jugada.
+     *
+     * @param jugada la jugada a colocar.
+     */
+    public void colocarJugada(Jugada jugada) {
+        ArrayList<int[]> posiciones = new ArrayList<>();
+        byte[] codigos = new byte[jugada.getCantidadFichasNuevas()];
+        for (int i = 0; i < jugada.codigos().length; i++) {
+            if (jugada.esNueva(i)) {
+                codigos[posiciones.size()] = jugada.codigos()[i];
+                posiciones.add(new int[]{jugada.filaDe(i), jugada.columnaDe(i)});
+            }
+        }
+        colocarFichas(posiciones, codigos);
+    }
+
+    /**
+     * Obtiene el codigo de ficha de una casilla.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @return el codigo de la ficha, o {@link AlfabetoFichas#VACIA}.
+     */
+    public byte getCasilla(int fila, int columna) {
+        return casillas[fila][columna];
+    }
+
+    /**
+     * Indica si una casilla es ancla: esta vacia y tiene una ficha al lado, o es la casilla de inicio del tablero vacio.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @return {@code true} si la casilla es ancla.
+     */
+    public boolean esAncla(int fila, int columna) {
+        return anclas[fila][columna];
+    }
+
+    /**
+     * Obtiene las letras que se pueden poner en una casilla en una jugada de la direccion dada.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @param vertical la direccion de la jugada.
+     * @return una mascara con un bit por codigo de letra; 0 si la casilla esta ocupada.
+     */
+    public int getPermitidas(int fila, int columna, boolean vertical) {
+        return permitidas[vertical ? 1 : 0][fila][columna];
+    }
+
+    /**
+     * Obtiene los puntos de las fichas que ya forman la palabra cruzada de una casilla.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @param vertical la direccion de la jugada.
+     * @return la suma de los valores, o -1 si poner una ficha ahi no forma palabra cruzada.
+     */
+    public int getSumaCruzada(int fila, int columna, boolean vertical) {
+        return sumasCruzadas[vertical ? 1 : 0][fila][columna];
+    }
+
+    /**
+     * Indica si el tablero no tiene fichas.
+     *
+     * @return {@code true} si no hay ninguna ficha.
+     */
+    public boolean estaVacio() {
+        return vacio;
+    }
+
+    /**
+     * Indica si alcanza con buscar las jugadas horizontales: en un tablero vacio, cuadrado y con la
+     * casilla de inicio en la diagonal, cada jugada vertical es una horizontal transpuesta.
+     *
+     * @return {@code true} si las jugadas verticales repetirian a las horizontales.
+     */
+    public boolean bastanHorizontales() {
+        return vacio && casillas.length == casillas[0].length && filaInicio == columnaInicio;
+    }
+
+    /**
+     * Obtiene la cantidad de filas del tablero.
+     *
+     * @return la cantidad de filas.
+     */
+    public int getFilas() {
+        return casillas.length;
+    }
+
+    /**
+     * Obtiene la cantidad de columnas del tablero.
+     *
+     * @return la cantidad de columnas.
+     */
+    public int getColumnas() {
+        return casillas[0].length;
+    }
+
+    /**
+     * Indica si estas tablas usan el GADDAG dado.
+     *
+     * @param otro el GADDAG a comparar.
+     * @return {@code true} si es el mismo GADDAG.
+     */
+    public boolean usa(Gaddag otro) {
+        return gaddag == otro;
+    }
+
+    /**
+     * Compara todas las tablas con las de otras restricciones.
+     *
+     * @param otras las restricciones a comparar.
+     * @return {@code true} si las casillas, anclas, letras permitidas y sumas cruzadas coinciden.
+     */
+    public boolean mismasTablas(RestriccionesTablero otras) {
+        return vacio == otras.vacio && Arrays.deepEquals(casillas, otras.casillas) && Arrays.deepEquals(anclas, otras.anclas)
+                && Arrays.deepEquals(permitidas, otras.permitidas) && Arrays.deepEquals(sumasCruzadas, otras.sumasCruzadas);
+    }
+
+    /**
+     * Marca como ancla una casilla vacia, si esta dentro del tablero.
+     */
+    private void marcarAncla(int fila, int columna) {
+        if (fila >= 0 && fila < casillas.length && columna >= 0 && columna < casillas[0].length
+                && casillas[fila][columna] == AlfabetoFichas.VACIA) {
+            anclas[fila][columna] = true;
+        }
+    }
+
+    /**
+     * Recalcula la restriccion de una casilla en una direccion, si esta dentro del tablero.
+     */
+    private void actualizarCasilla(int fila, int columna, boolean vertical) {
+        if (fila >= 0 && fila < casillas.length && columna >= 0 && columna < casillas[0].length) {
+            calcularRestriccion(fila, columna, vertical);
+        }
+    }
+
+    /**
+     * Devuelve la ultima fila (si df != 0) o columna con ficha, avanzando desde una casilla ocupada.
+     */
+    private int extremo(int fila, int columna, int df, int dc) {
+        while (fila + df >= 0 && fila + df < casillas.length && columna + dc >= 0 && columna + dc < casillas[0].length
+                && casillas[fila + df][columna + dc] != AlfabetoFichas.VACIA) {
+            fila += df;
+            columna += dc;
+        }
+        return df != 0 ? fila : columna;
+    }
+
+    /**
+     * Indica si una casilla es ancla calculandolo desde las casillas vecinas.
+     */
+    private boolean calcularAncla(int fila, int columna) {
+        if (casillas[fila][columna] != AlfabetoFichas.VACIA) {
+            return false;
+        }
+        if (vacio) {
+            return fila == filaInicio && columna == columnaInicio;
+        }
+        return (fila > 0 && casillas[fila - 1][columna] != AlfabetoFichas.VACIA)
+                || (fila < casillas.length - 1 && casillas[fila + 1][columna] != AlfabetoFichas.VACIA)
+                || (columna > 0 && casillas[fila][columna - 1] != AlfabetoFichas.VACIA)
+                || (columna < casillas[0].length - 1 && casillas[fila][columna + 1] != AlfabetoFichas.VACIA);
+    }
+
+    /**
+     * Calcula las letras permitidas y la suma cruzada de una casilla para una jugada en la direccion dada,
+     * segun las fichas que tiene antes y despues en la direccion perpendicular. Una letra L es valida si
+     * antes + L + despues esta en el lexico, que en el GADDAG es el camino L, antes invertido, separador, despues.
+     */
+    private void calcularRestriccion(int fila, int columna, boolean vertical) {
+        int d = vertical ? 1 : 0;
+        permitidas[d][fila][columna] = 0;
+        sumasCruzadas[d][fila][columna] = -1;
+        if (casillas[fila][columna] != AlfabetoFichas.VACIA) {
+            return;
+        }
+        // La palabra cruzada de una jugada horizontal es vertical, y viceversa.
+        int df = vertical ? 0 : 1;
+        int dc = vertical ? 1 : 0;
+        int antes = 0;
+        while (dentro(fila - (antes + 1) * df, columna - (antes + 1) * dc)
+                && casillas[fila - (antes + 1) * df][columna - (antes + 1) * dc] != AlfabetoFichas.VACIA) {
+            antes++;
+        }
+        int despues = 0;
+        while (dentro(fila + (despues + 1) * df, columna + (despues + 1) * dc)
+                && casillas[fila + (despues + 1) * df][columna + (despues + 1) * dc] != AlfabetoFichas.VACIA) {
+            despues++;
+        }
+        if (antes == 0 && despues == 0) {
+            permitidas[d][fila][columna] = TODAS;
+            return;
+        }
+
+        int suma = 0;
+        for (int i = -antes; i <= despues; i++) {
+            if (i != 0) {
+                suma += AlfabetoFichas.valor(casillas[fila + i * df][columna + i * dc]);
+            }
+        }
+        sumasCruzadas[d][fila][columna] = suma;
+
+        int mascara = 0;
+        for (int letra = 0; letra < AlfabetoFichas.COMODIN; letra++) {
+            int nodo = gaddag.siguiente(0, letra);
+            for (int i = 1; i <= antes && nodo >= 0; i++) {
+                nodo = gaddag.siguiente(nodo, casillas[fila - i * df][columna - i * dc] & AlfabetoFichas.MASCARA_LETRA);
+            }
+            nodo = gaddag.siguiente(nodo, Gaddag.SEPARADOR);
+            for (int i = 1; i <= despues && nodo >= 0; i++) {
+                nodo = gaddag.siguiente(nodo, casillas[fila + i * df][columna + i * dc] & AlfabetoFichas.MASCARA_LETRA);
+            }
+            if (gaddag.esFinal(nodo)) {
+                mascara |= 1 << letra;
+            }
+        }
+        permitidas[d][fila][columna] = mascara;
+    }
+
+    /**
+     * Indica si una posicion esta dentro del tablero.
+     */
+    private boolean dentro(int fila, int columna) {
+        return fila >= 0 && fila < casillas.length && columna >= 0 && columna < casillas[0].length;
+    }
+}
@@ -0,0 +1,130 @@
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * La clase SalidaConsola junta todo lo que se escribe en la consola en un solo buffer y lo escribe de una
+ * vez, con una sola llamada al canal, cuando el cuadro esta completo.
+ * <p>
+ * {@link #instalar()} reemplaza {@code System.out}, que vacia su buffer en cada {@code print}, por un
+ * {@link PrintStream} sin vaciado automatico sobre esta salida. Asi el tablero, el atril, los indices y las
+ * instrucciones de un turno (o un menu) se componen en el mismo buffer, que se reutiliza entre cuadros, y
+ * se escriben juntos cuando el programa va a leer una tecla: {@code System.in} tambien se reemplaza por una
+ * entrada que vacia la salida antes de leer.
+ * <p>
+ * La salida solo se vacia al terminar un cuadro, nunca por tiempo, para no cortar un cuadro en varias
+ * escrituras. Quien escribe un mensaje antes de un calculo largo (el turno de la computadora, la
+ * verificacion con la RAE, las sugerencias) tiene que llamar a {@code System.out.flush()} para que el
+ * mensaje se vea antes de que el calculo termine.
+ */
+public class SalidaConsola extends OutputStream {
+
+    /**
+     * Canal donde se escriben los cuadros.
+     */
+    private final WritableByteChannel canal;
+
+    /**
+     * Bytes del cuadro que se esta componiendo. Crece si un cuadro no entra y se reutiliza entre cuadros.
+     */
+    private ByteBuffer cuadro = ByteBuffer.allocate(16 * 1024);
+
+    /**
+     * Constructor que inicializa la salida sobre un canal.
+     *
+     * @param canal el canal donde se escriben los cuadros.
+     */
+    public SalidaConsola(WritableByteChannel canal) {
+        this.canal = canal;
+    }
+
+    /**
+     * Reemplaza {@code System.out} por una salida que compone los cuadros en un buffer y los escribe en la
+     * consola con una sola llamada, y {@code System.in} por una entrada que la vacia antes de leer.
+     * Tambien vacia la salida al terminar el programa.
+     */
+    public static void instalar() {
+        PrintStream salida = new PrintStream(new SalidaConsola(new FileOutputStream(FileDescriptor.out).getChannel()),
+                false, System.out.charset());
+        System.setOut(salida);
+        System.setIn(new EntradaConsola(System.in, salida));
+        Runtime.getRuntime().addShutdownHook(new Thread(salida::flush));
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        asegurarEspacio(1);
+        cuadro.put((byte) b);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int desde, int cantidad) {
+        asegurarEspacio(cantidad);
+        cuadro.put(b, desde, cantidad);
+    }
+
+    /**
+     * Escribe en el canal todo lo que se compuso desde el ultimo vaciado. Si no hay nada pendiente no
+     * llama al canal.
+     *
+     * @throws IOException si no se pudo escribir en el canal.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (cuadro.position() == 0) {
+            return;
+        }
+        cuadro.flip();
+        try {
+            while (cuadro.hasRemaining()) {
+                canal.write(cuadro);
+            }
+        } finally {
+            cuadro.clear();
+        }
+    }
+
+    /**
+     * Agranda el buffer, conservando lo compuesto, si no entran los bytes dados.
+     */
+    private void asegurarEspacio(int cantidad) {
+        if (cuadro.remaining() < cantidad) {
+            ByteBuffer mayor = ByteBuffer.allocate(Math.max(2 * cuadro.capacity(), cuadro.position() + cantidad));
+            cuadro.flip();
+            mayor.put(cuadro);
+            cuadro = mayor;
+        }
+    }
+
+    /**
+     * Entrada que vacia la salida antes de cada lectura, para que el cuadro completo se vea antes de
+     * esperar una tecla.
+     */
+    private static final class EntradaConsola extends FilterInputStream {
+
+        private final PrintStream salida;
+
+        EntradaConsola(InputStream entrada, PrintStream salida) {
+            super(entrada);
+            this.salida = salida;
+        }
+
+        @Override
+        public int read() throws IOException {
+            salida.flush();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int desde, int cantidad) throws IOException {
+            salida.flush();
+            return super.read(b, desde, cantidad);
+        }
+    }
+}
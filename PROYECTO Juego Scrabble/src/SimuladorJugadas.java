@@ -0,0 +1,241 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * La clase SimuladorJugadas elige una jugada por simulacion de Monte Carlo en lugar de tomar la de mayor puntaje.
+ * <p>
+ * Toma las mejores jugadas candidatas segun su puntaje y, para cada una, simula muchas veces como podria
+ * seguir la partida: reparte al rival un atril al azar con las fichas que el jugador no ve (las de la bolsa
+ * y las del atril del rival), juega la candidata y despues alterna unas pocas jugadas del rival y propias,
+ * eligiendo siempre la de mayor puntaje. El valor de una simulacion es el puntaje propio menos el del rival,
+ * y se elige la candidata con mejor promedio.
+ * <p>
+ * Las simulaciones se reparten entre todos los hilos del pool hasta agotar el tiempo disponible. Cada hilo
+ * usa su propio {@link GeneradorJugadas} y su propia copia del tablero; el GADDAG se comparte.
+ */
+public class SimuladorJugadas {
+
+    /**
+     * Cantidad de fichas de un atril.
+     */
+    private static final int FICHAS_ATRIL = 7;
+
+    /**
+     * GADDAG con el lexico.
+     */
+    private final Gaddag gaddag;
+
+    /**
+     * Cantidad de jugadas candidatas que se simulan.
+     */
+    private final int candidatos;
+
+    /**
+     * Cantidad de jugadas que se simulan despues de la candidata, alternando rival y jugador.
+     */
+    private final int jugadas;
+
+    /**
+     * Pool en el que se ejecutan las simulaciones.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * El resultado de una eleccion por simulacion.
+     *
+     * @param mejor la jugada elegida, o {@code null} si no hay ninguna jugada posible.
+     * @param simulaciones la cantidad de simulaciones realizadas.
+     * @param nanos el tiempo que llevo la eleccion, en nanosegundos.
+     */
+    public record Resultado(Jugada mejor, long simulaciones, long nanos) {
+
+        /**
+         * Obtiene la cantidad de simulaciones por segundo.
+         *
+         * @return las simulaciones por segundo.
+         */
+        public double getSimulacionesPorSegundo() {
+            return nanos == 0 ? 0 : simulaciones * 1e9 / nanos;
+        }
+    }
+
+    /**
+     * Constructor que inicializa el simulador.
+     *
+     * @param gaddag el GADDAG con el lexico.
+     * @param candidatos la cantidad de jugadas candidatas a simular.
+     * @param jugadas la cantidad de jugadas a simular despues de cada candidata.
+     * @param pool el pool en el que se ejecutan las simulaciones; se usa un hilo de simulacion por cada hilo del pool.
+     */
+    public SimuladorJugadas(Gaddag gaddag, int candidatos, int jugadas, ForkJoinPool pool) {
+        this.gaddag = gaddag;
+        this.candidatos = candidatos;
+        this.jugadas = jugadas;
+        this.pool = pool;
+    }
+
+    /**
+     * Elige la jugada con mejor resultado promedio en las simulaciones.
+     *
+     * @param tablero las restricciones del tablero, calculadas con el mismo GADDAG; no se modifican.
+     * @param atril la cantidad de fichas de cada codigo en el atril del jugador.
+     * @param noVistas la cantidad de fichas de cada codigo que el jugador no ve: la bolsa y los atriles de los rivales.
+     * @param presupuestoMs el tiempo maximo para simular, en milisegundos.
+     * @return la jugada elegida y la cantidad de simulaciones realizadas.
+     */
+    public Resultado elegir(RestriccionesTablero tablero, int[] atril, int[] noVistas, long presupuestoMs) {
+        return elegir(tablero, atril, noVistas, presupuestoMs, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Elige la jugada con mejor resultado promedio en las simulaciones, mezclando las fichas no vistas a
+     * partir de una semilla. Con la misma semilla cada hilo hace las mismas mezclas en el mismo orden; solo
+     * la cantidad de rondas que entran en el tiempo disponible depende de la velocidad de la maquina.
+     *
+     * @param tablero las restricciones del tablero, calculadas con el mismo GADDAG; no se modifican.
+     * @param atril la cantidad de fichas de cada codigo en el atril del jugador.
+     * @param noVistas la cantidad de fichas de cada codigo que el jugador no ve: la bolsa y los atriles de los rivales.
+     * @param presupuestoMs el tiempo maximo para simular, en milisegundos.
+     * @param semilla la semilla de las mezclas.
+     * @return la jugada elegida y la cantidad de simulaciones realizadas.
+     */
+    public Resultado elegir(RestriccionesTablero tablero, int[] atril, int[] noVistas, long presupuestoMs, long semilla) {
+        long inicio = System.nanoTime();
+        List<Jugada> candidatas = new MotorSugerencias(gaddag, pool).sugerir(tablero, atril, candidatos, presupuestoMs);
+        if (candidatas.size() <= 1) {
+            return new Resultado(candidatas.isEmpty() ? null : candidatas.getFirst(), 0, System.nanoTime() - inicio);
+        }
+
+        long limite = inicio + TimeUnit.MILLISECONDS.toNanos(presupuestoMs);
+        int hilos = pool.getParallelism();
+        SplittableRandom mezclas = new SplittableRandom(semilla);
+        ArrayList<Callable<long[]>> trabajos = new ArrayList<>();
+        for (int h = 0; h < hilos; h++) {
+            int primera = h;
+            SplittableRandom random = mezclas.split();
+            trabajos.add(() -> simularHasta(limite, primera, candidatas, tablero, atril, noVistas, random));
+        }
+
+        long[] sumas = new long[candidatas.size()];
+        long[] cuentas = new long[candidatas.size()];
+        try {
+            for (Future<long[]> trabajo : pool.invokeAll(trabajos)) {
+                long[] parcial = trabajo.get();
+                for (int c = 0; c < sumas.length; c++) {
+                    sumas[c] += parcial[2 * c];
+                    cuentas[c] += parcial[2 * c + 1];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.out.println("Error en la simulacion: " + e.getCause());
+        }
+
+        int mejor = 0;
+        long simulaciones = 0;
+        for (int c = 0; c < sumas.length; c++) {
+            simulaciones += cuentas[c];
+            if (cuentas[c] > 0 && (cuentas[mejor] == 0 || (double) sumas[c] / cuentas[c] > (double) sumas[mejor] / cuentas[mejor])) {
+                mejor = c;
+            }
+        }
+        return new Resultado(candidatas.get(mejor), simulaciones, System.nanoTime() - inicio);
+    }
+
+    /**
+     * Simula rondas hasta el limite de tiempo. En cada ronda se mezclan una vez las fichas no vistas y
+     * todas las candidatas se simulan con ese mismo orden de la bolsa, para que las diferencias entre
+     * candidatas no dependan de la suerte de cada simulacion. Cada hilo empieza la ronda por una candidata
+     * distinta, asi una ronda cortada por el limite no deja siempre sin simular a las mismas.
+     *
+     * @return para cada candidata, la suma de sus valores y la cantidad de simulaciones, intercaladas.
+     */
+    private long[] simularHasta(long limite, int primera, List<Jugada> candidatas, RestriccionesTablero tablero,
+                               int[] atril, int[] noVistas, SplittableRandom random) {
+        GeneradorJugadas generador = new GeneradorJugadas(gaddag);
+        int totalNoVistas = 0;
+        for (int cantidad : noVistas) {
+            totalNoVistas += cantidad;
+        }
+        byte[] bolsa = new byte[totalNoVistas];
+        int n = 0;
+        for (byte codigo = 0; codigo < noVistas.length; codigo++) {
+            for (int i = 0; i < noVistas[codigo]; i++) {
+                bolsa[n++] = codigo;
+            }
+        }
+        long[] resultado = new long[2 * candidatas.size()];
+
+        while (System.nanoTime() < limite) {
+            for (int i = bolsa.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                byte ficha = bolsa[i];
+                bolsa[i] = bolsa[j];
+                bolsa[j] = ficha;
+            }
+            for (int k = 0; k < candidatas.size() && System.nanoTime() < limite; k++) {
+                int c = (primera + k) % candidatas.size();
+                resultado[2 * c] += simular(generador, candidatas.get(c), tablero, atril, bolsa);
+                resultado[2 * c + 1]++;
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Juega una candidata y las jugadas siguientes de mayor puntaje, sacando las fichas de la bolsa en orden.
+     * El rival recibe las primeras fichas de la bolsa.
+     *
+     * @return el puntaje propio menos el del rival.
+     */
+    private long simular(GeneradorJugadas generador, Jugada candidata, RestriccionesTablero tablero, int[] atril, byte[] bolsa) {
+        int[] rival = new int[atril.length];
+        int siguiente = robar(bolsa, 0, rival, FICHAS_ATRIL);
+
+        RestriccionesTablero copia = new RestriccionesTablero(tablero);
+        copia.colocarJugada(candidata);
+        int[] propio = atril.clone();
+        candidata.quitarFichas(propio);
+        siguiente = robar(bolsa, siguiente, propio, candidata.getCantidadFichasNuevas());
+
+        long valor = candidata.puntaje();
+        for (int j = 0; j < jugadas; j++) {
+            boolean turnoRival = j % 2 == 0;
+            int[] enTurno = turnoRival ? rival : propio;
+            Jugada elegida = null;
+            for (Jugada jugada : generador.generar(copia, enTurno)) {
+                if (elegida == null || Jugada.POR_PUNTAJE.compare(jugada, elegida) > 0) {
+                    elegida = jugada;
+                }
+            }
+            if (elegida == null) {
+                continue;
+            }
+            valor += turnoRival ? -elegida.puntaje() : elegida.puntaje();
+            copia.colocarJugada(elegida);
+            elegida.quitarFichas(enTurno);
+            siguiente = robar(bolsa, siguiente, enTurno, elegida.getCantidadFichasNuevas());
+        }
+        return valor;
+    }
+
+    /**
+     * Saca fichas de la bolsa en orden y las agrega a un atril.
+     *
+     * @return la posicion de la proxima ficha de la bolsa.
+     */
+    private static int robar(byte[] bolsa, int siguiente, int[] atril, int cantidad) {
+        for (int i = 0; i < cantidad && siguiente < bolsa.length; i++) {
+            atril[bolsa[siguiente++]]++;
+        }
+        return siguiente;
+    }
+}
@@ -0,0 +1,353 @@
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * La clase SolucionadorFinal busca la mejor jugada del final de la partida, cuando la bolsa esta vacia.
+ * <p>
+ * Sin fichas en la bolsa cada jugador conoce el atril del otro (son las fichas que no ve), y la partida es
+ * un juego de informacion completa. La busqueda es alfa-beta en forma negamax con profundizacion iterativa:
+ * se busca a 1, 2, 3... jugadas hasta agotar el tiempo o hasta que ninguna linea llegue al horizonte, en
+ * cuyo caso el resultado es exacto. El valor de una posicion es cuantos puntos mas que el rival sumara el
+ * jugador en turno de ahi al final. La partida termina cuando un jugador se queda sin fichas o cuando los
+ * dos pasan seguido, las mismas reglas con las que terminan {@link Juego} y {@link Torneo}; por eso la
+ * busqueda tiene que saber si el rival acaba de pasar. En el horizonte se estima el valor con la mejor
+ * jugada inmediata.
+ * <p>
+ * Las jugadas se ordenan por puntaje, salvo la mejor de la busqueda anterior de esa posicion, que va primero.
+ * Las posiciones ya buscadas se guardan en una tabla de transposicion indexada por un hash de Zobrist del
+ * tablero, de los dos atriles, del jugador en turno y de si el turno anterior fue un pase.
+ * Una instancia no se debe usar desde varios hilos a la vez.
+ */
+public class SolucionadorFinal {
+
+    /**
+     * Cantidad de entradas de la tabla de transposicion (potencia de dos).
+     */
+    private static final int ENTRADAS = 1 << 18;
+
+    /**
+     * Profundidad maxima de la profundizacion iterativa.
+     */
+    private static final int PROFUNDIDAD_MAXIMA = 32;
+
+    /**
+     * Tipos de valor guardados en la tabla: exacto, cota inferior (hubo corte) y cota superior.
+     */
+    private static final byte EXACTO = 0, INFERIOR = 1, SUPERIOR = 2;
+
+    /**
+     * Valor mayor que cualquier diferencia de puntaje.
+     */
+    private static final int INFINITO = 1_000_000;
+
+    /**
+     * Claves de Zobrist de cada codigo en cada casilla.
+     */
+    private final long[][] zobristCasillas;
+
+    /**
+     * Claves de Zobrist de cada cantidad de cada codigo en el atril de cada jugador.
+     */
+    private final long[][][] zobristAtriles;
+
+    /**
+     * Claves de Zobrist del jugador en turno y del pase anterior.
+     */
+    private final long zobristTurno, zobristPase;
+
+    /**
+     * Tabla de transposicion: hash completo, valor, profundidad buscada, tipo de valor, si la busqueda
+     * llego al final de todas las lineas y la posicion de la mejor jugada en la lista ordenada (la cantidad
+     * de jugadas si lo mejor fue pasar). Los valores dependen solo de la posicion, asi que la tabla se
+     * conserva entre busquedas.
+     */
+    private final long[] claves = new long[ENTRADAS];
+    private final int[] valores = new int[ENTRADAS];
+    private final byte[] profundidades = new byte[ENTRADAS];
+    private final byte[] tipos = new byte[ENTRADAS];
+    private final boolean[] completas = new boolean[ENTRADAS];
+    private final int[] mejoresIndices = new int[ENTRADAS];
+
+    /**
+     * Generador de las jugadas de cada posicion.
+     */
+    private final GeneradorJugadas generador;
+
+    /**
+     * Estado de la busqueda en curso.
+     */
+    private long limite;
+    private long nodos;
+    private boolean agotado;
+    private boolean horizonte;
+    private Jugada mejorRaiz;
+
+    /**
+     * El resultado de la busqueda.
+     *
+     * @param mejor la mejor jugada encontrada, o {@code null} si lo mejor es pasar o no hay jugadas.
+     * @param valor los puntos de ventaja que el jugador sumara hasta el final con esa jugada.
+     * @param profundidad la profundidad de la ultima busqueda completa, en jugadas.
+     * @param exacto {@code true} si la busqueda llego al final de todas las lineas y el valor es exacto.
+     * @param nodos la cantidad de posiciones visitadas.
+     * @param nanos el tiempo de la busqueda, en nanosegundos.
+     */
+    public record Resultado(Jugada mejor, int valor, int profundidad, boolean exacto, long nodos, long nanos) {
+
+        /**
+         * Obtiene la cantidad de posiciones visitadas por segundo.
+         *
+         * @return los nodos por segundo.
+         */
+        public double getNodosPorSegundo() {
+            return nanos == 0 ? 0 : nodos * 1e9 / nanos;
+        }
+
+        /**
+         * Describe la busqueda para mostrarla al jugador.
+         *
+         * @return la profundidad alcanzada, si es exacta, y los nodos por segundo.
+         */
+        public String getResumen() {
+            return String.format("profundidad %d%s, %d nodos en %d ms (%.0f por segundo), ventaja %+d",
+                    profundidad, exacto ? " (exacta)" : "", nodos, nanos / 1_000_000, getNodosPorSegundo(), valor);
+        }
+    }
+
+    /**
+     * Constructor que inicializa el solucionador y su tabla de transposicion.
+     *
+     * @param gaddag el GADDAG con el lexico.
+     * @param filas la cantidad de filas del tablero.
+     * @param columnas la cantidad de columnas del tablero.
+     */
+    public SolucionadorFinal(Gaddag gaddag, int filas, int columnas) {
+        this.generador = new GeneradorJugadas(gaddag);
+        Random random = new Random(20240229);
+        zobristCasillas = new long[filas * columnas][AlfabetoFichas.MARCA_COMODIN * 2];
+        for (long[] casilla : zobristCasillas) {
+            for (int i = 0; i < casilla.length; i++) {
+                casilla[i] = random.nextLong();
+            }
+        }
+        zobristAtriles = new long[2][AlfabetoFichas.LETRAS.length][8];
+        for (long[][] atril : zobristAtriles) {
+            for (long[] codigo : atril) {
+                for (int i = 0; i < codigo.length; i++) {
+                    codigo[i] = random.nextLong();
+                }
+            }
+        }
+        zobristTurno = random.nextLong();
+        zobristPase = random.nextLong();
+    }
+
+    /**
+     * Indica si el solucionador se creo para un tablero del tamaño dado.
+     *
+     * @param filas la cantidad de filas del tablero.
+     * @param columnas la cantidad de columnas del tablero.
+     * @return {@code true} si sus claves de transposicion cubren todas las casillas del tablero.
+     */
+    public boolean admite(int filas, int columnas) {
+        return zobristCasillas.length == filas * columnas;
+    }
+
+    /**
+     * Busca la mejor jugada del jugador en turno con la bolsa vacia.
+     *
+     * @param tablero las restricciones del tablero, calculadas con el mismo GADDAG; no se modifican.
+     * @param propio la cantidad de fichas de cada codigo en el atril del jugador en turno.
+     * @param rival la cantidad de fichas de cada codigo en el atril del rival.
+     * @param presupuestoMs el tiempo maximo de busqueda en milisegundos.
+     * @return la mejor jugada y los datos de la busqueda.
+     */
+    public Resultado resolver(RestriccionesTablero tablero, int[] propio, int[] rival, long presupuestoMs) {
+        return resolver(tablero, propio, rival, presupuestoMs, false);
+    }
+
+    /**
+     * Busca la mejor jugada del jugador en turno con la bolsa vacia, sabiendo si el rival paso en su
+     * ultimo turno: en ese caso pasar termina la partida.
+     *
+     * @param tablero las restricciones del tablero, calculadas con el mismo GADDAG; no se modifican.
+     * @param propio la cantidad de fichas de cada codigo en el atril del jugador en turno.
+     * @param rival la cantidad de fichas de cada codigo en el atril del rival.
+     * @param presupuestoMs el tiempo maximo de busqueda en milisegundos.
+     * @param rivalPaso {@code true} si el turno anterior fue un pase del rival.
+     * @return la mejor jugada y los datos de la busqueda.
+     */
+    public Resultado resolver(RestriccionesTablero tablero, int[] propio, int[] rival, long presupuestoMs, boolean rivalPaso) {
+        long inicio = System.nanoTime();
+        limite = inicio + TimeUnit.MILLISECONDS.toNanos(presupuestoMs);
+        nodos = 0;
+        agotado = false;
+
+        int[][] atriles = {propio.clone(), rival.clone()};
+        int pases = rivalPaso ? 1 : 0;
+        long hash = hashAtril(0, atriles[0]) ^ hashAtril(1, atriles[1]) ^ (rivalPaso ? zobristPase : 0);
+        for (int fila = 0; fila < tablero.getFilas(); fila++) {
+            for (int columna = 0; columna < tablero.getColumnas(); columna++) {
+                byte codigo = tablero.getCasilla(fila, columna);
+                if (codigo != AlfabetoFichas.VACIA) {
+                    hash ^= zobristCasillas[fila * tablero.getColumnas() + columna][codigo];
+                }
+            }
+        }
+
+        // Si no llega a completar ninguna profundidad, juega la de mayor puntaje.
+        ArrayList<Jugada> jugadas = generador.generar(tablero, atriles[0]);
+        jugadas.sort(Jugada.POR_PUNTAJE.reversed());
+        Jugada mejor = jugadas.isEmpty() ? null : jugadas.getFirst();
+        int valor = mejor == null ? 0 : mejor.puntaje();
+        int profundidad = 0;
+        boolean exacto = false;
+        for (int p = 1; p <= PROFUNDIDAD_MAXIMA; p++) {
+            horizonte = false;
+            mejorRaiz = null;
+            int v = buscar(tablero, atriles, 0, p, -INFINITO, INFINITO, pases, hash, true);
+            if (agotado) {
+                break;
+            }
+            mejor = mejorRaiz;
+            valor = v;
+            profundidad = p;
+            if (!horizonte) {
+                exacto = true;
+                break;
+            }
+        }
+        return new Resultado(mejor, valor, profundidad, exacto, nodos, System.nanoTime() - inicio);
+    }
+
+    /**
+     * Busqueda negamax con poda alfa-beta. Marca {@link #horizonte} si alguna linea de la busqueda se
+     * corto por profundidad, incluidas las que se tomaron de la tabla de transposicion.
+     *
+     * @return el valor de la posicion para el jugador en turno.
+     */
+    private int buscar(RestriccionesTablero tablero, int[][] atriles, int turno, int profundidad,
+                       int alfa, int beta, int pases, long hash, boolean raiz) {
+        boolean horizonteAnterior = horizonte;
+        horizonte = false;
+        int valor = buscarNodo(tablero, atriles, turno, profundidad, alfa, beta, pases, hash, raiz);
+        horizonte |= horizonteAnterior;
+        return valor;
+    }
+
+    /**
+     * Busca una posicion; {@link #horizonte} empieza en {@code false} y al terminar indica si esta
+     * posicion se corto por profundidad.
+     */
+    private int buscarNodo(RestriccionesTablero tablero, int[][] atriles, int turno, int profundidad,
+                           int alfa, int beta, int pases, long hash, boolean raiz) {
+        nodos++;
+        if (System.nanoTime() > limite) {
+            agotado = true;
+            return 0;
+        }
+        if (pases == 2) {
+            return 0;
+        }
+
+        int entrada = (int) hash & (ENTRADAS - 1);
+        int indicePrevio = -1;
+        if (claves[entrada] == hash) {
+            indicePrevio = mejoresIndices[entrada];
+            if (!raiz && (profundidades[entrada] >= profundidad || completas[entrada])) {
+                int guardado = valores[entrada];
+                boolean corte = tipos[entrada] == EXACTO;
+                if (tipos[entrada] == INFERIOR) {
+                    alfa = Math.max(alfa, guardado);
+                } else if (tipos[entrada] == SUPERIOR) {
+                    beta = Math.min(beta, guardado);
+                }
+                if (corte || alfa >= beta) {
+                    horizonte = !completas[entrada];
+                    return guardado;
+                }
+            }
+        }
+
+        ArrayList<Jugada> jugadas = generador.generar(tablero, atriles[turno]);
+        jugadas.sort(Jugada.POR_PUNTAJE.reversed());
+        if (profundidad == 0) {
+            horizonte = true;
+            return jugadas.isEmpty() ? 0 : jugadas.getFirst().puntaje();
+        }
+
+        int alfaOriginal = alfa;
+        int mejorValor = -INFINITO;
+        int mejorIndice = jugadas.size();
+        // El indice jugadas.size() es pasar, que se prueba al final.
+        for (int orden = -1; orden <= jugadas.size(); orden++) {
+            int indice = orden < 0 ? indicePrevio : orden;
+            if (indice < 0 || indice > jugadas.size() || (orden >= 0 && orden == indicePrevio)) {
+                continue;
+            }
+            int valor;
+            if (indice == jugadas.size()) {
+                valor = -buscar(tablero, atriles, 1 - turno, profundidad - 1, -beta, -alfa, pases + 1,
+                        hash ^ zobristTurno ^ (pases == 0 ? zobristPase : 0), false);
+            } else {
+                Jugada jugada = jugadas.get(indice);
+                int[] atril = atriles[turno].clone();
+                jugada.quitarFichas(atril);
+                long hijo = hash ^ zobristTurno ^ (pases == 1 ? zobristPase : 0)
+                        ^ hashAtril(turno, atriles[turno]) ^ hashAtril(turno, atril);
+                boolean vacio = true;
+                for (int i = 0; i < jugada.codigos().length; i++) {
+                    if (jugada.esNueva(i)) {
+                        hijo ^= zobristCasillas[jugada.filaDe(i) * tablero.getColumnas() + jugada.columnaDe(i)][jugada.codigos()[i]];
+                    }
+                }
+                for (int cantidad : atril) {
+                    vacio &= cantidad == 0;
+                }
+                if (vacio) {
+                    // Quedarse sin fichas termina la partida.
+                    valor = jugada.puntaje();
+                } else {
+                    RestriccionesTablero copia = new RestriccionesTablero(tablero);
+                    copia.colocarJugada(jugada);
+                    int[][] siguientes = turno == 0 ? new int[][]{atril, atriles[1]} : new int[][]{atriles[0], atril};
+                    valor = jugada.puntaje() - buscar(copia, siguientes, 1 - turno, profundidad - 1, -beta, -alfa, 0, hijo, false);
+                }
+            }
+            if (agotado) {
+                return 0;
+            }
+            if (valor > mejorValor) {
+                mejorValor = valor;
+                mejorIndice = indice;
+                if (raiz) {
+                    mejorRaiz = indice == jugadas.size() ? null : jugadas.get(indice);
+                }
+            }
+            alfa = Math.max(alfa, valor);
+            if (alfa >= beta) {
+                break;
+            }
+        }
+
+        claves[entrada] = hash;
+        valores[entrada] = mejorValor;
+        completas[entrada] = !horizonte;
+        profundidades[entrada] = (byte) profundidad;
+        tipos[entrada] = mejorValor <= alfaOriginal ? SUPERIOR : mejorValor >= beta ? INFERIOR : EXACTO;
+        mejoresIndices[entrada] = mejorIndice;
+        return mejorValor;
+    }
+
+    /**
+     * Calcula la parte del hash de Zobrist que corresponde al atril de un jugador.
+     */
+    private long hashAtril(int jugador, int[] atril) {
+        long hash = 0;
+        for (int codigo = 0; codigo < atril.length; codigo++) {
+            hash ^= zobristAtriles[jugador][codigo][Math.min(atril[codigo], 7)];
+        }
+        return hash;
+    }
+}
@@ -1,33 +1,153 @@
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 import java.util.Arrays;
 
 /**
  * La clase Tablero representa el tablero de juego que contiene fichas organizadas en una cuadrícula.
+ * <p>
+ * Cada casilla se guarda como el codigo de su ficha en {@link AlfabetoFichas}, con la marca
+ * {@link AlfabetoFichas#MARCA_COMODIN} si la letra se jugo con un comodin. Las fichas que devuelve
+ * {@link #getFicha} son compartidas e inmutables ({@link Ficha#deCodigo}).
+ * <p>
+ * Las fichas que el jugador coloca durante su turno quedan pendientes: se guardan en una lista corta
+ * encima de las fichas confirmadas, sin copiar el tablero. Al terminar el turno se confirman con
+ * {@link #confirmarPendientes()} o se descartan con {@link #descartarPendientes()}. Las consultas de
+ * casillas ({@link #getCodigo}, {@link #estaOcupada}...) ven las fichas pendientes; las restricciones
+ * de {@link #getRestricciones} y {@link #getCodigos()} solo usan las confirmadas.
+ * <p>
+ * El tamaño (hasta {@link #TAMANO_MAXIMO} filas y columnas) y la casilla de inicio se eligen al crear el
+ * tablero y se guardan con la partida.
  */
 public class Tablero {
 
     /**
-     * Matriz de fichas que representa el tablero.
+     * Cantidad de filas y de columnas del tablero estandar.
      */
-    private final Ficha[][] tablero;
+    public static final int TAMANO_ESTANDAR = 15;
 
     /**
-     * Fila central del tablero.
+     * Cantidad maxima de filas o de columnas: las casillas ocupadas de cada fila y de cada columna se
+     * guardan en un {@code long}.
+     */
+    public static final int TAMANO_MAXIMO = 64;
+
+    /**
+     * Cantidad de filas del tablero. Las partidas guardadas sin este dato tienen el tamaño estandar.
+     */
+    private final int filas;
+
+    /**
+     * Cantidad de columnas del tablero.
+     */
+    private final int columnas;
+
+    /**
+     * Codigo de la ficha de cada casilla, por filas, o {@link AlfabetoFichas#VACIA} si esta vacia.
+     */
+    private final byte[] casillas;
+
+    /**
+     * Matriz de fichas de las partidas guardadas con el formato anterior, que guardaba una ficha por
+     * casilla. Se convierte a codigos con {@link #convertirFormatoAnterior()}; en cualquier otro caso es
+     * {@code null} y no se guarda.
+     */
+    private Ficha[][] tablero;
+
+    /**
+     * Fila de la casilla de inicio, donde se coloca la primera ficha. Por defecto es la fila central.
      */
     private int filaCentral;
 
     /**
-     * Columna central del tablero.
+     * Columna de la casilla de inicio. Por defecto es la columna central.
      */
     private int columnaCentral;
 
     /**
-     * Obtiene la matriz de fichas que representa el tablero.
+     * Anclas y restricciones cruzadas del tablero, o {@code null} si aun no se calcularon.
+     * No se guardan con la partida.
+     */
+    private transient RestriccionesTablero restricciones;
+
+    /**
+     * Casillas ocupadas de cada fila: el bit {@code c} de {@code filasOcupadas[f]} esta encendido si la
+     * casilla (f, c) tiene ficha. Admite hasta 64 columnas. Se calcula a partir de las fichas y no se
+     * guarda con la partida.
+     */
+    private transient long[] filasOcupadas;
+
+    /**
+     * Casillas ocupadas de cada columna: el bit {@code f} de {@code columnasOcupadas[c]} esta encendido si
+     * la casilla (f, c) tiene ficha. Admite hasta 64 filas.
+     */
+    private transient long[] columnasOcupadas;
+
+    /**
+     * Posicion (fila por cantidad de columnas mas columna) de cada ficha pendiente, en el orden en que se colocaron.
+     */
+    private transient int[] posicionesPendientes = new int[7];
+
+    /**
+     * Codigo de cada ficha pendiente.
+     */
+    private transient byte[] codigosPendientes = new byte[7];
+
+    /**
+     * Cantidad de fichas pendientes.
+     */
+    private transient int cantidadPendientes;
+
+    /**
+     * Fila y columna de la casilla resaltada, o -1 si no hay ninguna.
+     */
+    private transient int filaResaltada = -1, columnaResaltada = -1;
+
+    /**
+     * Obtiene la cantidad de filas del tablero.
      *
-     * @return la matriz de fichas del tablero.
+     * @return la cantidad de filas.
      */
-    public Ficha[][] getTablero() {
-        return tablero;
+    public int getFilas() {
+        return filas;
+    }
+
+    /**
+     * Obtiene la cantidad de columnas del tablero.
+     *
+     * @return la cantidad de columnas.
+     */
+    public int getColumnas() {
+        return columnas;
+    }
+
+    /**
+     * Obtiene el codigo de la ficha de una casilla, confirmada o pendiente.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @return el codigo de la ficha, o {@link AlfabetoFichas#VACIA} si la casilla esta vacia.
+     */
+    public byte getCodigo(int fila, int columna) {
+        int posicion = fila * columnas + columna;
+        byte codigo = casillas[posicion];
+        for (int i = 0; codigo == AlfabetoFichas.VACIA && i < cantidadPendientes; i++) {
+            if (posicionesPendientes[i] == posicion) {
+                codigo = codigosPendientes[i];
+            }
+        }
+        return codigo;
+    }
+
+    /**
+     * Obtiene la ficha de una casilla. La ficha es compartida y no se puede modificar.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @return la ficha de la casilla; una casilla vacia devuelve una ficha vacia.
+     */
+    public Ficha getFicha(int fila, int columna) {
+        return Ficha.deCodigo(getCodigo(fila, columna));
     }
 
     /**
@@ -37,13 +157,8 @@ public class Tablero {
      * @param columna la columna de la posición a resaltar.
      */
     public void resaltarPosicion(int fila, int columna) {
-        Ficha ficha = tablero[fila][columna];
-        String letra = ficha.getLetra();
-        if (letra.length() == 1) {
-            ficha.setSimbolo("\033[30;43m[" + letra + " ]\033[0m");
-        } else {
-            ficha.setSimbolo("\033[30;43m[" + letra + "]\033[0m");
-        }
+        filaResaltada = fila;
+        columnaResaltada = columna;
     }
 
     /**
@@ -53,28 +168,53 @@ public class Tablero {
      * @param columna la columna de la posición a quitar el resaltado.
      */
     public void desresaltarPosicion(int fila, int columna) {
-        String simbolo = tablero[fila][columna].getSimbolo();
-        String simboloSinANSI = simbolo.replaceAll("\033\\[[;\\d]*m", "");
-        tablero[fila][columna].setSimbolo(simboloSinANSI);
-
-        if (!tablero[fila][columna].getLetra().equals("  ")) {
-            simbolo = "\033[1;30;107m" + simboloSinANSI + "\033[0m";
-            tablero[fila][columna].setSimbolo(simbolo);
+        if (fila == filaResaltada && columna == columnaResaltada) {
+            filaResaltada = -1;
+            columnaResaltada = -1;
         }
     }
 
     /**
-     * Constructor que inicializa el tablero con un tamaño de 15x15 y ficha vacías.
+     * Constructor que inicializa el tablero con un tamaño de 15x15 y casillas vacías.
      */
     public Tablero() {
-        this.tablero = new Ficha[15][15];
-        for (int i = 0; i < tablero.length; i++) {
-            for (int j = 0; j < tablero.length; j++) {
-                this.tablero[i][j] = new Ficha();
-            }
+        this(TAMANO_ESTANDAR, TAMANO_ESTANDAR);
+    }
+
+    /**
+     * Constructor que inicializa un tablero vacío del tamaño dado, con la casilla de inicio en el centro.
+     *
+     * @param filas la cantidad de filas, de 1 a {@link #TAMANO_MAXIMO}.
+     * @param columnas la cantidad de columnas, de 1 a {@link #TAMANO_MAXIMO}.
+     * @throws IllegalArgumentException si el tamaño no es valido.
+     */
+    public Tablero(int filas, int columnas) {
+        this(filas, columnas, (filas - 1) / 2, (columnas - 1) / 2);
+    }
+
+    /**
+     * Constructor que inicializa un tablero vacío del tamaño dado y con la casilla de inicio dada.
+     *
+     * @param filas la cantidad de filas, de 1 a {@link #TAMANO_MAXIMO}.
+     * @param columnas la cantidad de columnas, de 1 a {@link #TAMANO_MAXIMO}.
+     * @param filaInicio la fila de la casilla donde se coloca la primera ficha.
+     * @param columnaInicio la columna de la casilla donde se coloca la primera ficha.
+     * @throws IllegalArgumentException si el tamaño no es valido o la casilla de inicio esta fuera del tablero.
+     */
+    public Tablero(int filas, int columnas, int filaInicio, int columnaInicio) {
+        if (filas < 1 || filas > TAMANO_MAXIMO || columnas < 1 || columnas > TAMANO_MAXIMO) {
+            throw new IllegalArgumentException("Tamaño de tablero invalido: " + filas + "x" + columnas
+                    + " (maximo " + TAMANO_MAXIMO + "x" + TAMANO_MAXIMO + ")");
+        }
+        if (filaInicio < 0 || filaInicio >= filas || columnaInicio < 0 || columnaInicio >= columnas) {
+            throw new IllegalArgumentException("Casilla de inicio fuera del tablero: " + filaInicio + ", " + columnaInicio);
         }
-        this.filaCentral = (tablero.length - 1) / 2;
-        this.columnaCentral = (tablero[0].length - 1) / 2;
+        this.filas = filas;
+        this.columnas = columnas;
+        this.casillas = new byte[filas * columnas];
+        Arrays.fill(casillas, AlfabetoFichas.VACIA);
+        this.filaCentral = filaInicio;
+        this.columnaCentral = columnaInicio;
     }
 
     /**
@@ -83,14 +223,18 @@ public class Tablero {
      * @param original el tablero original a copiar.
      */
     public Tablero(Tablero original) {
-        this.tablero = new Ficha[original.getTablero().length][original.getTablero()[0].length];
-        for (int i = 0; i < original.getTablero().length; i++) {
-            for (int j = 0; j < original.getTablero().length; j++) {
-                this.tablero[i][j] = original.getTablero()[i][j].clone();
-            }
-        }
+        this.filas = original.filas;
+        this.columnas = original.columnas;
+        this.casillas = original.casillas.clone();
+        this.posicionesPendientes = original.posicionesPendientes.clone();
+        this.codigosPendientes = original.codigosPendientes.clone();
+        this.cantidadPendientes = original.cantidadPendientes;
         this.filaCentral = original.getFilaCentral();
         this.columnaCentral = original.getColumnaCentral();
+        if (original.filasOcupadas != null) {
+            this.filasOcupadas = original.filasOcupadas.clone();
+            this.columnasOcupadas = original.columnasOcupadas.clone();
+        }
     }
 
     /**
@@ -101,12 +245,212 @@ public class Tablero {
      * @return {@code true} si la posición está disponible, {@code false} en caso contrario.
      */
     public boolean validarFichaPosicion(int fila, int columna) {
-        if (fila >= 0 && fila < tablero.length && columna >= 0 && columna < tablero.length) {
-            return tablero[fila][columna].getLetra().equals("  ");
+        if (fila >= 0 && fila < filas && columna >= 0 && columna < columnas) {
+            return !estaOcupada(fila, columna);
         }
         return false;
     }
 
+    /**
+     * Indica si una casilla del tablero tiene ficha.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @return {@code true} si la casilla tiene ficha, {@code false} si esta vacia.
+     */
+    public boolean estaOcupada(int fila, int columna) {
+        calcularOcupacion();
+        return (filasOcupadas[fila] >>> columna & 1) != 0;
+    }
+
+    /**
+     * Indica si alguna de las cuatro casillas vecinas de una casilla tiene ficha.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @return {@code true} si hay una ficha arriba, abajo, a la izquierda o a la derecha.
+     */
+    public boolean tieneFichaAdyacente(int fila, int columna) {
+        calcularOcupacion();
+        long vecinasFila = (1L << columna >>> 1) | (1L << columna << 1);
+        long vecinasColumna = (1L << fila >>> 1) | (1L << fila << 1);
+        return (filasOcupadas[fila] & vecinasFila) != 0 || (columnasOcupadas[columna] & vecinasColumna) != 0;
+    }
+
+    /**
+     * Obtiene donde empieza la palabra que pasa por una casilla ocupada: la primera casilla de la fila
+     * (o columna) con ficha sin casillas vacias hasta la casilla dada.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @param vertical {@code true} para buscar en la columna, {@code false} para buscar en la fila.
+     * @return la fila (si es vertical) o la columna (si es horizontal) de la primera ficha de la palabra.
+     */
+    public int inicioPalabra(int fila, int columna, boolean vertical) {
+        calcularOcupacion();
+        int indice = vertical ? fila : columna;
+        long vacias = ~(vertical ? columnasOcupadas[columna] : filasOcupadas[fila]) & ((1L << indice) - 1);
+        return vacias == 0 ? 0 : 64 - Long.numberOfLeadingZeros(vacias);
+    }
+
+    /**
+     * Obtiene donde termina la palabra que pasa por una casilla ocupada.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @param vertical {@code true} para buscar en la columna, {@code false} para buscar en la fila.
+     * @return la fila (si es vertical) o la columna (si es horizontal) de la ultima ficha de la palabra.
+     */
+    public int finPalabra(int fila, int columna, boolean vertical) {
+        calcularOcupacion();
+        int indice = vertical ? fila : columna;
+        long ocupadas = vertical ? columnasOcupadas[columna] : filasOcupadas[fila];
+        return indice + Long.numberOfTrailingZeros(~(ocupadas >>> indice)) - 1;
+    }
+
+    /**
+     * Indica si el tablero no tiene ninguna ficha.
+     *
+     * @return {@code true} si todas las casillas estan vacias.
+     */
+    public boolean estaVacio() {
+        calcularOcupacion();
+        for (long fila : filasOcupadas) {
+            if (fila != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Indica si las posiciones dadas estan en una misma fila o columna y todas las casillas entre la
+     * primera y la ultima tienen ficha, es decir, si forman una sola linea sin huecos.
+     *
+     * @param posiciones las posiciones {fila, columna} de las fichas, que ya deben estar en el tablero.
+     * @return {@code true} si las posiciones forman una linea continua.
+     */
+    public boolean esLineaContinua(List<int[]> posiciones) {
+        if (posiciones.isEmpty()) {
+            return false;
+        }
+        calcularOcupacion();
+        int fila = posiciones.getFirst()[0];
+        int columna = posiciones.getFirst()[1];
+        int filaMinima = fila, filaMaxima = fila, columnaMinima = columna, columnaMaxima = columna;
+        for (int[] posicion : posiciones) {
+            filaMinima = Math.min(filaMinima, posicion[0]);
+            filaMaxima = Math.max(filaMaxima, posicion[0]);
+            columnaMinima = Math.min(columnaMinima, posicion[1]);
+            columnaMaxima = Math.max(columnaMaxima, posicion[1]);
+        }
+        boolean mismaFila = filaMinima == filaMaxima;
+        if (!mismaFila && columnaMinima != columnaMaxima) {
+            return false;
+        }
+        int desde = mismaFila ? columnaMinima : filaMinima;
+        int hasta = mismaFila ? columnaMaxima : filaMaxima;
+        long tramo = (-1L >>> (63 - hasta)) & (-1L << desde);
+        long ocupadas = mismaFila ? filasOcupadas[fila] : columnasOcupadas[columna];
+        return (ocupadas & tramo) == tramo;
+    }
+
+    /**
+     * Calcula las casillas ocupadas a partir de los codigos si todavia no se calcularon, por ejemplo
+     * en un tablero cargado de una partida guardada.
+     */
+    private void calcularOcupacion() {
+        if (filasOcupadas != null) {
+            return;
+        }
+        filasOcupadas = new long[filas];
+        columnasOcupadas = new long[columnas];
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                if (getCodigo(i, j) != AlfabetoFichas.VACIA) {
+                    marcarOcupada(i, j);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marca una casilla como ocupada en las filas y columnas ocupadas.
+     */
+    private void marcarOcupada(int fila, int columna) {
+        filasOcupadas[fila] |= 1L << columna;
+        columnasOcupadas[columna] |= 1L << fila;
+    }
+
+    /**
+     * Agrega la ficha de una casilla a las fichas pendientes y marca la casilla como ocupada.
+     */
+    private void ponerCodigo(int fila, int columna, Ficha ficha) {
+        if (cantidadPendientes == posicionesPendientes.length) {
+            posicionesPendientes = Arrays.copyOf(posicionesPendientes, 2 * cantidadPendientes);
+            codigosPendientes = Arrays.copyOf(codigosPendientes, 2 * cantidadPendientes);
+        }
+        posicionesPendientes[cantidadPendientes] = fila * columnas + columna;
+        codigosPendientes[cantidadPendientes] = ficha.getCodigo();
+        cantidadPendientes++;
+        marcarOcupada(fila, columna);
+    }
+
+    /**
+     * Confirma las fichas pendientes: pasan a ser parte del tablero y, si las restricciones ya estaban
+     * calculadas, se actualizan solo en las filas y columnas de esas fichas.
+     */
+    public void confirmarPendientes() {
+        for (int i = 0; i < cantidadPendientes; i++) {
+            casillas[posicionesPendientes[i]] = codigosPendientes[i];
+        }
+        if (restricciones != null && cantidadPendientes > 0) {
+            ArrayList<int[]> posiciones = new ArrayList<>(cantidadPendientes);
+            for (int i = 0; i < cantidadPendientes; i++) {
+                posiciones.add(new int[]{posicionesPendientes[i] / columnas, posicionesPendientes[i] % columnas});
+            }
+            restricciones.colocarFichas(posiciones, Arrays.copyOf(codigosPendientes, cantidadPendientes));
+        }
+        cantidadPendientes = 0;
+        desresaltarPosicion(filaResaltada, columnaResaltada);
+    }
+
+    /**
+     * Descarta las fichas pendientes, dejando el tablero como estaba al empezar el turno.
+     */
+    public void descartarPendientes() {
+        if (filasOcupadas != null) {
+            for (int i = 0; i < cantidadPendientes; i++) {
+                int fila = posicionesPendientes[i] / columnas;
+                int columna = posicionesPendientes[i] % columnas;
+                filasOcupadas[fila] &= ~(1L << columna);
+                columnasOcupadas[columna] &= ~(1L << fila);
+            }
+        }
+        cantidadPendientes = 0;
+        desresaltarPosicion(filaResaltada, columnaResaltada);
+    }
+
+    /**
+     * Convierte un tablero cargado de una partida guardada con el formato anterior, que guardaba una
+     * ficha por casilla, a codigos. Si el tablero no usa el formato anterior no hace nada.
+     */
+    public void convertirFormatoAnterior() {
+        if (tablero == null) {
+            return;
+        }
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                casillas[i * columnas + j] = tablero[i][j].getCodigo();
+            }
+        }
+        tablero = null;
+        cantidadPendientes = 0;
+        filasOcupadas = null;
+        columnasOcupadas = null;
+        restricciones = null;
+    }
+
     /**
      * Asigna una letra a una ficha comodín.
      *
@@ -114,13 +458,13 @@ public class Tablero {
      * @return {@code true} si se asignó una letra válida, {@code false} en caso contrario.
      */
     private boolean asignarComodin(Ficha ficha) {
-        String[] fichasValidas = new String[]{"A", "B", "C", "CH", "D", "E", "F", "G", "H", "I",
-                "J", "L", "LL", "M", "N", "Ñ", "O", "P", "Q", "R", "RR", "S", "T", "U", "V", "X", "Y", "Z"};
-
-        Scanner scanner = new Scanner(System.in);
-        boolean letraValida = false;
-
         if (ficha.getLetra().equals("#")) {
+            String[] fichasValidas = new String[]{"A", "B", "C", "CH", "D", "E", "F", "G", "H", "I",
+                    "J", "L", "LL", "M", "N", "Ñ", "O", "P", "Q", "R", "RR", "S", "T", "U", "V", "X", "Y", "Z"};
+
+            // Solo se lee la consola para un comodin: las demas fichas no reservan un Scanner.
+            Scanner scanner = new Scanner(System.in);
+            boolean letraValida = false;
             while (!letraValida) {
                 System.out.println("Ingrese en que ficha quiere convertir su comodín: (recuerde que también están LL, CH, RR)");
                 System.out.println("Ingrese 9 para cancelar");
@@ -153,14 +497,15 @@ public class Tablero {
     }
 
     /**
-     * Coloca la primera ficha en el tablero en la posición central.
+     * Coloca la primera ficha en el tablero en la casilla de inicio.
+     * La ficha queda pendiente hasta que se confirme con {@link #confirmarPendientes()}.
      *
      * @param ficha la ficha a colocar.
      * @return {@code true} si la ficha se colocó con éxito, {@code false} en caso contrario.
      */
     public boolean colocarPrimeraFicha(Ficha ficha) {
-        if (validarFichaPosicion(7, 7) && ficha != null && asignarComodin(ficha)) {
-            this.tablero[7][7] = ficha;
+        if (validarFichaPosicion(filaCentral, columnaCentral) && ficha != null && asignarComodin(ficha)) {
+            ponerCodigo(filaCentral, columnaCentral, ficha);
             return true;
         } else {
             return false;
@@ -169,6 +514,7 @@ public class Tablero {
 
     /**
      * Coloca una ficha en una posición específica del tablero.
+     * La ficha queda pendiente hasta que se confirme con {@link #confirmarPendientes()}.
      *
      * @param fila la fila donde se va a colocar la ficha.
      * @param columna la columna donde se va a colocar la ficha.
@@ -176,13 +522,8 @@ public class Tablero {
      * @return {@code true} si la ficha se colocó con éxito, {@code false} en caso contrario.
      */
     public boolean colocarFicha(int fila, int columna, Ficha ficha) {
-        boolean hayFichaAdyacente = (fila > 0 && !tablero[fila - 1][columna].getLetra().equals("  ")) ||
-                (fila < tablero.length - 1 && !tablero[fila + 1][columna].getLetra().equals("  ")) ||
-                (columna > 0 && !tablero[fila][columna - 1].getLetra().equals("  ")) ||
-                (columna < tablero[0].length - 1 && !tablero[fila][columna + 1].getLetra().equals("  "));
-
-        if (validarFichaPosicion(fila, columna) && hayFichaAdyacente && ficha != null && asignarComodin(ficha)) {
-            this.tablero[fila][columna] = ficha;
+        if (validarFichaPosicion(fila, columna) && tieneFichaAdyacente(fila, columna) && ficha != null && asignarComodin(ficha)) {
+            ponerCodigo(fila, columna, ficha);
             return true;
         } else {
             return false;
@@ -190,22 +531,79 @@ public class Tablero {
     }
 
     /**
-     * Muestra el tablero en la consola.
+     * Obtiene las anclas y restricciones cruzadas de las fichas confirmadas del tablero, calculandolas
+     * completas si todavia no se calcularon o si se calcularon con otro lexico.
+     *
+     * @param gaddag el GADDAG con el que se comprueban las palabras cruzadas.
+     * @return las restricciones del tablero.
+     */
+    public RestriccionesTablero getRestricciones(Gaddag gaddag) {
+        if (restricciones == null || !restricciones.usa(gaddag)) {
+            restricciones = new RestriccionesTablero(gaddag, getCodigos(), filaCentral, columnaCentral);
+        }
+        return restricciones;
+    }
+
+    /**
+     * Obtiene los codigos de las fichas confirmadas de cada casilla del tablero, sin las pendientes.
+     *
+     * @return la matriz de codigos, con {@link AlfabetoFichas#VACIA} en las casillas vacias.
+     */
+    public byte[][] getCodigos() {
+        byte[][] codigos = new byte[filas][columnas];
+        for (int i = 0; i < filas; i++) {
+            System.arraycopy(casillas, i * columnas, codigos[i], 0, columnas);
+        }
+        return codigos;
+    }
+
+    /**
+     * Muestra el tablero en la consola, compuesto en un solo texto.
      */
     public void mostrarTablero() {
-        for (int i = 0; i < tablero.length; i++) {
-            System.out.print("\t");
-            for (int j = 0; j < tablero[i].length; j++) {
-                System.out.print(tablero[i][j]);
+        StringBuilder texto = new StringBuilder(filas * (columnas * 20 + 2));
+        for (int i = 0; i < filas; i++) {
+            texto.append('\t');
+            for (int j = 0; j < columnas; j++) {
+                texto.append(getSimboloCasilla(i, j));
             }
-            System.out.print("\n");
+            texto.append('\n');
+        }
+        System.out.print(texto);
+    }
+
+    /**
+     * Indica si una casilla es la casilla resaltada.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @return {@code true} si la casilla esta resaltada.
+     */
+    public boolean estaResaltada(int fila, int columna) {
+        return fila == filaResaltada && columna == columnaResaltada;
+    }
+
+    /**
+     * Obtiene el texto con el que se muestra una casilla en la consola: el simbolo de su ficha, o la letra
+     * sobre fondo amarillo si la casilla esta resaltada. Todas las casillas ocupan 4 columnas de la consola.
+     *
+     * @param fila la fila de la casilla.
+     * @param columna la columna de la casilla.
+     * @return el texto de la casilla, con sus secuencias de color.
+     */
+    public String getSimboloCasilla(int fila, int columna) {
+        Ficha ficha = getFicha(fila, columna);
+        if (estaResaltada(fila, columna)) {
+            String letra = ficha.getLetra();
+            return "\033[30;43m[" + letra + (letra.length() == 1 ? " " : "") + "]\033[0m";
         }
+        return ficha.toString();
     }
 
     /**
-     * Obtiene la fila central del tablero.
+     * Obtiene la fila de la casilla de inicio del tablero.
      *
-     * @return la fila central del tablero.
+     * @return la fila de la casilla de inicio.
      */
     public int getFilaCentral() {
         return filaCentral;
@@ -221,9 +619,9 @@ public class Tablero {
     }
 
     /**
-     * Obtiene la columna central del tablero.
+     * Obtiene la columna de la casilla de inicio del tablero.
      *
-     * @return la columna central del tablero.
+     * @return la columna de la casilla de inicio.
      */
     public int getColumnaCentral() {
         return columnaCentral;
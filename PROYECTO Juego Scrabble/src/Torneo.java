@@ -0,0 +1,286 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * La clase Torneo juega muchas partidas de la computadora contra si misma sin consola y guarda sus estadisticas.
+ * <p>
+ * A diferencia de {@link Juego}, no lee la entrada, no muestra el tablero ni verifica las palabras con la RAE:
+ * las partidas se juegan sobre codigos de ficha con {@link RestriccionesTablero} y el lexico local, y se
+ * reparten entre todos los nucleos. Cada partida usa su propia bolsa, mezclada con una semilla derivada de
+ * la semilla del torneo y del numero de partida, asi que el resultado no depende del orden en que los hilos
+ * terminen. El simulador tambien mezcla con semillas derivadas de la de la partida. Con jugadores {@code voraz}
+ * un torneo se repite exactamente; {@code cpu} y {@code simulador} tienen limites de tiempo, y como la cantidad
+ * de busqueda o de simulaciones que entra en ellos depende de la velocidad de la maquina, su resultado puede variar.
+ * <p>
+ * Jugadores: {@code voraz} (siempre la jugada de mayor puntaje), {@code cpu} (como {@link JugadorCPU}: la de
+ * mayor puntaje y el {@link SolucionadorFinal} con la bolsa vacia) y {@code simulador} (como
+ * {@link JugadorSimulacion}). Los tiempos por jugada se configuran con {@code -Dscrabble.torneo.simulacion.ms}
+ * y {@code -Dscrabble.torneo.final.ms}.
+ * <p>
+ * Uso: {@code java Torneo lexico.txt partidas semilla jugador1 jugador2 [resultados.json]}
+ */
+public class Torneo {
+
+    /**
+     * Cantidad de fichas de un atril.
+     */
+    private static final int FICHAS_ATRIL = 7;
+
+    /**
+     * Tiempo por jugada del simulador, en milisegundos.
+     */
+    private static final long TIEMPO_SIMULACION_MS = Long.getLong("scrabble.torneo.simulacion.ms", 100);
+
+    /**
+     * Tiempo por jugada del solucionador del final, en milisegundos.
+     */
+    private static final long TIEMPO_FINAL_MS = Long.getLong("scrabble.torneo.final.ms", 50);
+
+    /**
+     * Nombres de los jugadores que se pueden usar en un torneo.
+     */
+    public static final List<String> JUGADORES = List.of("voraz", "cpu", "simulador");
+
+    /**
+     * El resultado de una partida.
+     *
+     * @param puntajes los puntos de cada jugador.
+     * @param palabras las palabras formadas por cada jugador, contando las cruzadas.
+     * @param jugadas las jugadas que hizo cada jugador, sin contar los pases.
+     * @param latencias el tiempo que tardo cada jugador en elegir cada una de sus jugadas, en nanosegundos,
+     *                  incluidos los turnos en que paso.
+     */
+    public record ResultadoPartida(int[] puntajes, int[] palabras, int[] jugadas, long[][] latencias) {
+    }
+
+    /**
+     * La forma de elegir jugadas de un jugador del torneo.
+     */
+    private interface Estrategia {
+        Jugada elegir(RestriccionesTablero tablero, int[] atril, int[] noVistas, boolean finalPartida, boolean rivalPaso, long semilla);
+    }
+
+    /**
+     * Generador, solucionador y simulador de cada hilo, que se reutilizan entre partidas.
+     */
+    private static final class Recursos {
+        final GeneradorJugadas generador;
+        final SolucionadorFinal solucionador;
+        final SimuladorJugadas simulador;
+
+        Recursos(Gaddag gaddag) {
+            generador = new GeneradorJugadas(gaddag);
+            solucionador = new SolucionadorFinal(gaddag, 15, 15);
+            // Las partidas ya ocupan todos los nucleos: cada simulador usa un solo hilo.
+            simulador = new SimuladorJugadas(gaddag, 10, 2, new ForkJoinPool(1));
+        }
+    }
+
+    /**
+     * Lexico con el que se juegan las partidas.
+     */
+    private final Gaddag gaddag;
+
+    /**
+     * Recursos de cada hilo.
+     */
+    private final ThreadLocal<Recursos> recursos;
+
+    /**
+     * Constructor que inicializa el torneo con el lexico a usar.
+     *
+     * @param gaddag el GADDAG con el lexico.
+     */
+    public Torneo(Gaddag gaddag) {
+        this.gaddag = gaddag;
+        this.recursos = ThreadLocal.withInitial(() -> new Recursos(gaddag));
+    }
+
+    /**
+     * Juega un torneo con los argumentos de la linea de comandos y guarda sus estadisticas.
+     *
+     * @param args el lexico, la cantidad de partidas, la semilla, los dos jugadores y, opcionalmente, el archivo de resultados.
+     */
+    public static void main(String[] args) {
+        if (args.length < 5 || !JUGADORES.contains(args[3]) || !JUGADORES.contains(args[4])) {
+            System.out.println("Uso: java Torneo <lexico.txt> <partidas> <semilla> <jugador1> <jugador2> [resultados.json]");
+            System.out.println("Jugadores: " + String.join(", ", JUGADORES));
+            return;
+        }
+        try {
+            Gaddag gaddag = Gaddag.cargar(Path.of(args[0]));
+            int partidas = Integer.parseInt(args[1]);
+            long semilla = Long.parseLong(args[2]);
+            String archivo = args.length > 5 ? args[5] : "resultados_torneo.json";
+            int hilos = Runtime.getRuntime().availableProcessors();
+
+            EstadisticasTorneo estadisticas = new Torneo(gaddag).jugar(partidas, semilla, args[3], args[4], hilos);
+            JsonUtil.guardarResultadosTorneo(estadisticas, archivo);
+            System.out.println(estadisticas.getResumen());
+            System.out.println("Resultados guardados en " + archivo);
+        } catch (IOException e) {
+            System.out.println("Error al cargar el lexico: " + e.getMessage());
+        } catch (NumberFormatException e) {
+            System.out.println("La cantidad de partidas y la semilla deben ser numeros: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Juega todas las partidas de un torneo repartidas entre varios hilos. El jugador que empieza se
+     * alterna en cada partida. Una partida que termina con un error no cuenta en las estadisticas, que
+     * informan cuantas partidas fallaron.
+     *
+     * @param partidas la cantidad de partidas.
+     * @param semilla la semilla del torneo.
+     * @param jugador1 el nombre del primer jugador.
+     * @param jugador2 el nombre del segundo jugador.
+     * @param hilos la cantidad de partidas que se juegan a la vez.
+     * @return las estadisticas del torneo.
+     */
+    public EstadisticasTorneo jugar(int partidas, long semilla, String jugador1, String jugador2, int hilos) {
+        long inicio = System.nanoTime();
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        ArrayList<Future<ResultadoPartida>> pendientes = new ArrayList<>();
+        for (int i = 0; i < partidas; i++) {
+            int indice = i;
+            pendientes.add(ejecutor.submit(() -> jugarPartida(indice, semilla, jugador1, jugador2)));
+        }
+        ArrayList<ResultadoPartida> resultados = new ArrayList<>();
+        try {
+            for (int i = 0; i < partidas; i++) {
+                try {
+                    resultados.add(pendientes.get(i).get());
+                } catch (ExecutionException e) {
+                    System.out.println("Error en la partida " + i + " del torneo: " + e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            ejecutor.shutdownNow();
+        }
+        // Si el torneo se interrumpe, las partidas sin terminar tambien cuentan como fallidas.
+        return EstadisticasTorneo.calcular(new String[]{jugador1, jugador2}, semilla, hilos,
+                System.nanoTime() - inicio, resultados, partidas - resultados.size());
+    }
+
+    /**
+     * Juega una partida completa. Termina cuando un jugador se queda sin fichas con la bolsa vacia,
+     * como en {@link Juego}, o cuando los dos jugadores pasan seguido.
+     *
+     * @param indice el numero de partida.
+     * @param semilla la semilla del torneo.
+     * @param jugador1 el nombre del primer jugador.
+     * @param jugador2 el nombre del segundo jugador.
+     * @return el resultado de la partida.
+     */
+    public ResultadoPartida jugarPartida(int indice, long semilla, String jugador1, String jugador2) {
+        Recursos hilo = recursos.get();
+        Estrategia[] estrategias = {estrategia(jugador1, hilo), estrategia(jugador2, hilo)};
+        Random random = new Random(semilla * 0x9E3779B97F4A7C15L + indice);
+
+        ArrayList<Byte> bolsa = new ArrayList<>();
+        for (byte codigo = 0; codigo < AlfabetoFichas.LETRAS.length; codigo++) {
+            for (int i = 0; i < AlfabetoFichas.CANTIDADES[codigo]; i++) {
+                bolsa.add(codigo);
+            }
+        }
+        Collections.shuffle(bolsa, random);
+        byte[][] casillas = new byte[15][15];
+        for (byte[] fila : casillas) {
+            Arrays.fill(fila, AlfabetoFichas.VACIA);
+        }
+        RestriccionesTablero tablero = new RestriccionesTablero(gaddag, casillas);
+        int[][] atriles = new int[2][AlfabetoFichas.LETRAS.length];
+        int[] cantidadFichas = new int[2];
+        int[] puntajes = new int[2];
+        int[] palabras = new int[2];
+        int[] jugadas = new int[2];
+        ArrayList<ArrayList<Long>> latencias = new ArrayList<>(List.of(new ArrayList<>(), new ArrayList<>()));
+
+        int pasesSeguidos = 0;
+        for (int turno = indice % 2; pasesSeguidos < 2; turno++) {
+            int jugador = turno % 2;
+            int[] atril = atriles[jugador];
+            while (cantidadFichas[jugador] < FICHAS_ATRIL && !bolsa.isEmpty()) {
+                atril[bolsa.removeLast()]++;
+                cantidadFichas[jugador]++;
+            }
+            int[] noVistas = atriles[1 - jugador].clone();
+            for (byte codigo : bolsa) {
+                noVistas[codigo]++;
+            }
+
+            long antes = System.nanoTime();
+            Jugada jugada = estrategias[jugador].elegir(tablero, atril, noVistas, bolsa.isEmpty(), pasesSeguidos > 0, random.nextLong());
+            latencias.get(jugador).add(System.nanoTime() - antes);
+            if (jugada == null) {
+                pasesSeguidos++;
+                continue;
+            }
+            pasesSeguidos = 0;
+            jugadas[jugador]++;
+            puntajes[jugador] += jugada.puntaje();
+            palabras[jugador] += contarPalabras(tablero, jugada);
+            tablero.colocarJugada(jugada);
+            jugada.quitarFichas(atril);
+            cantidadFichas[jugador] -= jugada.getCantidadFichasNuevas();
+            if (cantidadFichas[jugador] == 0 && bolsa.isEmpty()) {
+                break;
+            }
+        }
+
+        long[][] tiempos = new long[2][];
+        for (int j = 0; j < 2; j++) {
+            tiempos[j] = latencias.get(j).stream().mapToLong(Long::longValue).toArray();
+        }
+        return new ResultadoPartida(puntajes, palabras, jugadas, tiempos);
+    }
+
+    /**
+     * Crea la estrategia de un jugador usando los recursos del hilo.
+     */
+    private Estrategia estrategia(String nombre, Recursos hilo) {
+        Estrategia voraz = (tablero, atril, _, _, _, _) -> {
+            Jugada mejor = null;
+            for (Jugada jugada : hilo.generador.generar(tablero, atril)) {
+                if (mejor == null || Jugada.POR_PUNTAJE.compare(jugada, mejor) > 0) {
+                    mejor = jugada;
+                }
+            }
+            return mejor;
+        };
+        if (nombre.equals("voraz")) {
+            return voraz;
+        }
+        Estrategia conBolsa = nombre.equals("simulador")
+                ? (tablero, atril, noVistas, _, _, semilla) -> hilo.simulador.elegir(tablero, atril, noVistas, TIEMPO_SIMULACION_MS, semilla).mejor()
+                : voraz;
+        return (tablero, atril, noVistas, finalPartida, rivalPaso, semilla) -> finalPartida
+                ? hilo.solucionador.resolver(tablero, atril, noVistas, TIEMPO_FINAL_MS, rivalPaso).mejor()
+                : conBolsa.elegir(tablero, atril, noVistas, false, false, semilla);
+    }
+
+    /**
+     * Cuenta las palabras que forma una jugada: la principal y una por cada ficha nueva con palabra cruzada.
+     */
+    private static int contarPalabras(RestriccionesTablero tablero, Jugada jugada) {
+        int palabras = 1;
+        for (int i = 0; i < jugada.codigos().length; i++) {
+            if (jugada.esNueva(i) && tablero.getSumaCruzada(jugada.filaDe(i), jugada.columnaDe(i), jugada.vertical()) >= 0) {
+                palabras++;
+            }
+        }
+        return palabras;
+    }
+}
@@ -0,0 +1,371 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * La clase TrieLouds lee un diccionario compilado por {@link CompiladorLexico}: un trie sucinto codificado
+ * en LOUDS (Level-Order Unary Degree Sequence) que se mapea en memoria directamente desde el archivo.
+ * <p>
+ * Abrir el archivo solo lee la cabecera y comprueba que el tamaño del archivo sea el que indica, por lo que
+ * la carga no depende del tamaño del diccionario, y como el mapeo es de solo lectura el sistema operativo
+ * comparte las paginas entre todas las JVM que lo abran. Un archivo truncado o con la cabecera dañada se
+ * rechaza al abrirlo; la suma de control del cuerpo, que recorre el archivo completo, la comprueba
+ * {@link CompiladorLexico} despues de escribirlo.
+ * <p>
+ * Formato (little endian, secciones alineadas a 8 bytes):
+ * <pre>
+ * cabecera   magico, version, nodos, palabras, crc32 del cuerpo, tamaño del alfabeto, cantidad de grafias
+ * alfabeto   un char por simbolo (codigos de {@link AlfabetoFichas}); la etiqueta de un arco es el indice del simbolo
+ * louds      "10" y luego, por cada nodo en orden de anchura, un 1 por hijo seguido de un 0
+ * rangos     cantidad de unos antes de cada bloque de 512 bits de louds
+ * finales    un bit por nodo que indica si termina una palabra
+ * etiquetas  un byte por nodo distinto de la raiz: la etiqueta del arco que llega a el
+ * grafias    desplazamientos y texto UTF-8 de las entradas "plegada\tgrafia,grafia" ordenadas
+ * </pre>
+ */
+public class TrieLouds implements Automata {
+
+    /**
+     * Numero magico que identifica el archivo ("SCLX").
+     */
+    static final int MAGICO = 0x53434C58;
+
+    /**
+     * Version del formato del archivo.
+     */
+    static final int VERSION = 2;
+
+    /**
+     * Tamaño de la cabecera en bytes.
+     */
+    static final int CABECERA = 32;
+
+    /**
+     * Cantidad de bits de cada bloque del directorio de rangos.
+     */
+    static final int BITS_BLOQUE = 512;
+
+    /**
+     * Contenido del archivo mapeado en memoria.
+     */
+    private final ByteBuffer datos;
+
+    /**
+     * Cantidad de nodos del trie.
+     */
+    private final int cantidadNodos;
+
+    /**
+     * Cantidad de palabras del trie.
+     */
+    private final int cantidadPalabras;
+
+    /**
+     * Simbolos del alfabeto, en el orden de sus codigos.
+     */
+    private final char[] alfabeto;
+
+    /**
+     * Codigo de cada caracter, o -1 si el caracter no esta en el alfabeto.
+     */
+    private final int[] codigos = new int[Character.MAX_VALUE + 1];
+
+    /**
+     * Cantidad de grafias guardadas.
+     */
+    private final int cantidadGrafias;
+
+    /**
+     * Desplazamientos de cada seccion dentro del archivo.
+     */
+    private final int inicioLouds, inicioRangos, inicioFinales, inicioEtiquetas, inicioGrafias, inicioTextoGrafias;
+
+    /**
+     * Cantidad de palabras de 64 bits de la secuencia LOUDS.
+     */
+    private final int palabrasLouds;
+
+    /**
+     * Abre un diccionario compilado, mapeandolo en memoria en modo de solo lectura.
+     *
+     * @param archivo la ruta del archivo compilado.
+     * @return el trie listo para consultar.
+     * @throws IOException si el archivo no se puede leer o no tiene el formato esperado.
+     */
+    public static TrieLouds abrir(Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            return new TrieLouds(mapa);
+        }
+    }
+
+    /**
+     * Constructor que interpreta la cabecera, calcula la posicion de cada seccion y comprueba que el
+     * contenido tenga exactamente el tamaño que resulta de ellas.
+     *
+     * @param datos el contenido completo del archivo.
+     * @throws IOException si la cabecera no corresponde a un diccionario compilado de esta version o el
+     *                     contenido no tiene el tamaño que indica la cabecera.
+     */
+    public TrieLouds(ByteBuffer datos) throws IOException {
+        this.datos = datos.order(ByteOrder.LITTLE_ENDIAN);
+        if (datos.capacity() < CABECERA || datos.getInt(0) != MAGICO) {
+            throw new IOException("El archivo no es un diccionario compilado");
+        }
+        if (datos.getInt(4) != VERSION) {
+            throw new IOException("Version de diccionario no soportada: " + datos.getInt(4));
+        }
+        this.cantidadNodos = datos.getInt(8);
+        this.cantidadPalabras = datos.getInt(12);
+        int tamañoAlfabeto = datos.getInt(24);
+        this.cantidadGrafias = datos.getInt(28);
+        // Cada nodo, simbolo y grafia ocupa al menos un byte: una cantidad mayor que el archivo es una cabecera dañada.
+        if (cantidadNodos < 1 || cantidadNodos > datos.capacity() || tamañoAlfabeto < 0 || cantidadGrafias < 0
+                || CABECERA + 2L * tamañoAlfabeto > datos.capacity() || cantidadGrafias > datos.capacity()) {
+            throw new IOException("La cabecera del diccionario compilado esta dañada");
+        }
+
+        this.alfabeto = new char[tamañoAlfabeto];
+        Arrays.fill(codigos, -1);
+        for (int i = 0; i < tamañoAlfabeto; i++) {
+            alfabeto[i] = datos.getChar(CABECERA + 2 * i);
+            codigos[alfabeto[i]] = i;
+        }
+
+        Secciones secciones = new Secciones(cantidadNodos, tamañoAlfabeto);
+        this.palabrasLouds = secciones.palabrasLouds;
+        this.inicioLouds = secciones.inicioLouds;
+        this.inicioRangos = secciones.inicioRangos;
+        this.inicioFinales = secciones.inicioFinales;
+        this.inicioEtiquetas = secciones.inicioEtiquetas;
+        this.inicioGrafias = secciones.inicioGrafias;
+        this.inicioTextoGrafias = inicioGrafias + 4 * (cantidadGrafias + 1);
+        if (datos.capacity() < inicioTextoGrafias) {
+            throw new IOException("El diccionario compilado esta truncado");
+        }
+        // El ultimo desplazamiento de las grafias es el largo de su texto, la ultima seccion del archivo.
+        int tamañoTexto = datos.getInt(inicioGrafias + 4 * cantidadGrafias);
+        if (tamañoTexto < 0 || (long) inicioTextoGrafias + tamañoTexto != datos.capacity()) {
+            throw new IOException("El diccionario compilado esta truncado o tiene un tamaño distinto al de su cabecera");
+        }
+    }
+
+    /**
+     * Verifica la suma de control del cuerpo del archivo. Recorre el archivo completo, por lo que no se
+     * hace al abrirlo: la usa {@link CompiladorLexico} para comprobar el archivo que acaba de escribir.
+     *
+     * @return {@code true} si la suma de control coincide, {@code false} si el archivo esta dañado.
+     */
+    public boolean verificarSumaControl() {
+        CRC32 crc = new CRC32();
+        crc.update(datos.duplicate().position(CABECERA));
+        return crc.getValue() == datos.getLong(16);
+    }
+
+    @Override
+    public boolean contiene(CharSequence palabra) {
+        int nodo = 0;
+        for (int i = 0; i < palabra.length(); i++) {
+            int codigo = codigos[palabra.charAt(i)];
+            if (codigo < 0) {
+                return false;
+            }
+            nodo = hijo(nodo, codigo);
+            if (nodo < 0) {
+                return false;
+            }
+        }
+        return esFinal(nodo);
+    }
+
+    @Override
+    public boolean contiene(byte[] fichas) {
+        int nodo = 0;
+        for (byte ficha : fichas) {
+            int codigo = codigos[ficha & AlfabetoFichas.MASCARA_LETRA];
+            if (codigo < 0) {
+                return false;
+            }
+            nodo = hijo(nodo, codigo);
+            if (nodo < 0) {
+                return false;
+            }
+        }
+        return esFinal(nodo);
+    }
+
+    @Override
+    public int getCantidadPalabras() {
+        return cantidadPalabras;
+    }
+
+    /**
+     * Obtiene la cantidad de nodos del trie.
+     *
+     * @return la cantidad de nodos.
+     */
+    public int getCantidadNodos() {
+        return cantidadNodos;
+    }
+
+    /**
+     * Busca las grafias con tilde o dieresis de una forma plegada.
+     *
+     * @param plegada la forma plegada a buscar.
+     * @return las grafias guardadas, o {@code null} si la forma no tiene grafias distintas a la plegada.
+     */
+    public String[] buscarGrafias(String plegada) {
+        int bajo = 0;
+        int alto = cantidadGrafias - 1;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            String entrada = leerGrafia(medio);
+            int tab = entrada.indexOf('\t');
+            int comparacion = entrada.substring(0, tab).compareTo(plegada);
+            if (comparacion < 0) {
+                bajo = medio + 1;
+            } else if (comparacion > 0) {
+                alto = medio - 1;
+            } else {
+                return entrada.substring(tab + 1).split(",");
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Busca el hijo de un nodo por el codigo de su etiqueta, con busqueda binaria entre sus hijos.
+     *
+     * @return el nodo hijo, o -1 si no existe.
+     */
+    private int hijo(int nodo, int codigo) {
+        int inicio = select0(nodo + 1) + 1;
+        int fin = select0(nodo + 2);
+        if (inicio >= fin) {
+            return -1;
+        }
+        int primerHijo = rank1(inicio) - 1;
+        int bajo = primerHijo;
+        int alto = primerHijo + (fin - inicio) - 1;
+        while (bajo <= alto) {
+            int medio = (bajo + alto) >>> 1;
+            int etiqueta = datos.get(inicioEtiquetas + medio - 1) & 0xFF;
+            if (etiqueta < codigo) {
+                bajo = medio + 1;
+            } else if (etiqueta > codigo) {
+                alto = medio - 1;
+            } else {
+                return medio;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Indica si un nodo termina una palabra.
+     */
+    private boolean esFinal(int nodo) {
+        long palabra = datos.getLong(inicioFinales + 8 * (nodo >>> 6));
+        return (palabra & (1L << nodo)) != 0;
+    }
+
+    /**
+     * Cuenta los unos de la secuencia LOUDS en las posiciones 0 a {@code posicion}, inclusive.
+     */
+    private int rank1(int posicion) {
+        int bloque = posicion / BITS_BLOQUE;
+        int cuenta = datos.getInt(inicioRangos + 4 * bloque);
+        int palabra = bloque * (BITS_BLOQUE / 64);
+        int ultima = posicion >>> 6;
+        for (; palabra < ultima; palabra++) {
+            cuenta += Long.bitCount(louds(palabra));
+        }
+        long mascara = (posicion & 63) == 63 ? -1L : (1L << ((posicion & 63) + 1)) - 1;
+        return cuenta + Long.bitCount(louds(ultima) & mascara);
+    }
+
+    /**
+     * Obtiene la posicion del {@code j}-esimo cero de la secuencia LOUDS (contando desde 1).
+     * Busca el bloque con el directorio de rangos y luego recorre sus palabras.
+     */
+    private int select0(int j) {
+        int bloques = (palabrasLouds + BITS_BLOQUE / 64 - 1) / (BITS_BLOQUE / 64);
+        int bajo = 0;
+        int alto = bloques - 1;
+        while (bajo < alto) {
+            int medio = (bajo + alto + 1) >>> 1;
+            int cerosAntes = medio * BITS_BLOQUE - datos.getInt(inicioRangos + 4 * medio);
+            if (cerosAntes < j) {
+                bajo = medio;
+            } else {
+                alto = medio - 1;
+            }
+        }
+        int restantes = j - (bajo * BITS_BLOQUE - datos.getInt(inicioRangos + 4 * bajo));
+        for (int palabra = bajo * (BITS_BLOQUE / 64); palabra < palabrasLouds; palabra++) {
+            long ceros = ~louds(palabra);
+            int cantidad = Long.bitCount(ceros);
+            if (cantidad >= restantes) {
+                for (int i = 1; i < restantes; i++) {
+                    ceros &= ceros - 1;
+                }
+                return palabra * 64 + Long.numberOfTrailingZeros(ceros);
+            }
+            restantes -= cantidad;
+        }
+        return palabrasLouds * 64;
+    }
+
+    /**
+     * Lee una palabra de 64 bits de la secuencia LOUDS.
+     */
+    private long louds(int palabra) {
+        return datos.getLong(inicioLouds + 8 * palabra);
+    }
+
+    /**
+     * Lee la entrada de grafias con el indice dado.
+     */
+    private String leerGrafia(int indice) {
+        int desde = datos.getInt(inicioGrafias + 4 * indice);
+        int hasta = datos.getInt(inicioGrafias + 4 * (indice + 1));
+        byte[] bytes = new byte[hasta - desde];
+        datos.get(inicioTextoGrafias + desde, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Calcula la posicion de cada seccion del archivo a partir de la cantidad de nodos y el tamaño del alfabeto.
+     * La usan tanto el lector como {@link CompiladorLexico}.
+     */
+    static final class Secciones {
+        final int palabrasLouds;
+        final int inicioLouds;
+        final int inicioRangos;
+        final int inicioFinales;
+        final int inicioEtiquetas;
+        final int inicioGrafias;
+
+        Secciones(int cantidadNodos, int tamañoAlfabeto) {
+            long bitsLouds = 2L * cantidadNodos + 1;
+            palabrasLouds = (int) ((bitsLouds + 63) / 64);
+            int bloques = (palabrasLouds + BITS_BLOQUE / 64 - 1) / (BITS_BLOQUE / 64);
+            inicioLouds = alinear(CABECERA + 2 * tamañoAlfabeto);
+            inicioRangos = inicioLouds + 8 * palabrasLouds;
+            inicioFinales = alinear(inicioRangos + 4 * bloques);
+            inicioEtiquetas = inicioFinales + 8 * ((cantidadNodos + 63) / 64);
+            inicioGrafias = alinear(inicioEtiquetas + Math.max(0, cantidadNodos - 1));
+        }
+
+        private static int alinear(int posicion) {
+            return (posicion + 7) & ~7;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * El enum Veredicto representa el resultado de verificar una palabra.
+ */
+public enum Veredicto {
+    /**
+     * La palabra existe en el diccionario.
+     */
+    VALIDA,
+
+    /**
+     * La palabra no existe en el diccionario.
+     */
+    INVALIDA,
+
+    /**
+     * No se pudo confirmar la palabra (sin conexion o con el circuito abierto); se puede reintentar mas tarde.
+     */
+    PENDIENTE;
+
+    /**
+     * Combina los veredictos de varias variantes de una misma palabra: basta una variante valida,
+     * y solo se considera invalida si todas las variantes fueron rechazadas.
+     *
+     * @param otro el veredicto de otra variante.
+     * @return el veredicto combinado.
+     */
+    public Veredicto combinar(Veredicto otro) {
+        if (this == VALIDA || otro == VALIDA) {
+            return VALIDA;
+        }
+        if (this == PENDIENTE || otro == PENDIENTE) {
+            return PENDIENTE;
+        }
+        return INVALIDA;
+    }
+}